@@ -0,0 +1,79 @@
+package org.ikigaidigital.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ikigaidigital.adapter.in.web.dto.TimeDepositResponse;
+import org.ikigaidigital.adapter.in.web.dto.WithdrawalResponse;
+import org.ikigaidigital.benchmark.Portfolio;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of a {@link TimeDepositResponse} list, as returned by {@code GET /api/time-deposits},
+ * with an {@link ObjectMapper} configured like Spring Boot's. Output goes to a counting sink so the
+ * measurement excludes buffer growth.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    public int deposits;
+
+    @Param({Portfolio.UNIFORM})
+    public String mix;
+
+    private ObjectMapper objectMapper;
+    private List<TimeDepositResponse> responses;
+
+    @Setup
+    public void createResponses() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        responses = Portfolio.generate(deposits, mix, 9).stream()
+                .map(d -> new TimeDepositResponse(d.getId(), d.getPlanType(), d.getBalance(), d.getDays(),
+                        d.getWithdrawals().stream()
+                                .map(w -> new WithdrawalResponse(w.getId(), w.getTimeDepositId(), w.getAmount(), w.getDate()))
+                                .toList()))
+                .toList();
+    }
+
+    @Benchmark
+    public long writeList() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        objectMapper.writeValue(out, responses);
+        return out.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
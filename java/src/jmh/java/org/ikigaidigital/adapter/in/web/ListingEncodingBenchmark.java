@@ -0,0 +1,78 @@
+package org.ikigaidigital.adapter.in.web;
+
+import org.ikigaidigital.adapter.in.web.dto.TimeDepositResponse;
+import org.ikigaidigital.adapter.in.web.dto.WithdrawalResponse;
+import org.ikigaidigital.benchmark.Portfolio;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of rendering a {@code GET /api/time-deposits} listing in every {@link ListingFormat} and
+ * compressing it with every {@link ContentCoding}, as a cache miss does. {@link PayloadSize} reports
+ * the size of each combination next to its time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ListingEncodingBenchmark {
+
+    @Param({"10000", "100000"})
+    public int deposits;
+
+    @Param({"JSON", "CBOR", "SMILE", "PROTOBUF"})
+    public ListingFormat format;
+
+    @Param({"IDENTITY", "GZIP", "ZSTD"})
+    public ContentCoding coding;
+
+    private TimeDepositListingWriter writer;
+    private List<TimeDepositResponse> responses;
+
+    @Setup
+    public void createResponses() {
+        writer = new TimeDepositListingWriter(Jackson2ObjectMapperBuilder.json().build(), true, DataSize.ofBytes(0));
+        responses = Portfolio.generate(deposits, Portfolio.UNIFORM, 9).stream()
+                .map(d -> new TimeDepositResponse(d.getId(), d.getPlanType(), d.getBalance(), d.getDays(),
+                        d.getWithdrawals().stream()
+                                .map(w -> new WithdrawalResponse(w.getId(), w.getTimeDepositId(), w.getAmount(),
+                                        w.getDate()))
+                                .toList()))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] render(PayloadSize size) {
+        byte[] body = writer.write(responses, format);
+        byte[] encoded = coding.encode(body);
+        size.bytes = encoded.length;
+        size.uncompressedBytes = body.length;
+        return encoded;
+    }
+
+    /** Size of the last rendered payload, as sent and before compression. */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class PayloadSize {
+
+        public long bytes;
+        public long uncompressedBytes;
+    }
+}
@@ -0,0 +1,161 @@
+package org.ikigaidigital.adapter.in.web;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.luben.zstd.ZstdInputStream;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import org.ikigaidigital.TimeDepositApplication;
+import org.ikigaidigital.adapter.in.web.dto.TimeDepositResponse;
+import org.ikigaidigital.benchmark.Portfolio;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.port.out.TimeDepositRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Latency of {@code GET /api/time-deposits} as seen by a Java client over loopback HTTP: request,
+ * transfer, decompression and parsing of every deposit, against a running application on an in-memory
+ * H2 database. With {@code cached} the listing is served from the response cache, as in steady state;
+ * without it every request reads the deposits and renders them again.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ListingEndToEndBenchmark {
+
+    private static final TypeReference<List<TimeDepositResponse>> LISTING = new TypeReference<>() {
+    };
+    private static final int WITHDRAWALS = 5;
+
+    @Param({"10000"})
+    public int deposits;
+
+    @Param({"JSON", "CBOR", "SMILE", "PROTOBUF"})
+    public ListingFormat format;
+
+    @Param({"IDENTITY", "GZIP", "ZSTD"})
+    public ContentCoding coding;
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void startApplication() {
+        context = new SpringApplicationBuilder(TimeDepositApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:listing-benchmark",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.sql.init.mode=never",
+                        "--server.compression.min-response-size=0",
+                        "--time-deposit.api.response-cache.max-bytes=" + (cached ? Integer.MAX_VALUE : 0));
+        TimeDepositRepository repository = context.getBean(TimeDepositRepository.class);
+        List<TimeDeposit> portfolio = Portfolio.generate(deposits, Portfolio.UNIFORM, 9);
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        for (int start = 0; start < portfolio.size(); start += 5000) {
+            List<TimeDeposit> chunk = portfolio.subList(start, Math.min(start + 5000, portfolio.size()));
+            transactionTemplate.executeWithoutResult(status -> repository.insertAll(chunk));
+        }
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        mapper = switch (format) {
+            case CBOR -> objectMapper.copyWith(new CBORFactory());
+            case SMILE -> objectMapper.copyWith(new SmileFactory());
+            default -> objectMapper;
+        };
+        client = HttpClient.newHttpClient();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/time-deposits"))
+                .header(HttpHeaders.ACCEPT, format.getMediaType().toString())
+                .header(HttpHeaders.ACCEPT_ENCODING, coding.getToken())
+                .build();
+    }
+
+    @TearDown
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getAll() throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = decompress(response)) {
+            if (format == ListingFormat.PROTOBUF) {
+                return countMessages(CodedInputStream.newInstance(body));
+            }
+            return mapper.readValue(body, LISTING).size();
+        }
+    }
+
+    private static InputStream decompress(HttpResponse<InputStream> response) throws IOException {
+        String encoding = response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse("identity");
+        return switch (encoding) {
+            case "gzip" -> new GZIPInputStream(response.body(), 65536);
+            case "zstd" -> new ZstdInputStream(response.body());
+            default -> response.body();
+        };
+    }
+
+    /**
+     * Reads every field of every deposit and withdrawal, which is what a generated parser does too.
+     */
+    private static int countMessages(CodedInputStream in) throws IOException {
+        int deposits = 0;
+        while (!in.isAtEnd()) {
+            in.readTag();
+            readMessage(in);
+            deposits++;
+        }
+        return deposits;
+    }
+
+    private static void readMessage(CodedInputStream in) throws IOException {
+        int limit = in.pushLimit(in.readRawVarint32());
+        while (!in.isAtEnd()) {
+            int tag = in.readTag();
+            if (WireFormat.getTagWireType(tag) != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                in.readInt64();
+            } else if (WireFormat.getTagFieldNumber(tag) == WITHDRAWALS) {
+                readMessage(in);
+            } else {
+                in.readString();
+            }
+        }
+        in.popLimit(limit);
+    }
+}
@@ -0,0 +1,77 @@
+package org.ikigaidigital.adapter.out.persistence;
+
+import org.h2.tools.SimpleResultSet;
+import org.ikigaidigital.benchmark.Portfolio;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of {@link TimeDepositPersistenceAdapter} over whole books, without a database: the JDBC row
+ * mapper its reads use, over an in-memory result set, and the domain-to-entity mapping of its saves.
+ * Lives in the adapter's package to reach the package-private mappers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class PersistenceMappingBenchmark {
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    public int deposits;
+
+    @Param({Portfolio.UNIFORM})
+    public String mix;
+
+    private TimeDepositPersistenceAdapter adapter;
+    private List<TimeDeposit> book;
+    private SimpleResultSet rows;
+
+    @Setup
+    public void createBook() {
+        adapter = new TimeDepositPersistenceAdapter(null, null, 1);
+        book = Portfolio.generate(deposits, mix, 7);
+        rows = new SimpleResultSet();
+        rows.setAutoClose(false);
+        rows.addColumn("id", Types.INTEGER, 10, 0);
+        rows.addColumn("plan_type", Types.VARCHAR, 255, 0);
+        rows.addColumn("days", Types.INTEGER, 10, 0);
+        rows.addColumn("balance", Types.DECIMAL, 19, 2);
+        for (TimeDeposit deposit : book) {
+            rows.addRow(deposit.getId(), deposit.getPlanType(), deposit.getDays(), deposit.getBalance());
+        }
+    }
+
+    @Benchmark
+    public void mapRows(Blackhole blackhole) throws SQLException {
+        rows.beforeFirst();
+        int rowNum = 0;
+        while (rows.next()) {
+            blackhole.consume(TimeDepositPersistenceAdapter.DEPOSIT_ROW.mapRow(rows, rowNum++));
+        }
+    }
+
+    @Benchmark
+    public void toEntity(Blackhole blackhole) {
+        for (TimeDeposit deposit : book) {
+            blackhole.consume(adapter.toEntity(deposit));
+        }
+    }
+}
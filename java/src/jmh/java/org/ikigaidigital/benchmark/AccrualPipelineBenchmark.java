@@ -0,0 +1,201 @@
+package org.ikigaidigital.benchmark;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.ikigaidigital.TimeDepositApplication;
+import org.ikigaidigital.domain.model.AccrualProgress;
+import org.ikigaidigital.domain.port.in.UpdateBalancesUseCase;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * One monthly run of the chunked accrual pipeline, {@link UpdateBalancesUseCase#updateBalances} as wired
+ * by the application, over books of growing size. The application runs without a web server against a
+ * file-backed H2 database with a bounded page cache, and the book is seeded by SQL, so the benchmark JVM
+ * holds no per-deposit state of its own. Next to the run time and {@code -prof gc} allocation,
+ * {@link LiveHeap} reports the peak live heap of the run. Time and allocation grow linearly with the
+ * book; the live heap stays flat, and every size runs in the same small heap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Timeout(time = 30, timeUnit = TimeUnit.MINUTES)
+@Fork(value = 1, jvmArgsAppend = {"-Xms128m", "-Xmx128m", "-Xmn8m", "-XX:+UseSerialGC"})
+@State(Scope.Benchmark)
+public class AccrualPipelineBenchmark {
+
+    private static final int SEED_SLICE = 100_000;
+    private static final YearMonth FIRST_PERIOD = YearMonth.of(2024, 1);
+
+    @Param({"10000", "100000", "1000000", "5000000"})
+    public int deposits;
+
+    @Param({"1000"})
+    public int chunkSize;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbc;
+    private UpdateBalancesUseCase updateBalancesUseCase;
+    private YearMonth period;
+
+    @Setup(Level.Trial)
+    public void createBook() throws IOException {
+        directory = Files.createTempDirectory("accrual-pipeline-benchmark");
+        context = new SpringApplicationBuilder(TimeDepositApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:file:" + directory.resolve("book") + ";CACHE_SIZE=16384",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.root=WARN",
+                        "--time-deposit.accrual.chunk-size=" + chunkSize);
+        jdbc = context.getBean(JdbcTemplate.class);
+        // Replaces the demo rows of data.sql
+        jdbc.update("DELETE FROM withdrawals");
+        jdbc.update("DELETE FROM time_deposits");
+        for (int from = 1; from <= deposits; from += SEED_SLICE) {
+            jdbc.update("INSERT INTO time_deposits (id, plan_type, days, balance) SELECT X, "
+                    + "CASE MOD(X, 3) WHEN 0 THEN 'basic' WHEN 1 THEN 'student' ELSE 'premium' END, "
+                    + "MOD(X * 7, 500), MOD(X * 7919, 100000000) * 0.01 FROM SYSTEM_RANGE(?, ?)",
+                    from, Math.min(from + SEED_SLICE - 1, deposits));
+        }
+        updateBalancesUseCase = context.getBean(UpdateBalancesUseCase.class);
+        period = FIRST_PERIOD;
+    }
+
+    /** Each invocation accrues the next month, so every run credits the whole book again. */
+    @Benchmark
+    public void updateBalances(LiveHeap liveHeap) {
+        period = period.plusMonths(1);
+        updateBalancesUseCase.updateBalances(period, AccrualProgress.NONE);
+    }
+
+    /** Keeps the journal and the outbox from growing the database across iterations. */
+    @TearDown(Level.Iteration)
+    public void truncateJournal() {
+        jdbc.execute("TRUNCATE TABLE interest_postings");
+        jdbc.execute("TRUNCATE TABLE balance_changes");
+    }
+
+    @TearDown(Level.Trial)
+    public void dropBook() throws IOException {
+        context.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Largest heap occupancy left by a major collection during the iteration, summed over the heap pools.
+     * Only a major collection frees the old generation, so only then is the heap in use the live set;
+     * after a minor one, or in a sampled heap usage, it also counts garbage not yet collected. Each
+     * iteration starts with a full collection, so even a book too small to fill the old generation
+     * yields one sample; the small fixed heap of the fork gives larger books several more.
+     * {@link #collections()} is how many samples the peak was taken from.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class LiveHeap implements NotificationListener {
+
+        private static final String MAJOR_GC = "end of major GC";
+
+        private final AtomicLong peakBytes = new AtomicLong();
+        private final AtomicLong collections = new AtomicLong();
+        private Set<String> heapPools;
+
+        @Setup(Level.Trial)
+        public void listen() {
+            heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .map(MemoryPoolMXBean::getName)
+                    .collect(Collectors.toSet());
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                ((NotificationEmitter) collector).addNotificationListener(this, null, null);
+            }
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            peakBytes.set(0);
+            collections.set(0);
+            System.gc();
+        }
+
+        @TearDown(Level.Trial)
+        public void stopListening() throws ListenerNotFoundException {
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                ((NotificationEmitter) collector).removeNotificationListener(this);
+            }
+        }
+
+        @Override
+        public void handleNotification(Notification notification, Object handback) {
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            if (!MAJOR_GC.equals(info.getGcAction())) {
+                return;
+            }
+            long used = 0;
+            for (Map.Entry<String, MemoryUsage> pool : info.getGcInfo().getMemoryUsageAfterGc().entrySet()) {
+                if (heapPools.contains(pool.getKey())) {
+                    used += pool.getValue().getUsed();
+                }
+            }
+            peakBytes.accumulateAndGet(used, Math::max);
+            collections.incrementAndGet();
+        }
+
+        public double peakLiveHeapMb() {
+            return peakBytes.get() / (1024.0 * 1024.0);
+        }
+
+        public long collections() {
+            return collections.get();
+        }
+    }
+}
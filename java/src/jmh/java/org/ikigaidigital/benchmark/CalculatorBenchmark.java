@@ -0,0 +1,90 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.service.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.ikigaidigital.domain.service.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.StudentInterestStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential {@link TimeDepositCalculator#updateBalance} over whole books, through both the
+ * {@link TimeDeposit} list path and the columnar {@link DepositBatch} path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class CalculatorBenchmark {
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    public int deposits;
+
+    @Param({Portfolio.UNIFORM, Portfolio.BASIC_HEAVY, Portfolio.PREMIUM_HEAVY})
+    public String mix;
+
+    private TimeDepositCalculator calculator;
+    private List<TimeDeposit> book;
+    private BigDecimal[] openingBalances;
+    private long[] openingCents;
+    private DepositBatch batch;
+
+    @Setup(Level.Trial)
+    public void createBook() {
+        InterestStrategyFactory factory = new InterestStrategyFactory(List.of(
+                new BasicInterestStrategy(),
+                new StudentInterestStrategy(),
+                new PremiumInterestStrategy()
+        ));
+        calculator = new TimeDepositCalculator(factory);
+        book = Portfolio.generate(deposits, mix, 1);
+        openingBalances = new BigDecimal[deposits];
+        openingCents = new long[deposits];
+        for (int i = 0; i < deposits; i++) {
+            openingBalances[i] = book.get(i).getBalance();
+            openingCents[i] = openingBalances[i].unscaledValue().longValueExact();
+        }
+        batch = new DepositBatch(deposits, factory.getPlanCodes());
+    }
+
+    @Setup(Level.Invocation)
+    public void resetBalances() {
+        batch.clear();
+        for (int i = 0; i < deposits; i++) {
+            TimeDeposit deposit = book.get(i);
+            deposit.setBalance(openingBalances[i]);
+            batch.add(deposit.getId(), deposit.getPlanType(), deposit.getDays(), openingCents[i]);
+        }
+    }
+
+    @Benchmark
+    public List<TimeDeposit> updateBalanceList() {
+        calculator.updateBalance(book);
+        return book;
+    }
+
+    @Benchmark
+    public DepositBatch updateBalanceBatch() {
+        calculator.updateBalance(batch);
+        return batch;
+    }
+}
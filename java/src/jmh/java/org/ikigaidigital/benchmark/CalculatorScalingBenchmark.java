@@ -0,0 +1,89 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.service.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.ikigaidigital.domain.service.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.StudentInterestStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of {@link TimeDepositCalculator#updateBalance} over 1..N worker threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CalculatorScalingBenchmark {
+
+    private static final String[] PLAN_TYPES = {"basic", "student", "premium"};
+
+    @Param({"1000000"})
+    public int deposits;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param({"2048"})
+    public int splitThreshold;
+
+    private TimeDepositCalculator calculator;
+    private List<TimeDeposit> book;
+    private BigDecimal[] openingBalances;
+
+    @Setup(Level.Trial)
+    public void createBook() {
+        InterestStrategyFactory factory = new InterestStrategyFactory(List.of(
+                new BasicInterestStrategy(),
+                new StudentInterestStrategy(),
+                new PremiumInterestStrategy()
+        ));
+        calculator = new TimeDepositCalculator(factory, parallelism, splitThreshold);
+        Random random = new Random(1);
+        book = new ArrayList<>(deposits);
+        openingBalances = new BigDecimal[deposits];
+        for (int i = 0; i < deposits; i++) {
+            openingBalances[i] = BigDecimal.valueOf(random.nextInt(100_000_000), 2);
+            book.add(new TimeDeposit(i, PLAN_TYPES[i % PLAN_TYPES.length], random.nextInt(500), openingBalances[i]));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void resetBalances() {
+        for (int i = 0; i < deposits; i++) {
+            book.get(i).setBalance(openingBalances[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        calculator.shutdown();
+    }
+
+    @Benchmark
+    public List<TimeDeposit> updateBalance() {
+        calculator.updateBalance(book);
+        return book;
+    }
+}
@@ -0,0 +1,73 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.service.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.InterestStrategy;
+import org.ikigaidigital.domain.service.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.StudentInterestStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of the {@link BigDecimal} interest path against the {@code long} cents kernel.
+ * Run with {@code -prof gc} to compare {@code gc.alloc.rate.norm} per deposit.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InterestKernelBenchmark {
+
+    private static final int DEPOSITS = 4096;
+
+    private final InterestStrategy[] strategies = new InterestStrategy[DEPOSITS];
+    private final TimeDeposit[] deposits = new TimeDeposit[DEPOSITS];
+    private final long[] balanceCents = new long[DEPOSITS];
+    private final int[] days = new int[DEPOSITS];
+
+    @Setup
+    public void createDeposits() {
+        InterestStrategy[] plans = {new BasicInterestStrategy(), new StudentInterestStrategy(), new PremiumInterestStrategy()};
+        Random random = new Random(5);
+        for (int i = 0; i < DEPOSITS; i++) {
+            strategies[i] = plans[i % plans.length];
+            balanceCents[i] = random.nextInt(100_000_000);
+            days[i] = random.nextInt(500);
+            deposits[i] = new TimeDeposit(i, strategies[i].getPlanType(), days[i], BigDecimal.valueOf(balanceCents[i], 2));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEPOSITS)
+    public void bigDecimal(Blackhole blackhole) {
+        for (int i = 0; i < DEPOSITS; i++) {
+            BigDecimal interest = strategies[i].calculateInterest(deposits[i]);
+            blackhole.consume(deposits[i].getBalance().add(interest.setScale(2, RoundingMode.HALF_UP)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEPOSITS)
+    public void fixedPointCents(Blackhole blackhole) {
+        for (int i = 0; i < DEPOSITS; i++) {
+            blackhole.consume(balanceCents[i] + strategies[i].calculateInterestCents(balanceCents[i], days[i]));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.service.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.InterestStrategy;
+import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.ikigaidigital.domain.service.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.StudentInterestStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-deposit cost of each {@link InterestStrategy} on its own, applied to every deposit of a book
+ * whatever its own plan so all tiers are exercised.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InterestStrategyBenchmark {
+
+    private static final int DEPOSITS = 10_000;
+
+    @Param({"basic", "student", "premium"})
+    public String planType;
+
+    @Param({Portfolio.UNIFORM, Portfolio.BASIC_HEAVY, Portfolio.PREMIUM_HEAVY})
+    public String mix;
+
+    private InterestStrategy strategy;
+    private TimeDeposit[] deposits;
+
+    @Setup
+    public void createBook() {
+        InterestStrategyFactory factory = new InterestStrategyFactory(List.of(
+                new BasicInterestStrategy(),
+                new StudentInterestStrategy(),
+                new PremiumInterestStrategy()
+        ));
+        strategy = factory.getStrategy(planType);
+        deposits = Portfolio.generate(DEPOSITS, mix, 3).toArray(new TimeDeposit[0]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEPOSITS)
+    public void calculateInterest(Blackhole blackhole) {
+        for (TimeDeposit deposit : deposits) {
+            blackhole.consume(strategy.calculateInterest(deposit));
+        }
+    }
+}
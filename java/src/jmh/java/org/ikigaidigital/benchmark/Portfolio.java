@@ -0,0 +1,63 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.Withdrawal;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic books shared by the benchmarks. A plan mix names the share of basic,
+ * student and premium deposits; days are spread over 0..499 so every tier of every plan is hit,
+ * and roughly one deposit in four carries a withdrawal.
+ */
+public final class Portfolio {
+
+    public static final String UNIFORM = "uniform";
+    public static final String BASIC_HEAVY = "basic-heavy";
+    public static final String PREMIUM_HEAVY = "premium-heavy";
+
+    private static final String[] PLAN_TYPES = {"basic", "student", "premium"};
+
+    private Portfolio() {
+    }
+
+    public static List<TimeDeposit> generate(int size, String mix, long seed) {
+        int[] weights = weightsOf(mix);
+        Random random = new Random(seed);
+        List<TimeDeposit> book = new ArrayList<>(size);
+        for (int id = 1; id <= size; id++) {
+            TimeDeposit deposit = new TimeDeposit(id, planType(weights, random.nextInt(100)), random.nextInt(500),
+                    BigDecimal.valueOf(random.nextInt(100_000_000), 2));
+            if (random.nextInt(4) == 0) {
+                deposit.getWithdrawals().add(new Withdrawal(id, id, BigDecimal.valueOf(random.nextInt(100_000), 2),
+                        LocalDate.of(2024, 1, 1).plusDays(random.nextInt(365))));
+            }
+            book.add(deposit);
+        }
+        return book;
+    }
+
+    private static String planType(int[] weights, int roll) {
+        int bound = 0;
+        for (int i = 0; i < weights.length; i++) {
+            bound += weights[i];
+            if (roll < bound) {
+                return PLAN_TYPES[i];
+            }
+        }
+        return PLAN_TYPES[PLAN_TYPES.length - 1];
+    }
+
+    private static int[] weightsOf(String mix) {
+        return switch (mix) {
+            case UNIFORM -> new int[]{34, 33, 33};
+            case BASIC_HEAVY -> new int[]{80, 10, 10};
+            case PREMIUM_HEAVY -> new int[]{10, 10, 80};
+            default -> throw new IllegalArgumentException("Unknown plan mix: " + mix);
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.TimeDepositCalculator;
+import org.ikigaidigital.adapter.out.snapshot.MappedPortfolioSnapshotStore;
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.PortfolioSnapshot;
+import org.ikigaidigital.domain.port.out.PortfolioSnapshotStore;
+import org.ikigaidigital.domain.service.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.ikigaidigital.domain.service.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.StudentInterestStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TimeDepositCalculator#projectTotals} of a 1M-deposit book over 1..N worker threads, from an
+ * on-heap batch and from a memory-mapped snapshot of the same book.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ProjectionBenchmark {
+
+    private static final String[] PLAN_TYPES = {"basic", "student", "premium"};
+
+    @Param({"1000000"})
+    public int deposits;
+
+    @Param({"12", "120"})
+    public int months;
+
+    @Param({"1", "4", "8"})
+    public int parallelism;
+
+    private TimeDepositCalculator calculator;
+    private DepositBatch book;
+    private Path snapshotFile;
+    private PortfolioSnapshot snapshot;
+
+    @Setup
+    public void createBook() throws IOException {
+        InterestStrategyFactory factory = new InterestStrategyFactory(List.of(
+                new BasicInterestStrategy(),
+                new StudentInterestStrategy(),
+                new PremiumInterestStrategy()
+        ));
+        calculator = new TimeDepositCalculator(factory, parallelism, 2048);
+        Random random = new Random(1);
+        book = new DepositBatch(deposits, factory.getPlanCodes());
+        for (int i = 0; i < deposits; i++) {
+            book.add(i, PLAN_TYPES[i % PLAN_TYPES.length], random.nextInt(500), random.nextInt(100_000_000));
+        }
+        snapshotFile = Files.createTempFile("projection-benchmark", ".snapshot");
+        MappedPortfolioSnapshotStore store = new MappedPortfolioSnapshotStore(snapshotFile);
+        try (PortfolioSnapshotStore.Writer writer = store.openWriter()) {
+            for (int i = 0; i < deposits; i++) {
+                writer.accept(book.id(i), book.planType(i), book.days(i), book.balanceCents(i), 0, 0);
+            }
+            writer.commit();
+        }
+        snapshot = store.open().orElseThrow();
+    }
+
+    @TearDown
+    public void shutdown() throws IOException {
+        calculator.shutdown();
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    @Benchmark
+    public long[] projectTotals() {
+        return calculator.projectTotals(book, months);
+    }
+
+    @Benchmark
+    public long[] projectSnapshotTotals() {
+        return calculator.projectTotals(snapshot, months);
+    }
+}
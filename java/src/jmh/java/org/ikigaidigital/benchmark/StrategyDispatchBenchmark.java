@@ -0,0 +1,83 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.service.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.InterestStrategy;
+import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.ikigaidigital.domain.service.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.StudentInterestStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link InterestStrategyFactory#getStrategy} lookup per deposit, against indexing the array of
+ * {@link InterestStrategyFactory#getStrategies} by the per-deposit plan code of the factory's own
+ * dictionary as the batch calculator does, over books with different plan mixes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StrategyDispatchBenchmark {
+
+    private static final int DEPOSITS = 10_000;
+
+    @Param({Portfolio.UNIFORM, Portfolio.BASIC_HEAVY, Portfolio.PREMIUM_HEAVY})
+    public String mix;
+
+    private InterestStrategyFactory factory;
+    private TimeDeposit[] deposits;
+    private byte[] planCodes;
+
+    @Setup
+    public void createBook() {
+        factory = new InterestStrategyFactory(List.of(
+                new BasicInterestStrategy(),
+                new StudentInterestStrategy(),
+                new PremiumInterestStrategy()
+        ));
+        deposits = Portfolio.generate(DEPOSITS, mix, 3).toArray(new TimeDeposit[0]);
+        DepositBatch batch = new DepositBatch(DEPOSITS, factory.getPlanCodes());
+        for (TimeDeposit deposit : deposits) {
+            batch.add(deposit.getId(), deposit.getPlanType(), deposit.getDays(), 0L);
+        }
+        planCodes = new byte[DEPOSITS];
+        for (int i = 0; i < DEPOSITS; i++) {
+            planCodes[i] = batch.planCode(i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEPOSITS)
+    public void getStrategy(Blackhole blackhole) {
+        for (TimeDeposit deposit : deposits) {
+            blackhole.consume(factory.getStrategy(deposit.getPlanType()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEPOSITS)
+    public void dispatchByPlanCode(Blackhole blackhole) {
+        InterestStrategy[] strategies = factory.getStrategies(factory.getPlanCodes());
+        for (byte code : planCodes) {
+            blackhole.consume(strategies[code]);
+        }
+    }
+}
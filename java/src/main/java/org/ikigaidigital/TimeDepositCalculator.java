@@ -1,31 +1,230 @@
 package org.ikigaidigital;
 
+import jakarta.annotation.PreDestroy;
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.DepositColumns;
 import org.ikigaidigital.domain.model.TimeDeposit;
 import org.ikigaidigital.domain.service.strategy.InterestStrategy;
 import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
 
 @Component
 public class TimeDepositCalculator {
 
+    static final int DEFAULT_SPLIT_THRESHOLD = 2048;
+    /** Days a deposit ages between two monthly runs in a projection. */
+    public static final int DAYS_PER_MONTH = 30;
+
     private final InterestStrategyFactory strategyFactory;
+    private final ForkJoinPool pool;
+    private final int splitThreshold;
 
     public TimeDepositCalculator(InterestStrategyFactory strategyFactory) {
+        this(strategyFactory, 1, DEFAULT_SPLIT_THRESHOLD);
+    }
+
+    /**
+     * @param parallelism    worker threads used for large batches; {@code 1} keeps the calculator
+     *                       sequential and {@code 0} uses every available core
+     * @param splitThreshold batches of at most this many deposits are processed by a single task
+     */
+    @Autowired
+    public TimeDepositCalculator(InterestStrategyFactory strategyFactory,
+                                 @Value("${time-deposit.calculator.parallelism:1}") int parallelism,
+                                 @Value("${time-deposit.calculator.split-threshold:" + DEFAULT_SPLIT_THRESHOLD + "}") int splitThreshold) {
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("Parallelism must not be negative: " + parallelism);
+        }
+        if (splitThreshold < 1) {
+            throw new IllegalArgumentException("Split threshold must be positive: " + splitThreshold);
+        }
+        int workers = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
         this.strategyFactory = strategyFactory;
+        this.pool = workers > 1 ? new ForkJoinPool(workers) : null;
+        this.splitThreshold = splitThreshold;
     }
 
+    /**
+     * Adds one month of interest to every deposit. Deposits are independent, so batches larger than
+     * the split threshold are divided across the fork-join pool; each balance is computed by the same
+     * code either way, so the parallel result is identical to the sequential one.
+     */
     public void updateBalance(List<TimeDeposit> xs) {
-        for (TimeDeposit x : xs) {
-            InterestStrategy strategy = strategyFactory.getStrategy(x.getPlanType());
-            BigDecimal interest = strategy.calculateInterest(x);
+        if (pool == null || xs.size() <= splitThreshold) {
+            for (TimeDeposit x : xs) {
+                applyInterest(x);
+            }
+            return;
+        }
+        List<TimeDeposit> indexed = xs instanceof RandomAccess ? xs : new ArrayList<>(xs);
+        pool.invoke(new RangeTask(0, indexed.size(), i -> applyInterest(indexed.get(i))));
+    }
+
+    /**
+     * Columnar counterpart of {@link #updateBalance(List)}: takes the strategies of one plan table as
+     * an array indexed by plan code, dispatches each deposit by its code without a string lookup, and
+     * credits it through
+     * {@link InterestStrategy#calculateInterestCents}, which is allocation-free for strategies that
+     * support fixed point.
+     */
+    public void updateBalance(DepositBatch batch) {
+        InterestStrategy[] strategies = strategyFactory.getStrategies(batch.planCodes());
+        IntConsumer credit = i -> batch.credit(i,
+                strategy(strategies, batch, i).calculateInterestCents(batch.balanceCents(i), batch.days(i)));
+        if (pool == null || batch.size() <= splitThreshold) {
+            for (int i = 0; i < batch.size(); i++) {
+                credit.accept(i);
+            }
+            return;
+        }
+        pool.invoke(new RangeTask(0, batch.size(), credit));
+    }
+
+    /**
+     * Projects every deposit of the batch {@code months} monthly runs ahead without changing the batch,
+     * crediting each month at the deposit's age that month and then ageing it by
+     * {@link #DAYS_PER_MONTH} days, so the first month matches the next real run and the deposit moves
+     * through the plan's eligibility thresholds as it would in reality. Each month starts from the
+     * previous month's balance, so one pass yields every horizon up to {@code months}. Returns the total
+     * balance in cents after each month, element {@code m - 1} holding the total after {@code m} months.
+     * Large batches are split across the fork-join pool, each task summing into its own array.
+     * Only reads the columns, so it runs as well over an off-heap source such as a mapped snapshot.
+     */
+    public long[] projectTotals(DepositColumns batch, int months) {
+        InterestStrategy[] strategies = strategyFactory.getStrategies(batch.planCodes());
+        ProjectionTask task = new ProjectionTask(batch, strategies, months, 0, batch.size());
+        return pool == null || batch.size() <= splitThreshold ? task.compute() : pool.invoke(task);
+    }
+
+    /**
+     * Per-deposit counterpart of {@link #projectTotals}: row {@code i} holds the balances in cents of
+     * deposit {@code i} of the batch after each month.
+     */
+    public long[][] projectTrajectories(DepositColumns batch, int months) {
+        InterestStrategy[] strategies = strategyFactory.getStrategies(batch.planCodes());
+        long[][] trajectories = new long[batch.size()][months];
+        IntConsumer project = i -> project(strategy(strategies, batch, i), batch.balanceCents(i), batch.days(i),
+                trajectories[i], false);
+        if (pool == null || batch.size() <= splitThreshold) {
+            for (int i = 0; i < batch.size(); i++) {
+                project.accept(i);
+            }
+        } else {
+            pool.invoke(new RangeTask(0, batch.size(), project));
+        }
+        return trajectories;
+    }
+
+    private static InterestStrategy strategy(InterestStrategy[] strategies, DepositColumns batch, int index) {
+        InterestStrategy strategy = strategies[batch.planCode(index)];
+        if (strategy == null) {
+            throw new IllegalArgumentException("No interest strategy found for plan type: "
+                    + batch.planCodes().planType(batch.planCode(index)));
+        }
+        return strategy;
+    }
+
+    /**
+     * Writes, or adds when {@code accumulate} is set, the balance after each month to {@code balances}.
+     */
+    private static void project(InterestStrategy strategy, long balanceCents, int days, long[] balances,
+                                boolean accumulate) {
+        long balance = balanceCents;
+        int age = days;
+        for (int month = 0; month < balances.length; month++) {
+            balance += strategy.calculateInterestCents(balance, age);
+            balances[month] = accumulate ? balances[month] + balance : balance;
+            age += DAYS_PER_MONTH;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private void applyInterest(TimeDeposit x) {
+        InterestStrategy strategy = strategyFactory.getStrategy(x.getPlanType());
+        BigDecimal interest = strategy.calculateInterest(x);
+
+        BigDecimal a2d = x.getBalance()
+                .add(interest.setScale(2, RoundingMode.HALF_UP));
+        x.setBalance(a2d);
+    }
+
+    private class ProjectionTask extends RecursiveTask<long[]> {
+
+        private final DepositColumns batch;
+        private final InterestStrategy[] strategies;
+        private final int months;
+        private final int from;
+        private final int to;
+
+        ProjectionTask(DepositColumns batch, InterestStrategy[] strategies, int months, int from, int to) {
+            this.batch = batch;
+            this.strategies = strategies;
+            this.months = months;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= splitThreshold) {
+                long[] totals = new long[months];
+                for (int i = from; i < to; i++) {
+                    project(strategy(strategies, batch, i), batch.balanceCents(i), batch.days(i), totals, true);
+                }
+                return totals;
+            }
+            int middle = (from + to) >>> 1;
+            ProjectionTask right = new ProjectionTask(batch, strategies, months, middle, to);
+            right.fork();
+            long[] totals = new ProjectionTask(batch, strategies, months, from, middle).compute();
+            long[] rightTotals = right.join();
+            for (int month = 0; month < months; month++) {
+                totals[month] += rightTotals[month];
+            }
+            return totals;
+        }
+    }
+
+    private class RangeTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final IntConsumer action;
+
+        RangeTask(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
 
-            BigDecimal a2d = x.getBalance()
-                    .add(interest.setScale(2, RoundingMode.HALF_UP));
-            x.setBalance(a2d);
+        @Override
+        protected void compute() {
+            if (to - from <= splitThreshold) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, middle, action), new RangeTask(middle, to, action));
         }
     }
 }
@@ -0,0 +1,148 @@
+package org.ikigaidigital.adapter.in.importer;
+
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.Withdrawal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the CSV import format line by line:
+ * <pre>
+ * type,plan_type,days,balance,amount,date
+ * deposit,basic,45,10000.00,,
+ * withdrawal,,,,500.00,2024-01-15
+ * </pre>
+ * A {@code withdrawal} row belongs to the closest {@code deposit} row above it, so a deposit is handed
+ * out once the next deposit row, or the end of the input, has been read. Fields are not quoted.
+ */
+final class CsvTimeDepositReader implements TimeDepositReader {
+
+    static final String HEADER = "type,plan_type,days,balance,amount,date";
+
+    private static final int COLUMNS = 6;
+
+    private final BufferedReader reader;
+    private int lineNumber;
+    private TimeDeposit next;
+    private int nextLine;
+    private TimeDeposit lookahead;
+    private int lookaheadLine;
+    private int returnedLine;
+
+    CsvTimeDepositReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String[] header = readRow();
+        if (header == null || !String.join(",", header).equalsIgnoreCase(HEADER)) {
+            throw new IllegalArgumentException("CSV import must start with the header " + HEADER);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readDeposit();
+        }
+        return next != null;
+    }
+
+    @Override
+    public TimeDeposit next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        TimeDeposit deposit = next;
+        next = null;
+        returnedLine = nextLine;
+        return deposit;
+    }
+
+    @Override
+    public String position() {
+        return "line " + returnedLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private TimeDeposit readDeposit() {
+        TimeDeposit deposit = lookahead;
+        nextLine = lookaheadLine;
+        lookahead = null;
+        if (deposit == null) {
+            String[] row = readRow();
+            if (row == null) {
+                return null;
+            }
+            deposit = parseDeposit(row);
+            nextLine = lineNumber;
+        }
+        String[] row;
+        while ((row = readRow()) != null) {
+            if (row[0].equals("withdrawal")) {
+                deposit.getWithdrawals().add(parseWithdrawal(row));
+            } else {
+                lookahead = parseDeposit(row);
+                lookaheadLine = lineNumber;
+                break;
+            }
+        }
+        return deposit;
+    }
+
+    private TimeDeposit parseDeposit(String[] row) {
+        if (!row[0].equals("deposit")) {
+            throw invalid("expected a deposit row, got '" + row[0] + "'", null);
+        }
+        try {
+            return new TimeDeposit(null, row[1], Integer.valueOf(row[2]), new BigDecimal(row[3]));
+        } catch (NumberFormatException e) {
+            throw invalid(e.getMessage(), e);
+        }
+    }
+
+    private Withdrawal parseWithdrawal(String[] row) {
+        try {
+            return new Withdrawal(null, null, new BigDecimal(row[4]), LocalDate.parse(row[5]));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw invalid(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Next non-blank line split into its columns, or {@code null} at the end of the input.
+     */
+    private String[] readRow() {
+        String line;
+        try {
+            do {
+                line = reader.readLine();
+                lineNumber++;
+            } while (line != null && line.isBlank());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (line == null) {
+            return null;
+        }
+        String[] row = line.strip().split(",", -1);
+        if (row.length != COLUMNS) {
+            throw invalid("expected " + COLUMNS + " columns, got " + row.length, null);
+        }
+        return row;
+    }
+
+    private IllegalArgumentException invalid(String reason, Exception cause) {
+        return new IllegalArgumentException("Invalid CSV at line " + lineNumber + ": " + reason, cause);
+    }
+}
@@ -0,0 +1,51 @@
+package org.ikigaidigital.adapter.in.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.ikigaidigital.domain.model.ImportResult;
+import org.ikigaidigital.domain.port.in.ImportTimeDepositsUseCase;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Imports the files named by {@code --import=<file>} options at startup, in order, picking the format
+ * from the file extension. Combine with {@code --spring.main.web-application-type=none} to exit once
+ * the import is done.
+ */
+@Slf4j
+@Component
+public class ImportCommandLineRunner implements ApplicationRunner {
+
+    static final String IMPORT_OPTION = "import";
+
+    private final ImportTimeDepositsUseCase importTimeDepositsUseCase;
+    private final ObjectMapper objectMapper;
+
+    public ImportCommandLineRunner(ImportTimeDepositsUseCase importTimeDepositsUseCase, ObjectMapper objectMapper) {
+        this.importTimeDepositsUseCase = importTimeDepositsUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!args.containsOption(IMPORT_OPTION)) {
+            return;
+        }
+        for (String file : args.getOptionValues(IMPORT_OPTION)) {
+            Path path = Path.of(file);
+            ImportFormat format = ImportFormat.forFileName(path.getFileName().toString());
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(path));
+                 TimeDepositReader reader = format.open(in, objectMapper)) {
+                ImportResult result = importTimeDepositsUseCase.importTimeDeposits(reader);
+                log.info("{}: {} rows imported at {} rows/s", path, result.getRows(), result.getRowsPerSecond());
+            }
+        }
+    }
+}
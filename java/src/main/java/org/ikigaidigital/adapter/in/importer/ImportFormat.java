@@ -0,0 +1,50 @@
+package org.ikigaidigital.adapter.in.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.InputStream;
+
+public enum ImportFormat {
+
+    CSV(MediaType.parseMediaType("text/csv"), ".csv") {
+        @Override
+        public TimeDepositReader open(InputStream in, ObjectMapper objectMapper) {
+            return new CsvTimeDepositReader(in);
+        }
+    },
+    NDJSON(MediaType.APPLICATION_NDJSON, ".ndjson") {
+        @Override
+        public TimeDepositReader open(InputStream in, ObjectMapper objectMapper) {
+            return new NdjsonTimeDepositReader(in, objectMapper);
+        }
+    };
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ImportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public abstract TimeDepositReader open(InputStream in, ObjectMapper objectMapper);
+
+    public static ImportFormat forMediaType(MediaType mediaType) {
+        for (ImportFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import media type: " + mediaType);
+    }
+
+    public static ImportFormat forFileName(String fileName) {
+        for (ImportFormat format : values()) {
+            if (fileName.toLowerCase().endsWith(format.extension)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import file, expected .csv or .ndjson: " + fileName);
+    }
+}
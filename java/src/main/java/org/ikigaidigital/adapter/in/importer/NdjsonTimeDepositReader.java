@@ -0,0 +1,81 @@
+package org.ikigaidigital.adapter.in.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ikigaidigital.adapter.in.web.dto.TimeDepositResponse;
+import org.ikigaidigital.adapter.in.web.dto.WithdrawalResponse;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.Withdrawal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads one deposit object per line, in the shape the NDJSON listing writes, so a stream can be
+ * imported as is; ids in the input are ignored. Jackson pulls one object at a time from the input.
+ */
+final class NdjsonTimeDepositReader implements TimeDepositReader {
+
+    private final MappingIterator<TimeDepositResponse> records;
+    private int returnedLine;
+
+    NdjsonTimeDepositReader(InputStream in, ObjectMapper objectMapper) {
+        try {
+            this.records = objectMapper.readerFor(TimeDepositResponse.class).readValues(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return records.hasNextValue();
+        } catch (JsonProcessingException e) {
+            throw invalid(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public TimeDeposit next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        TimeDepositResponse record;
+        try {
+            record = records.nextValue();
+            returnedLine = records.getCurrentLocation().getLineNr();
+        } catch (JsonProcessingException e) {
+            throw invalid(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        TimeDeposit deposit = new TimeDeposit(null, record.getPlanType(), record.getDays(), record.getBalance());
+        if (record.getWithdrawals() != null) {
+            for (WithdrawalResponse withdrawal : record.getWithdrawals()) {
+                deposit.getWithdrawals().add(new Withdrawal(null, null, withdrawal.getAmount(), withdrawal.getDate()));
+            }
+        }
+        return deposit;
+    }
+
+    @Override
+    public String position() {
+        return "line " + returnedLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        records.close();
+    }
+
+    private static IllegalArgumentException invalid(JsonProcessingException e) {
+        return new IllegalArgumentException("Invalid NDJSON at line "
+                + (e.getLocation() == null ? "?" : e.getLocation().getLineNr()) + ": " + e.getOriginalMessage(), e);
+    }
+}
@@ -0,0 +1,13 @@
+package org.ikigaidigital.adapter.in.importer;
+
+import org.ikigaidigital.domain.port.in.TimeDepositSource;
+
+import java.io.Closeable;
+
+/**
+ * Parses deposits, each with its withdrawals, incrementally from an import file. {@link #next()}
+ * throws {@link IllegalArgumentException} naming the offending line for malformed input, and
+ * {@link #position()} names the line the last deposit started on, for errors found after parsing.
+ */
+public interface TimeDepositReader extends TimeDepositSource, Closeable {
+}
@@ -0,0 +1,97 @@
+package org.ikigaidigital.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.ikigaidigital.adapter.in.web.dto.AccrualJobResponse;
+import org.ikigaidigital.domain.model.AccrualJob;
+import org.ikigaidigital.domain.model.AccrualJobCancellation;
+import org.ikigaidigital.domain.port.in.CancelAccrualJobUseCase;
+import org.ikigaidigital.domain.port.in.GetAccrualJobUseCase;
+import org.ikigaidigital.domain.port.in.SubmitAccrualJobUseCase;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@RestController
+@RequestMapping("/api/time-deposits/update-balances/jobs")
+@Tag(name = "Time Deposits", description = "Time deposit management endpoints")
+public class AccrualJobController {
+
+    private final SubmitAccrualJobUseCase submitAccrualJobUseCase;
+    private final GetAccrualJobUseCase getAccrualJobUseCase;
+    private final CancelAccrualJobUseCase cancelAccrualJobUseCase;
+
+    public AccrualJobController(
+            SubmitAccrualJobUseCase submitAccrualJobUseCase,
+            GetAccrualJobUseCase getAccrualJobUseCase,
+            CancelAccrualJobUseCase cancelAccrualJobUseCase) {
+        this.submitAccrualJobUseCase = submitAccrualJobUseCase;
+        this.getAccrualJobUseCase = getAccrualJobUseCase;
+        this.cancelAccrualJobUseCase = cancelAccrualJobUseCase;
+    }
+
+    @PostMapping
+    @Operation(
+            summary = "Start an asynchronous balance update",
+            description = "Queues a monthly interest run for all time deposits and returns immediately with the job. "
+                    + "Jobs run one at a time in the background; poll the returned location for progress"
+    )
+    @ApiResponse(responseCode = "202", description = "Job accepted")
+    public ResponseEntity<AccrualJobResponse> submitJob() {
+        AccrualJob job = submitAccrualJobUseCase.submitAccrualJob();
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(job.getId()).toUri())
+                .body(toResponse(job));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(
+            summary = "Get a balance update job",
+            description = "Returns the status and progress (deposits processed out of total) of a job"
+    )
+    @ApiResponse(responseCode = "200", description = "Job found")
+    @ApiResponse(responseCode = "404", description = "No such job")
+    public ResponseEntity<AccrualJobResponse> getJob(@PathVariable String id) {
+        return getAccrualJobUseCase.getAccrualJob(id)
+                .map(job -> ResponseEntity.ok(toResponse(job)))
+                .orElseThrow(() -> notFound(id));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(
+            summary = "Cancel a balance update job",
+            description = "Cancels a queued job at once, or stops a running job before its next chunk. "
+                    + "Chunks already committed keep their interest"
+    )
+    @ApiResponse(responseCode = "202", description = "Cancellation requested")
+    @ApiResponse(responseCode = "404", description = "No such job")
+    @ApiResponse(responseCode = "409", description = "The job has already finished")
+    public ResponseEntity<AccrualJobResponse> cancelJob(@PathVariable String id) {
+        AccrualJobCancellation cancellation = cancelAccrualJobUseCase.cancelAccrualJob(id)
+                .orElseThrow(() -> notFound(id));
+        if (!cancellation.isAccepted()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Accrual job already finished: " + id);
+        }
+        return ResponseEntity.accepted().body(toResponse(cancellation.getJob()));
+    }
+
+    private static ResponseStatusException notFound(String id) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown accrual job: " + id);
+    }
+
+    private AccrualJobResponse toResponse(AccrualJob job) {
+        return new AccrualJobResponse(
+                job.getId(),
+                job.getStatus().name(),
+                job.getProcessed(),
+                job.getTotal(),
+                job.getSubmittedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getError()
+        );
+    }
+}
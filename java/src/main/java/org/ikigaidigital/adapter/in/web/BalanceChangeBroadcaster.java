@@ -0,0 +1,336 @@
+package org.ikigaidigital.adapter.in.web;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ikigaidigital.adapter.in.web.dto.BalanceChangeResponse;
+import org.ikigaidigital.domain.model.BalanceChange;
+import org.ikigaidigital.domain.model.BalanceChangePage;
+import org.ikigaidigital.domain.model.BalancesChangedEvent;
+import org.ikigaidigital.domain.port.in.GetBalanceChangesUseCase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams the balance change outbox to Server-Sent Event subscribers. Each subscriber has a queue of
+ * at most {@code queue-capacity} changes and at most one sender task in flight, taken from a pool of
+ * {@code sender-threads}, which drains the queue to the client. All outbox reads happen on the poller
+ * thread: changes newly committed are read once, a page of {@code page-size} at a time, and offered
+ * to every subscriber that is up to date; a subscriber whose queue is full then is disconnected. A
+ * subscriber that is behind, because it resumed from an older offset, reads its own pages from the
+ * outbox, only as far as its queue has room. A subscriber whose sender has made no progress for
+ * {@code send-timeout}, because its client stopped reading or no sender thread was free, is
+ * disconnected too, and its blocked send is interrupted. Disconnected clients reconnect with
+ * {@code Last-Event-ID} and catch up from the outbox, so a slow subscriber never holds more than
+ * its queue in memory nor keeps the sender threads from the others.
+ * The last committed offset is read when a transaction that changed balances commits and every
+ * {@code poll-interval}, which picks up changes committed by other instances. Streams end after
+ * {@code stream-timeout}; clients reconnect and resume where they left off.
+ */
+@Slf4j
+@Component
+public class BalanceChangeBroadcaster {
+
+    static final String EVENT_NAME = "balance-change";
+
+    private final GetBalanceChangesUseCase getBalanceChangesUseCase;
+    private final ExecutorService senders;
+    private final ScheduledExecutorService poller;
+    private final int pageSize;
+    private final int queueCapacity;
+    private final long sendTimeoutNanos;
+    private final long streamTimeoutMillis;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong lastOffset = new AtomicLong();
+    /** Offset up to which changes have been offered to up-to-date subscribers; poller thread only. */
+    private long head = -1;
+
+    @Autowired
+    public BalanceChangeBroadcaster(GetBalanceChangesUseCase getBalanceChangesUseCase,
+                                    @Value("${time-deposit.feed.sender-threads:2}") int senderThreads,
+                                    @Value("${time-deposit.feed.page-size:500}") int pageSize,
+                                    @Value("${time-deposit.feed.queue-capacity:1000}") int queueCapacity,
+                                    @Value("${time-deposit.feed.send-timeout:PT10S}") Duration sendTimeout,
+                                    @Value("${time-deposit.feed.poll-interval:PT1S}") Duration pollInterval,
+                                    @Value("${time-deposit.feed.stream-timeout:PT30M}") Duration streamTimeout) {
+        this(getBalanceChangesUseCase,
+                Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("balance-feed-sender-")),
+                Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("balance-feed-poller-")),
+                pageSize, queueCapacity, sendTimeout, pollInterval, streamTimeout);
+    }
+
+    BalanceChangeBroadcaster(GetBalanceChangesUseCase getBalanceChangesUseCase, ExecutorService senders,
+                             ScheduledExecutorService poller, int pageSize, int queueCapacity,
+                             Duration sendTimeout, Duration pollInterval, Duration streamTimeout) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Feed page size must be positive: " + pageSize);
+        }
+        if (queueCapacity < pageSize) {
+            throw new IllegalArgumentException("Feed queue capacity must hold a page: " + queueCapacity);
+        }
+        if (sendTimeout.isNegative() || sendTimeout.isZero()) {
+            throw new IllegalArgumentException("Feed send timeout must be positive: " + sendTimeout);
+        }
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("Feed poll interval must be positive: " + pollInterval);
+        }
+        this.getBalanceChangesUseCase = getBalanceChangesUseCase;
+        this.senders = senders;
+        this.poller = poller;
+        this.pageSize = pageSize;
+        this.queueCapacity = queueCapacity;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+        long intervalMillis = pollInterval.toMillis();
+        poller.scheduleWithFixedDelay(this::poll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a stream of the changes after {@code afterOffset}, or of the changes committed from now on
+     * when it is {@code null}.
+     */
+    public SseEmitter subscribe(Long afterOffset) {
+        if (afterOffset != null && afterOffset < 0) {
+            throw new IllegalArgumentException("Offset must not be negative: " + afterOffset);
+        }
+        long committed = getBalanceChangesUseCase.getLastOffset();
+        lastOffset.accumulateAndGet(committed, Math::max);
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, afterOffset != null ? afterOffset : committed,
+                queueCapacity);
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        poller.execute(() -> catchUp(subscriber));
+        return emitter;
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBalancesChanged(BalancesChangedEvent event) {
+        if (!subscribers.isEmpty()) {
+            poller.execute(this::poll);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /** Runs on the poller thread, which must survive any failure to keep polling. */
+    private void poll() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.sending.get() && now - subscriber.busySince > sendTimeoutNanos) {
+                log.info("Disconnecting balance feed subscriber that made no progress for {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+                disconnect(subscriber, true);
+            }
+        }
+        try {
+            long committed = lastOffset.accumulateAndGet(getBalanceChangesUseCase.getLastOffset(), Math::max);
+            offerNewChanges(committed);
+            subscribers.forEach(this::catchUp);
+        } catch (RuntimeException e) {
+            log.warn("Could not read the balance change feed", e);
+        }
+    }
+
+    /**
+     * Reads the changes up to {@code committed} once and offers them to every up-to-date subscriber.
+     * With none up to date there is nobody to offer them to, and the head moves straight on.
+     */
+    private void offerNewChanges(long committed) {
+        if (head < 0 || subscribers.stream().noneMatch(subscriber -> subscriber.offset >= head)) {
+            head = committed;
+            return;
+        }
+        while (head < committed) {
+            BalanceChangePage page = getBalanceChangesUseCase.getBalanceChanges(head, pageSize);
+            if (page.getChanges().isEmpty()) {
+                return;
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.offset >= head && !offer(subscriber, page)) {
+                    log.info("Disconnecting balance feed subscriber whose queue of {} changes is full",
+                            queueCapacity);
+                    disconnect(subscriber, false);
+                }
+            }
+            head = page.getNextOffset();
+        }
+    }
+
+    /** Poller thread only: fills the queue of a subscriber behind the head from the outbox. */
+    private void catchUp(Subscriber subscriber) {
+        if (head < 0) {
+            head = lastOffset.get();
+        }
+        try {
+            int room;
+            while (!subscriber.closed && subscriber.offset < head
+                    && (room = subscriber.queue.remainingCapacity()) > 0) {
+                BalanceChangePage page = getBalanceChangesUseCase.getBalanceChanges(subscriber.offset,
+                        Math.min(pageSize, room));
+                if (page.getChanges().isEmpty() || !offer(subscriber, page)) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not read the balance change feed", e);
+        }
+        drain(subscriber);
+    }
+
+    /** Queues the changes of the page after the subscriber's offset; {@code false} if they do not fit. */
+    private static boolean offer(Subscriber subscriber, BalanceChangePage page) {
+        for (BalanceChange change : page.getChanges()) {
+            if (change.getOffset() > subscriber.offset) {
+                if (!subscriber.queue.offer(change)) {
+                    return false;
+                }
+                subscriber.offset = change.getOffset();
+            }
+        }
+        return true;
+    }
+
+    /** Hands the queue to a sender unless it is empty or a sender is already in flight. */
+    private void drain(Subscriber subscriber) {
+        if (!subscriber.queue.isEmpty() && !subscriber.closed && subscriber.sending.compareAndSet(false, true)) {
+            subscriber.busySince = System.nanoTime();
+            subscriber.started.set(false);
+            try {
+                subscriber.inFlight = senders.submit(() -> send(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Shutting down.
+                subscriber.sending.set(false);
+            }
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        if (!subscriber.started.compareAndSet(false, true)) {
+            // Timed out before it started; the poller has completed the emitter.
+            return;
+        }
+        try {
+            BalanceChange change;
+            while (!subscriber.closed && (change = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(change.getOffset()))
+                        .name(EVENT_NAME)
+                        .data(toResponse(change), MediaType.APPLICATION_JSON));
+                subscriber.busySince = System.nanoTime();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away, the stream timed out or the send was interrupted after its timeout;
+            // the container completes the emitter.
+            subscriber.closed = true;
+            subscribers.remove(subscriber);
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Could not stream balance changes", e);
+            subscriber.closed = true;
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        }
+        subscriber.sending.set(false);
+        if (subscriber.closed) {
+            complete(subscriber);
+        } else if (subscriber.queue.isEmpty()) {
+            poller.execute(() -> catchUp(subscriber));
+        } else {
+            drain(subscriber);
+        }
+    }
+
+    /**
+     * Poller thread only. Drops the subscriber and ends its stream, right away unless a sender is in
+     * flight, which then ends it after its current send. With {@code interrupt}, a sender still waiting
+     * for a thread is cancelled and one that is sending is interrupted.
+     */
+    private void disconnect(Subscriber subscriber, boolean interrupt) {
+        subscribers.remove(subscriber);
+        subscriber.closed = true;
+        subscriber.queue.clear();
+        complete(subscriber);
+        Future<?> inFlight = subscriber.inFlight;
+        if (!interrupt || inFlight == null) {
+            return;
+        }
+        if (subscriber.started.compareAndSet(false, true)) {
+            inFlight.cancel(false);
+            subscriber.emitter.complete();
+        } else {
+            inFlight.cancel(true);
+        }
+    }
+
+    /**
+     * Completes the emitter of a closed subscriber if no sender is in flight, taking the sending flag
+     * for good so that no sender starts afterwards; the emitter's methods lock it while a send blocks.
+     */
+    private static void complete(Subscriber subscriber) {
+        if (subscriber.sending.compareAndSet(false, true)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private static BalanceChangeResponse toResponse(BalanceChange change) {
+        return new BalanceChangeResponse(change.getOffset(), change.getTimeDepositId(), change.getPeriod(),
+                change.getOldBalance(), change.getNewBalance());
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<BalanceChange> queue;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        /** Claimed by the sender in flight when it starts, or by the poller to cancel it before. */
+        private final AtomicBoolean started = new AtomicBoolean();
+        /** Offset of the last change queued; only written by the poller thread. */
+        private volatile long offset;
+        /** When the sender in flight was handed the queue or last sent a change. */
+        private volatile long busySince;
+        private volatile Future<?> inFlight;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, long offset, int queueCapacity) {
+            this.emitter = emitter;
+            this.offset = offset;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+}
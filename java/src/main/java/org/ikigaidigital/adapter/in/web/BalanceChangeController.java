@@ -0,0 +1,96 @@
+package org.ikigaidigital.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.ikigaidigital.adapter.in.web.dto.BalanceChangePageResponse;
+import org.ikigaidigital.adapter.in.web.dto.BalanceChangeResponse;
+import org.ikigaidigital.domain.model.BalanceChangePage;
+import org.ikigaidigital.domain.port.in.GetBalanceChangesUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/time-deposits/changes")
+@Tag(name = "Time Deposits", description = "Time deposit management endpoints")
+public class BalanceChangeController {
+
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
+    private final GetBalanceChangesUseCase getBalanceChangesUseCase;
+    private final BalanceChangeBroadcaster broadcaster;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public BalanceChangeController(GetBalanceChangesUseCase getBalanceChangesUseCase,
+                                   BalanceChangeBroadcaster broadcaster,
+                                   @Value("${time-deposit.api.default-page-size:100}") int defaultPageSize,
+                                   @Value("${time-deposit.api.max-page-size:1000}") int maxPageSize) {
+        this.getBalanceChangesUseCase = getBalanceChangesUseCase;
+        this.broadcaster = broadcaster;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Poll the balance change feed",
+            description = "Returns the balance changes committed after the `after` offset, in offset order, with "
+                    + "the deposit id, the credited month and the old and new balance. Pass `nextOffset` as "
+                    + "`after` on the next poll; it stays put while there is nothing new"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully read the changes")
+    @ApiResponse(responseCode = "400", description = "The offset is negative or the limit is not positive")
+    public ResponseEntity<BalanceChangePageResponse> getBalanceChanges(
+            @Parameter(description = "Offset of the last change already received, 0 for the whole feed")
+            @RequestParam(defaultValue = "0") long after,
+            @Parameter(description = "Maximum number of changes in the page")
+            @RequestParam(required = false) Integer limit) {
+        int pageSize = limit == null ? defaultPageSize : limit;
+        BalanceChangePage page;
+        try {
+            page = getBalanceChangesUseCase.getBalanceChanges(after, Math.min(pageSize, maxPageSize));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        List<BalanceChangeResponse> changes = page.getChanges().stream()
+                .map(change -> new BalanceChangeResponse(change.getOffset(), change.getTimeDepositId(),
+                        change.getPeriod(), change.getOldBalance(), change.getNewBalance()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(new BalanceChangePageResponse(changes, page.getNextOffset()));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream the balance change feed",
+            description = "Server-Sent Events stream with one `" + BalanceChangeBroadcaster.EVENT_NAME + "` event per "
+                    + "balance change, whose id is its offset. Starts after the `after` offset or the "
+                    + "`Last-Event-ID` header, or with the changes committed from now on when neither is given. "
+                    + "A subscriber that reads slowly falls behind and catches up from the outbox"
+    )
+    @ApiResponse(responseCode = "200", description = "Stream opened")
+    @ApiResponse(responseCode = "400", description = "The offset is negative")
+    public SseEmitter streamBalanceChanges(
+            @Parameter(description = "Offset of the last change already received")
+            @RequestParam(required = false) Long after,
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) Long lastEventId) {
+        try {
+            return broadcaster.subscribe(after != null ? after : lastEventId);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
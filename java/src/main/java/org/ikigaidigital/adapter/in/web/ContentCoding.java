@@ -0,0 +1,109 @@
+package org.ikigaidigital.adapter.in.web;
+
+import com.github.luben.zstd.Zstd;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content codings a deposit listing can be compressed with, in the order they are preferred when the
+ * client accepts several equally.
+ */
+public enum ContentCoding {
+
+    ZSTD("zstd") {
+        @Override
+        public byte[] encode(byte[] body) {
+            return Zstd.compress(body, ZSTD_LEVEL);
+        }
+    },
+    GZIP("gzip") {
+        @Override
+        public byte[] encode(byte[] body) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    },
+    IDENTITY("identity") {
+        @Override
+        public byte[] encode(byte[] body) {
+            return body;
+        }
+    };
+
+    private static final int ZSTD_LEVEL = 3;
+
+    private final String token;
+
+    ContentCoding(String token) {
+        this.token = token;
+    }
+
+    /**
+     * The {@code Content-Encoding} value, {@code identity} for none.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    public abstract byte[] encode(byte[] body);
+
+    /**
+     * The coding with the highest quality in an {@code Accept-Encoding} header; {@link #IDENTITY} when
+     * there is no header or it accepts none of the others.
+     */
+    public static ContentCoding forAcceptEncoding(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+        Map<ContentCoding, Double> qualities = new EnumMap<>(ContentCoding.class);
+        double wildcard = 0;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (name.equals("*")) {
+                wildcard = quality;
+            }
+            for (ContentCoding coding : values()) {
+                if (coding.token.equals(name)) {
+                    qualities.put(coding, quality);
+                }
+            }
+        }
+        ContentCoding best = IDENTITY;
+        double bestQuality = 0;
+        for (ContentCoding coding : values()) {
+            double quality = qualities.getOrDefault(coding, wildcard);
+            if (coding != IDENTITY && quality > bestQuality) {
+                best = coding;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,69 @@
+package org.ikigaidigital.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.ikigaidigital.adapter.in.web.dto.InterestPlanResponse;
+import org.ikigaidigital.adapter.in.web.dto.InterestTierResponse;
+import org.ikigaidigital.domain.port.in.GetInterestPlansUseCase;
+import org.ikigaidigital.domain.port.in.ReloadInterestPlansUseCase;
+import org.ikigaidigital.domain.service.strategy.InterestPlan;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/interest-plans")
+@Tag(name = "Interest Plans", description = "Data-driven interest plan endpoints")
+public class InterestPlanController {
+
+    private final GetInterestPlansUseCase getInterestPlansUseCase;
+    private final ReloadInterestPlansUseCase reloadInterestPlansUseCase;
+
+    public InterestPlanController(
+            GetInterestPlansUseCase getInterestPlansUseCase,
+            ReloadInterestPlansUseCase reloadInterestPlansUseCase) {
+        this.getInterestPlansUseCase = getInterestPlansUseCase;
+        this.reloadInterestPlansUseCase = reloadInterestPlansUseCase;
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Get the interest plans in effect",
+            description = "Lists the plans loaded from the plan table with their tiers. Plan types without a "
+                    + "table entry are calculated by their built-in strategy"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the interest plans")
+    public ResponseEntity<List<InterestPlanResponse>> getInterestPlans() {
+        return ResponseEntity.ok(toResponses(getInterestPlansUseCase.getInterestPlans()));
+    }
+
+    @PostMapping("/reload")
+    @Operation(
+            summary = "Reload the interest plans",
+            description = "Reads the plan table again and applies it to every calculation started afterwards, "
+                    + "without a restart. Running calculations finish with the plans they started with"
+    )
+    @ApiResponse(responseCode = "200", description = "Plans reloaded")
+    @ApiResponse(responseCode = "422", description = "The plan table is invalid; the plans in effect are kept")
+    public ResponseEntity<List<InterestPlanResponse>> reloadInterestPlans() {
+        try {
+            return ResponseEntity.ok(toResponses(reloadInterestPlansUseCase.reloadInterestPlans()));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage(), e);
+        }
+    }
+
+    private List<InterestPlanResponse> toResponses(List<InterestPlan> plans) {
+        return plans.stream()
+                .map(plan -> new InterestPlanResponse(plan.getPlanType(), plan.getTiers().stream()
+                        .map(tier -> new InterestTierResponse(
+                                tier.getAfterDays(), tier.getUpToDays(), tier.getAnnualRate()))
+                        .collect(Collectors.toList())))
+                .collect(Collectors.toList());
+    }
+}
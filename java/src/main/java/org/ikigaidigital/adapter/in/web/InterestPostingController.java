@@ -0,0 +1,48 @@
+package org.ikigaidigital.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.ikigaidigital.adapter.in.web.dto.InterestPostingRollupResponse;
+import org.ikigaidigital.domain.port.in.GetInterestPostingRollupUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/time-deposits/interest-postings")
+@Tag(name = "Time Deposits", description = "Time deposit management endpoints")
+public class InterestPostingController {
+
+    private final GetInterestPostingRollupUseCase getInterestPostingRollupUseCase;
+
+    public InterestPostingController(GetInterestPostingRollupUseCase getInterestPostingRollupUseCase) {
+        this.getInterestPostingRollupUseCase = getInterestPostingRollupUseCase;
+    }
+
+    @GetMapping("/rollup")
+    @Operation(
+            summary = "Roll up the interest posted for a month",
+            description = "Returns, per plan type, the number of deposits credited by the monthly update of the "
+                    + "period and the total interest credited, read from the append-only posting journal "
+                    + "written with every credit; the deposits are not read"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully rolled up the postings")
+    public ResponseEntity<List<InterestPostingRollupResponse>> getInterestPostingRollup(
+            @Parameter(description = "Month to roll up (yyyy-MM), the current month by default", example = "2024-03")
+            @RequestParam(required = false) YearMonth period) {
+        List<InterestPostingRollupResponse> responses = getInterestPostingRollupUseCase
+                .getInterestPostingRollup(period != null ? period : YearMonth.now()).stream()
+                .map(rollup -> new InterestPostingRollupResponse(rollup.getPlanType(), rollup.getPostings(),
+                        rollup.getTotalAmount()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(responses);
+    }
+}
@@ -0,0 +1,57 @@
+package org.ikigaidigital.adapter.in.web;
+
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Representations of a deposit listing, in the order they are preferred when the client accepts several
+ * equally.
+ */
+public enum ListingFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(MediaType.parseMediaType("application/x-jackson-smile")),
+    /**
+     * The schema in {@code proto/time_deposits.proto}.
+     */
+    PROTOBUF(MediaType.parseMediaType("application/x-protobuf"));
+
+    private final MediaType mediaType;
+
+    ListingFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * The format with the highest quality in an {@code Accept} header, or {@link #JSON} when there is no
+     * header.
+     *
+     * @throws IllegalArgumentException if the header is malformed or accepts none of the formats
+     */
+    public static ListingFormat forAccept(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0) {
+                break;
+            }
+            for (ListingFormat format : values()) {
+                if (mediaType.includes(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unsupported listing media type: " + accept);
+    }
+}
@@ -0,0 +1,45 @@
+package org.ikigaidigital.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.ikigaidigital.adapter.in.web.dto.PartitionedAccrualResponse;
+import org.ikigaidigital.domain.model.PartitionedAccrualResult;
+import org.ikigaidigital.domain.port.in.AccruePartitionsUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/time-deposits/update-balances/partitions")
+@Tag(name = "Time Deposits", description = "Time deposit management endpoints")
+public class PartitionedAccrualController {
+
+    private final AccruePartitionsUseCase accruePartitionsUseCase;
+
+    public PartitionedAccrualController(AccruePartitionsUseCase accruePartitionsUseCase) {
+        this.accruePartitionsUseCase = accruePartitionsUseCase;
+    }
+
+    @PutMapping
+    @Operation(
+            summary = "Update balances as one of several instances",
+            description = "Leases id-range partitions of the month from the database and accrues them until none "
+                    + "is free. Call it on every instance to share the run; partitions of an instance that stops "
+                    + "are taken over once their lease expires"
+    )
+    @ApiResponse(responseCode = "200", description = "No free partition is left for this instance")
+    public ResponseEntity<PartitionedAccrualResponse> accruePartitions(
+            @Parameter(description = "Month to accrue (yyyy-MM), the current month by default", example = "2024-03")
+            @RequestParam(required = false) YearMonth period) {
+        PartitionedAccrualResult result =
+                accruePartitionsUseCase.accruePartitions(period != null ? period : YearMonth.now());
+        return ResponseEntity.ok(new PartitionedAccrualResponse(
+                result.getPeriod().toString(), result.getAccruedPartitions(), result.getOpenPartitions()));
+    }
+}
@@ -0,0 +1,101 @@
+package org.ikigaidigital.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.ikigaidigital.adapter.in.web.dto.BalanceProjectionResponse;
+import org.ikigaidigital.adapter.in.web.dto.PlanSummaryResponse;
+import org.ikigaidigital.adapter.in.web.dto.ProjectedMonthResponse;
+import org.ikigaidigital.adapter.in.web.dto.SnapshotResponse;
+import org.ikigaidigital.domain.model.BalanceProjection;
+import org.ikigaidigital.domain.model.SnapshotExport;
+import org.ikigaidigital.domain.port.in.AnalyzeSnapshotUseCase;
+import org.ikigaidigital.domain.port.in.ExportSnapshotUseCase;
+import org.ikigaidigital.domain.port.in.ProjectBalancesUseCase;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/time-deposits/snapshot")
+@Tag(name = "Time Deposits", description = "Time deposit management endpoints")
+public class SnapshotController {
+
+    private final ExportSnapshotUseCase exportSnapshotUseCase;
+    private final AnalyzeSnapshotUseCase analyzeSnapshotUseCase;
+
+    public SnapshotController(ExportSnapshotUseCase exportSnapshotUseCase,
+                              AnalyzeSnapshotUseCase analyzeSnapshotUseCase) {
+        this.exportSnapshotUseCase = exportSnapshotUseCase;
+        this.analyzeSnapshotUseCase = analyzeSnapshotUseCase;
+    }
+
+    @PutMapping
+    @Operation(
+            summary = "Export a portfolio snapshot",
+            description = "Writes every time deposit, with the count and total of its withdrawals, to a fixed-width "
+                    + "binary file at `time-deposit.snapshot.path`, replacing the previous snapshot once complete"
+    )
+    @ApiResponse(responseCode = "200", description = "Snapshot written")
+    public ResponseEntity<SnapshotResponse> exportSnapshot() {
+        SnapshotExport export = exportSnapshotUseCase.exportSnapshot();
+        return ResponseEntity.ok(new SnapshotResponse(export.getDeposits(), export.getBytes(),
+                export.getElapsedMillis()));
+    }
+
+    @GetMapping("/projection")
+    @Operation(
+            summary = "Project the portfolio balance from the snapshot",
+            description = "Same forecast as `GET /api/time-deposits/projection`, computed over the memory-mapped "
+                    + "snapshot without querying the database"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully projected the snapshot")
+    @ApiResponse(responseCode = "400", description = "months is out of range")
+    @ApiResponse(responseCode = "404", description = "No snapshot has been exported yet")
+    public ResponseEntity<BalanceProjectionResponse> projectSnapshot(
+            @Parameter(description = "Number of monthly runs to project, at most " + ProjectBalancesUseCase.MAX_MONTHS)
+            @RequestParam(defaultValue = "12") int months) {
+        BalanceProjection projection;
+        try {
+            projection = analyzeSnapshotUseCase.projectSnapshot(months).orElseThrow(SnapshotController::notFound);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        List<ProjectedMonthResponse> monthResponses = projection.getMonths().stream()
+                .map(month -> new ProjectedMonthResponse(month.getMonth(), month.getBalance(), month.getInterest()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(new BalanceProjectionResponse(projection.getId(), projection.getPlanType(),
+                projection.getDeposits(), projection.getBalance(), monthResponses));
+    }
+
+    @GetMapping("/summary")
+    @Operation(
+            summary = "Get portfolio aggregates per plan type from the snapshot",
+            description = "Same aggregates as `GET /api/time-deposits/summary`, computed over the memory-mapped "
+                    + "snapshot without querying the database; interest is projected for every plan type"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully aggregated the snapshot")
+    @ApiResponse(responseCode = "404", description = "No snapshot has been exported yet")
+    public ResponseEntity<List<PlanSummaryResponse>> summarizeSnapshot() {
+        List<PlanSummaryResponse> responses = analyzeSnapshotUseCase.summarizeSnapshot()
+                .orElseThrow(SnapshotController::notFound).stream()
+                .map(summary -> new PlanSummaryResponse(summary.getPlanType(), summary.getDeposits(),
+                        summary.getTotalBalance(), summary.getWithdrawals(), summary.getTotalWithdrawn(),
+                        summary.getProjectedInterest()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(responses);
+    }
+
+    private static ResponseStatusException notFound() {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "No portfolio snapshot has been exported");
+    }
+}
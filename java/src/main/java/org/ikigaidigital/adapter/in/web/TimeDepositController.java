@@ -1,17 +1,52 @@
 package org.ikigaidigital.adapter.in.web;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.ikigaidigital.TimeDepositCalculator;
+import org.ikigaidigital.adapter.in.importer.ImportFormat;
+import org.ikigaidigital.adapter.in.importer.TimeDepositReader;
+import org.ikigaidigital.adapter.in.web.dto.BalanceProjectionResponse;
+import org.ikigaidigital.adapter.in.web.dto.ImportResponse;
+import org.ikigaidigital.adapter.in.web.dto.PlanSummaryResponse;
+import org.ikigaidigital.adapter.in.web.dto.ProjectedMonthResponse;
+import org.ikigaidigital.adapter.in.web.dto.TimeDepositIdsRequest;
 import org.ikigaidigital.adapter.in.web.dto.TimeDepositResponse;
 import org.ikigaidigital.adapter.in.web.dto.WithdrawalResponse;
+import org.ikigaidigital.domain.model.BalanceProjection;
+import org.ikigaidigital.domain.model.ImportResult;
 import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.TimeDepositChanges;
+import org.ikigaidigital.domain.model.TimeDepositPage;
 import org.ikigaidigital.domain.port.in.GetAllTimeDepositsUseCase;
+import org.ikigaidigital.domain.port.in.GetChangedTimeDepositsUseCase;
+import org.ikigaidigital.domain.port.in.GetPortfolioSummaryUseCase;
+import org.ikigaidigital.domain.port.in.GetTimeDepositPageUseCase;
+import org.ikigaidigital.domain.port.in.GetTimeDepositUseCase;
+import org.ikigaidigital.domain.port.in.ImportTimeDepositsUseCase;
+import org.ikigaidigital.domain.port.in.ProjectBalancesUseCase;
+import org.ikigaidigital.domain.port.in.StreamTimeDepositsUseCase;
 import org.ikigaidigital.domain.port.in.UpdateBalancesUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @RestController
@@ -19,43 +54,339 @@ import java.util.stream.Collectors;
 @Tag(name = "Time Deposits", description = "Time deposit management endpoints")
 public class TimeDepositController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String CHANGE_TOKEN_HEADER = "X-Change-Token";
+
     private final GetAllTimeDepositsUseCase getAllTimeDepositsUseCase;
+    private final GetTimeDepositPageUseCase getTimeDepositPageUseCase;
+    private final GetTimeDepositUseCase getTimeDepositUseCase;
+    private final GetChangedTimeDepositsUseCase getChangedTimeDepositsUseCase;
+    private final GetPortfolioSummaryUseCase getPortfolioSummaryUseCase;
+    private final ProjectBalancesUseCase projectBalancesUseCase;
+    private final StreamTimeDepositsUseCase streamTimeDepositsUseCase;
     private final UpdateBalancesUseCase updateBalancesUseCase;
+    private final ImportTimeDepositsUseCase importTimeDepositsUseCase;
+    private final TimeDepositResponseCache responseCache;
+    private final TimeDepositListingWriter listingWriter;
+    private final ObjectMapper objectMapper;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
     public TimeDepositController(
             GetAllTimeDepositsUseCase getAllTimeDepositsUseCase,
-            UpdateBalancesUseCase updateBalancesUseCase) {
+            GetTimeDepositPageUseCase getTimeDepositPageUseCase,
+            GetTimeDepositUseCase getTimeDepositUseCase,
+            GetChangedTimeDepositsUseCase getChangedTimeDepositsUseCase,
+            GetPortfolioSummaryUseCase getPortfolioSummaryUseCase,
+            ProjectBalancesUseCase projectBalancesUseCase,
+            StreamTimeDepositsUseCase streamTimeDepositsUseCase,
+            UpdateBalancesUseCase updateBalancesUseCase,
+            ImportTimeDepositsUseCase importTimeDepositsUseCase,
+            TimeDepositResponseCache responseCache,
+            TimeDepositListingWriter listingWriter,
+            ObjectMapper objectMapper,
+            @Value("${time-deposit.api.default-page-size:100}") int defaultPageSize,
+            @Value("${time-deposit.api.max-page-size:1000}") int maxPageSize) {
         this.getAllTimeDepositsUseCase = getAllTimeDepositsUseCase;
+        this.getTimeDepositPageUseCase = getTimeDepositPageUseCase;
+        this.getTimeDepositUseCase = getTimeDepositUseCase;
+        this.getChangedTimeDepositsUseCase = getChangedTimeDepositsUseCase;
+        this.getPortfolioSummaryUseCase = getPortfolioSummaryUseCase;
+        this.projectBalancesUseCase = projectBalancesUseCase;
+        this.streamTimeDepositsUseCase = streamTimeDepositsUseCase;
         this.updateBalancesUseCase = updateBalancesUseCase;
+        this.importTimeDepositsUseCase = importTimeDepositsUseCase;
+        this.responseCache = responseCache;
+        this.listingWriter = listingWriter;
+        this.objectMapper = objectMapper;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
     @GetMapping
     @Operation(
             summary = "Get all time deposits",
-            description = "Retrieves a list of all time deposits with their current balances and withdrawal history"
+            description = "Retrieves time deposits with their current balances and withdrawal history. "
+                    + "Without paging parameters every deposit is returned; with `after` or `limit` one page "
+                    + "in id order is returned and the `" + NEXT_CURSOR_HEADER + "` header carries the "
+                    + "`after` value of the next page, if any. With `changedSince` only the deposits inserted or "
+                    + "credited after that change token are returned. Every listing carries the `"
+                    + CHANGE_TOKEN_HEADER + "` header to pass as `changedSince` for the next incremental sync; "
+                    + "it may return a deposit again but never misses one. Responses carry a strong `ETag`; a "
+                    + "request whose `If-None-Match` matches it is answered with `304` until the next balance update. "
+                    + "`Accept` selects JSON, CBOR, Smile or protobuf (schema `proto/time_deposits.proto`, "
+                    + "amounts in cents); `Accept-Encoding` selects zstd or gzip compression"
     )
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved all time deposits")
-    public ResponseEntity<List<TimeDepositResponse>> getAllTimeDeposits() {
-        List<TimeDeposit> timeDeposits = getAllTimeDepositsUseCase.getAllTimeDeposits();
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the time deposits",
+            content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = TimeDepositResponse.class))),
+                    @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE),
+                    @Content(mediaType = "application/x-jackson-smile"),
+                    @Content(mediaType = "application/x-protobuf")
+            })
+    @ApiResponse(responseCode = "304", description = "The time deposits are unchanged since the given ETag")
+    @ApiResponse(responseCode = "400", description = "The page limit is not positive, the change token is "
+            + "unknown, or it is combined with paging parameters")
+    @ApiResponse(responseCode = "406", description = "None of the accepted media types is supported")
+    public ResponseEntity<byte[]> getAllTimeDeposits(
+            @Parameter(description = "Id of the last deposit of the previous page")
+            @RequestParam(required = false) Integer after,
+            @Parameter(description = "Maximum number of deposits in the page")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Change token of an earlier listing; only deposits changed since are returned")
+            @RequestParam(required = false) Long changedSince,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ListingFormat format;
+        try {
+            format = ListingFormat.forAccept(accept);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE, e.getMessage(), e);
+        }
+        // Read from the database on every request, so a listing cached here goes stale as soon as any
+        // instance commits a change, and before the deposits, so a listing never claims a later token.
+        long changeToken = getChangedTimeDepositsUseCase.getChangeToken();
+        String key;
+        Supplier<TimeDepositResponseCache.Rendered> renderer;
+        if (changedSince != null) {
+            if (after != null || limit != null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "changedSince cannot be combined with after or limit");
+            }
+            key = "changedSince=" + changedSince;
+            renderer = () -> {
+                TimeDepositChanges changes;
+                try {
+                    changes = getChangedTimeDepositsUseCase.getTimeDepositsChangedSince(changedSince);
+                } catch (IllegalArgumentException e) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+                }
+                return render(changes.getTimeDeposits(), null, changes.getChangeToken(), format);
+            };
+        } else if (after == null && limit == null) {
+            key = "all";
+            renderer = () -> render(getAllTimeDepositsUseCase.getAllTimeDeposits(), null, changeToken, format);
+        } else {
+            int pageSize = limit == null ? defaultPageSize : limit;
+            if (pageSize < 1) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be positive: " + pageSize);
+            }
+            int boundedPageSize = Math.min(pageSize, maxPageSize);
+            key = "after=" + after + "&limit=" + boundedPageSize;
+            renderer = () -> {
+                TimeDepositPage page = getTimeDepositPageUseCase.getTimeDepositPage(after, boundedPageSize);
+                return render(page.getTimeDeposits(), page.getNextCursor(), changeToken, format);
+            };
+        }
+        TimeDepositResponseCache.Entry listing = responseCache.get(key + "&format=" + format, changeToken, renderer);
+        ContentCoding coding = listingWriter.coding(acceptEncoding, listing.getBody().length);
+        if (coding != ContentCoding.IDENTITY) {
+            String codingKey = key + "&format=" + format + "&coding=" + coding;
+            listing = responseCache.getVariant(codingKey, listing, coding::encode);
+        }
 
-        List<TimeDepositResponse> responses = timeDeposits.stream()
-                .map(this::toResponse)
+        // A matching If-None-Match turns this into a bodiless 304 before anything is written.
+        // Every format and coding has its own body and so its own ETag.
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .eTag(listing.getEtag())
+                .header(CHANGE_TOKEN_HEADER, Long.toString(listing.getChangeToken()));
+        if (coding != ContentCoding.IDENTITY) {
+            response.header(HttpHeaders.CONTENT_ENCODING, coding.getToken());
+        }
+        if (listing.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, listing.getNextCursor().toString());
+        }
+        return response.body(listing.getBody());
+    }
+
+    @GetMapping("/summary")
+    @Operation(
+            summary = "Get portfolio aggregates per plan type",
+            description = "Returns, per plan type, the number of deposits, their total balance, the number and "
+                    + "total of their withdrawals and the interest the next monthly update would credit. "
+                    + "The figures are aggregated by the database; no deposit is loaded"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully aggregated the time deposits")
+    public ResponseEntity<List<PlanSummaryResponse>> getPortfolioSummary() {
+        List<PlanSummaryResponse> responses = getPortfolioSummaryUseCase.getPortfolioSummary().stream()
+                .map(summary -> new PlanSummaryResponse(summary.getPlanType(), summary.getDeposits(),
+                        summary.getTotalBalance(), summary.getWithdrawals(), summary.getTotalWithdrawn(),
+                        summary.getProjectedInterest()))
                 .collect(Collectors.toList());
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/projection")
+    @Operation(
+            summary = "Project the portfolio balance",
+            description = "Forecasts the total balance after each of the next `months` monthly runs (at most "
+                    + ProjectBalancesUseCase.MAX_MONTHS + "), applying the current interest plans while every "
+                    + "deposit ages " + TimeDepositCalculator.DAYS_PER_MONTH + " days a month. Nothing is written"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully projected the portfolio")
+    @ApiResponse(responseCode = "400", description = "months is out of range")
+    public ResponseEntity<BalanceProjectionResponse> projectPortfolio(
+            @Parameter(description = "Number of monthly runs to project")
+            @RequestParam(defaultValue = "12") int months) {
+        try {
+            return ResponseEntity.ok(toResponse(projectBalancesUseCase.projectPortfolio(months)));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    @PostMapping("/projection")
+    @Operation(
+            summary = "Project time deposit balances",
+            description = "Forecasts the balance of each deposit with the given ids after each of the next "
+                    + "`months` monthly runs, in id order. Unknown ids are skipped; at most "
+                    + "`time-deposit.api.max-page-size` ids per request"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully projected the time deposits")
+    @ApiResponse(responseCode = "400", description = "No id list, more ids than allowed, or months is out of range")
+    public ResponseEntity<List<BalanceProjectionResponse>> projectTimeDeposits(
+            @Parameter(description = "Number of monthly runs to project")
+            @RequestParam(defaultValue = "12") int months,
+            @RequestBody TimeDepositIdsRequest request) {
+        List<Integer> ids = requireIds(request);
+        if (ids.size() > maxPageSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + maxPageSize + " ids per query: " + ids.size());
+        }
+        try {
+            List<BalanceProjectionResponse> responses = projectBalancesUseCase.projectTimeDeposits(ids, months).stream()
+                    .map(this::toResponse)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(responses);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
 
+    @GetMapping("/{id}")
+    @Operation(
+            summary = "Get a time deposit",
+            description = "Retrieves one time deposit with its withdrawals by primary key"
+    )
+    @ApiResponse(responseCode = "200", description = "Time deposit found")
+    @ApiResponse(responseCode = "404", description = "No such time deposit")
+    public ResponseEntity<TimeDepositResponse> getTimeDeposit(@PathVariable int id) {
+        return getTimeDepositUseCase.getTimeDeposit(id)
+                .map(timeDeposit -> ResponseEntity.ok(toResponse(timeDeposit)))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown time deposit: " + id));
+    }
+
+    @PostMapping("/query")
+    @Operation(
+            summary = "Get time deposits by id",
+            description = "Retrieves the time deposits with the given ids, in id order, by primary key. "
+                    + "Unknown ids are skipped; at most `time-deposit.api.max-page-size` ids per request"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the time deposits")
+    @ApiResponse(responseCode = "400", description = "No id list, or more ids than allowed")
+    public ResponseEntity<List<TimeDepositResponse>> queryTimeDeposits(@RequestBody TimeDepositIdsRequest request) {
+        List<Integer> ids = requireIds(request);
+        if (ids.size() > maxPageSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + maxPageSize + " ids per query: " + ids.size());
+        }
+        List<TimeDepositResponse> responses = getTimeDepositUseCase.getTimeDeposits(ids).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Stream all time deposits",
+            description = "Streams every time deposit as one JSON object per line, in id order, straight from "
+                    + "a database cursor"
+    )
+    @ApiResponse(responseCode = "200", description = "Successfully streamed all time deposits")
+    public ResponseEntity<StreamingResponseBody> streamTimeDeposits() {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                streamTimeDepositsUseCase.streamTimeDeposits(timeDeposit -> {
+                    try {
+                        objectMapper.writeValue(generator, toResponse(timeDeposit));
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @PutMapping("/update-balances")
     @Operation(
             summary = "Update all time deposit balances",
-            description = "Calculates and applies monthly interest to all time deposits based on their plan type and duration"
+            description = "Calculates and applies monthly interest to all time deposits based on their plan type "
+                    + "and duration, or only to the deposits whose ids are given in the body"
     )
-    @ApiResponse(responseCode = "200", description = "Successfully updated all balances")
-    public ResponseEntity<Void> updateBalances() {
-        updateBalancesUseCase.updateBalances();
+    @ApiResponse(responseCode = "200", description = "Successfully updated the balances")
+    @ApiResponse(responseCode = "400", description = "The body has no id list")
+    public ResponseEntity<Void> updateBalances(@RequestBody(required = false) TimeDepositIdsRequest request) {
+        if (request == null) {
+            updateBalancesUseCase.updateBalances();
+        } else {
+            updateBalancesUseCase.updateBalances(requireIds(request));
+        }
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(
+            summary = "Bulk import time deposits",
+            description = "Inserts the time deposits and withdrawals of a CSV or NDJSON body, read incrementally "
+                    + "and committed in chunks of `time-deposit.import.chunk-size`. Ids are assigned by the "
+                    + "database; ids in the input are ignored"
+    )
+    @ApiResponse(responseCode = "200", description = "Every row was imported")
+    @ApiResponse(responseCode = "400", description = "Malformed or invalid row; the chunks before it stay imported")
+    public ResponseEntity<ImportResponse> importTimeDeposits(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        ImportFormat format = ImportFormat.forMediaType(MediaType.parseMediaType(contentType));
+        try (TimeDepositReader reader = format.open(body, objectMapper)) {
+            ImportResult result = importTimeDepositsUseCase.importTimeDeposits(reader);
+            return ResponseEntity.ok(new ImportResponse(result.getDeposits(), result.getWithdrawals(),
+                    result.getElapsedMillis(), result.getRowsPerSecond()));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    private static List<Integer> requireIds(TimeDepositIdsRequest request) {
+        if (request.getIds() == null || request.getIds().contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ids must be a list of deposit ids");
+        }
+        return request.getIds();
+    }
+
+    private TimeDepositResponseCache.Rendered render(List<TimeDeposit> timeDeposits, Integer nextCursor,
+                                                     long changeToken, ListingFormat format) {
+        List<TimeDepositResponse> responses = timeDeposits.stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+        return new TimeDepositResponseCache.Rendered(listingWriter.write(responses, format), nextCursor,
+                changeToken);
+    }
+
+    private BalanceProjectionResponse toResponse(BalanceProjection projection) {
+        List<ProjectedMonthResponse> months = projection.getMonths().stream()
+                .map(month -> new ProjectedMonthResponse(month.getMonth(), month.getBalance(), month.getInterest()))
+                .collect(Collectors.toList());
+        return new BalanceProjectionResponse(projection.getId(), projection.getPlanType(), projection.getDeposits(),
+                projection.getBalance(), months);
+    }
+
     private TimeDepositResponse toResponse(TimeDeposit domain) {
         List<WithdrawalResponse> withdrawalResponses = domain.getWithdrawals().stream()
                 .map(w -> new WithdrawalResponse(w.getId(), w.getTimeDepositId(), w.getAmount(), w.getDate()))
@@ -0,0 +1,174 @@
+package org.ikigaidigital.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import org.ikigaidigital.adapter.in.web.dto.TimeDepositResponse;
+import org.ikigaidigital.adapter.in.web.dto.WithdrawalResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Serializes deposit listings in every {@link ListingFormat} and decides how they are compressed.
+ * CBOR and Smile share the configuration of the JSON mapper and write balances as binary decimals.
+ * Protobuf follows {@code proto/time_deposits.proto}, with amounts in cents and dates as epoch days;
+ * fields holding their default value are omitted, as proto3 does.
+ * Listings are compressed only when {@code server.compression.enabled} is set and their body is at
+ * least {@code server.compression.min-response-size}, the same rule Tomcat applies to other responses.
+ */
+@Component
+public class TimeDepositListingWriter {
+
+    private static final int LIST_DEPOSITS = 1;
+    private static final int DEPOSIT_ID = 1;
+    private static final int DEPOSIT_PLAN_TYPE = 2;
+    private static final int DEPOSIT_BALANCE_CENTS = 3;
+    private static final int DEPOSIT_DAYS = 4;
+    private static final int DEPOSIT_WITHDRAWALS = 5;
+    private static final int WITHDRAWAL_ID = 1;
+    private static final int WITHDRAWAL_TIME_DEPOSIT_ID = 2;
+    private static final int WITHDRAWAL_AMOUNT_CENTS = 3;
+    private static final int WITHDRAWAL_DATE = 4;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+    private final boolean compressionEnabled;
+    private final long minCompressedBytes;
+
+    public TimeDepositListingWriter(ObjectMapper objectMapper,
+                                    @Value("${server.compression.enabled:false}") boolean compressionEnabled,
+                                    @Value("${server.compression.min-response-size:2KB}") DataSize minCompressedSize) {
+        this.jsonMapper = objectMapper;
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.compressionEnabled = compressionEnabled;
+        this.minCompressedBytes = minCompressedSize.toBytes();
+    }
+
+    public byte[] write(List<TimeDepositResponse> responses, ListingFormat format) {
+        try {
+            return switch (format) {
+                case JSON -> jsonMapper.writeValueAsBytes(responses);
+                case CBOR -> cborMapper.writeValueAsBytes(responses);
+                case SMILE -> smileMapper.writeValueAsBytes(responses);
+                case PROTOBUF -> writeProtobuf(responses);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The coding to send a body of {@code bodySize} bytes with, given the request's {@code Accept-Encoding}.
+     */
+    public ContentCoding coding(String acceptEncoding, int bodySize) {
+        if (!compressionEnabled || bodySize < minCompressedBytes) {
+            return ContentCoding.IDENTITY;
+        }
+        return ContentCoding.forAcceptEncoding(acceptEncoding);
+    }
+
+    /**
+     * Sizes every nested message before writing it, so the body is written into one exactly sized array.
+     */
+    private static byte[] writeProtobuf(List<TimeDepositResponse> responses) throws IOException {
+        int[] depositSizes = new int[responses.size()];
+        int size = 0;
+        for (int i = 0; i < depositSizes.length; i++) {
+            depositSizes[i] = depositSize(responses.get(i));
+            size += CodedOutputStream.computeTagSize(LIST_DEPOSITS)
+                    + CodedOutputStream.computeUInt32SizeNoTag(depositSizes[i]) + depositSizes[i];
+        }
+        byte[] body = new byte[size];
+        CodedOutputStream out = CodedOutputStream.newInstance(body);
+        for (int i = 0; i < depositSizes.length; i++) {
+            TimeDepositResponse deposit = responses.get(i);
+            out.writeTag(LIST_DEPOSITS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(depositSizes[i]);
+            writeInt32(out, DEPOSIT_ID, deposit.getId());
+            if (deposit.getPlanType() != null && !deposit.getPlanType().isEmpty()) {
+                out.writeString(DEPOSIT_PLAN_TYPE, deposit.getPlanType());
+            }
+            writeCents(out, DEPOSIT_BALANCE_CENTS, deposit.getBalance());
+            writeInt32(out, DEPOSIT_DAYS, deposit.getDays());
+            for (WithdrawalResponse withdrawal : withdrawals(deposit)) {
+                out.writeTag(DEPOSIT_WITHDRAWALS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                out.writeUInt32NoTag(withdrawalSize(withdrawal));
+                writeInt32(out, WITHDRAWAL_ID, withdrawal.getId());
+                writeInt32(out, WITHDRAWAL_TIME_DEPOSIT_ID, withdrawal.getTimeDepositId());
+                writeCents(out, WITHDRAWAL_AMOUNT_CENTS, withdrawal.getAmount());
+                writeInt32(out, WITHDRAWAL_DATE, epochDay(withdrawal));
+            }
+        }
+        out.checkNoSpaceLeft();
+        return body;
+    }
+
+    private static int depositSize(TimeDepositResponse deposit) {
+        int size = int32Size(DEPOSIT_ID, deposit.getId())
+                + centsSize(DEPOSIT_BALANCE_CENTS, deposit.getBalance())
+                + int32Size(DEPOSIT_DAYS, deposit.getDays());
+        if (deposit.getPlanType() != null && !deposit.getPlanType().isEmpty()) {
+            size += CodedOutputStream.computeStringSize(DEPOSIT_PLAN_TYPE, deposit.getPlanType());
+        }
+        for (WithdrawalResponse withdrawal : withdrawals(deposit)) {
+            int withdrawalSize = withdrawalSize(withdrawal);
+            size += CodedOutputStream.computeTagSize(DEPOSIT_WITHDRAWALS)
+                    + CodedOutputStream.computeUInt32SizeNoTag(withdrawalSize) + withdrawalSize;
+        }
+        return size;
+    }
+
+    private static int withdrawalSize(WithdrawalResponse withdrawal) {
+        return int32Size(WITHDRAWAL_ID, withdrawal.getId())
+                + int32Size(WITHDRAWAL_TIME_DEPOSIT_ID, withdrawal.getTimeDepositId())
+                + centsSize(WITHDRAWAL_AMOUNT_CENTS, withdrawal.getAmount())
+                + int32Size(WITHDRAWAL_DATE, epochDay(withdrawal));
+    }
+
+    private static List<WithdrawalResponse> withdrawals(TimeDepositResponse deposit) {
+        return deposit.getWithdrawals() == null ? List.of() : deposit.getWithdrawals();
+    }
+
+    private static Integer epochDay(WithdrawalResponse withdrawal) {
+        return withdrawal.getDate() == null ? null : Math.toIntExact(withdrawal.getDate().toEpochDay());
+    }
+
+    private static int int32Size(int field, Integer value) {
+        return value == null || value == 0 ? 0 : CodedOutputStream.computeInt32Size(field, value);
+    }
+
+    private static void writeInt32(CodedOutputStream out, int field, Integer value) throws IOException {
+        if (value != null && value != 0) {
+            out.writeInt32(field, value);
+        }
+    }
+
+    private static int centsSize(int field, BigDecimal amount) {
+        long cents = cents(amount);
+        return cents == 0 ? 0 : CodedOutputStream.computeInt64Size(field, cents);
+    }
+
+    private static void writeCents(CodedOutputStream out, int field, BigDecimal amount) throws IOException {
+        long cents = cents(amount);
+        if (cents != 0) {
+            out.writeInt64(field, cents);
+        }
+    }
+
+    /**
+     * Amounts are stored with two decimals, so converting them to cents never rounds.
+     */
+    private static long cents(BigDecimal amount) {
+        return amount == null ? 0 : amount.movePointRight(2).longValueExact();
+    }
+}
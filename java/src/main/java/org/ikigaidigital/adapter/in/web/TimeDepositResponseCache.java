@@ -0,0 +1,150 @@
+package org.ikigaidigital.adapter.in.web;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.ikigaidigital.domain.model.BalancesChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Serialized deposit listings keyed by request, evicted least recently used once their bodies
+ * exceed {@code max-bytes} in total. An entry is served only while the database's current change
+ * token, read by the caller for each request, still equals the token it was rendered at, so a write
+ * committed by any instance makes it stale. Every entry is also tied to the generation it was rendered in; a
+ * {@link BalancesChangedEvent} starts a new generation and drops all entries, and a listing rendered
+ * while that happened is not stored. A new generation starts both when the event is published and
+ * when its transaction completes, so a listing rendered from the balances before the commit does
+ * not outlive it, and one rendered from a rolled-back transaction is dropped too. The generations
+ * only free memory early for writes made by this instance.
+ */
+@Component
+public class TimeDepositResponseCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long generation;
+    private long bytes;
+
+    public TimeDepositResponseCache(@Value("${time-deposit.api.response-cache.max-bytes:16777216}") long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Response cache size must not be negative: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cached listing for {@code key} if it was rendered at {@code changeToken}, the change
+     * token just read from the database; otherwise renders it with {@code renderer} and caches it in
+     * place of the stale one. Rendering happens outside the lock, so concurrent misses may render the
+     * same listing twice.
+     */
+    public Entry get(String key, long changeToken, Supplier<Rendered> renderer) {
+        long renderedIn;
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null && cached.getChangeToken() == changeToken) {
+                return cached;
+            }
+            renderedIn = generation;
+        }
+        Rendered rendered = renderer.get();
+        Entry entry = entry(rendered.getBody(), rendered.getNextCursor(), rendered.getChangeToken(), renderedIn);
+        store(key, entry, renderedIn);
+        return entry;
+    }
+
+    /**
+     * Returns the cached variant of {@code source}, such as a compressed copy, stored under {@code key},
+     * deriving and caching it with {@code transform} on a miss or when the cached variant was derived
+     * from a listing at another change token. A variant of an entry from an earlier generation is
+     * returned but not stored, so a variant never outlives its source.
+     */
+    public Entry getVariant(String key, Entry source, UnaryOperator<byte[]> transform) {
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null && cached.getChangeToken() == source.getChangeToken()) {
+                return cached;
+            }
+        }
+        Entry entry = entry(transform.apply(source.getBody()), source.getNextCursor(), source.getChangeToken(),
+                source.generation);
+        store(key, entry, source.generation);
+        return entry;
+    }
+
+    @EventListener
+    public void onBalancesChanging(BalancesChangedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onBalancesChangeCompleted(BalancesChangedEvent event) {
+        invalidate();
+    }
+
+    private synchronized void invalidate() {
+        generation++;
+        entries.clear();
+        bytes = 0;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static Entry entry(byte[] body, Integer nextCursor, long changeToken, long generation) {
+        return new Entry(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"", nextCursor, changeToken, generation);
+    }
+
+    private synchronized void store(String key, Entry entry, long renderedIn) {
+        if (renderedIn != generation || entry.getBody().length > maxBytes) {
+            return;
+        }
+        Entry previous = entries.put(key, entry);
+        bytes += entry.getBody().length - (previous == null ? 0 : previous.getBody().length);
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes) {
+            bytes -= eldest.next().getValue().getBody().length;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * A serialized listing, with the cursor of the page that follows it, if any, and the change token
+     * read before its deposits.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Rendered {
+
+        private final byte[] body;
+        private final Integer nextCursor;
+        private final long changeToken;
+    }
+
+    /**
+     * A cached listing with its strong entity tag, derived from the body so it stays valid across restarts.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+
+        private final byte[] body;
+        private final String etag;
+        private final Integer nextCursor;
+        private final long changeToken;
+        @Getter(AccessLevel.NONE)
+        private final long generation;
+    }
+}
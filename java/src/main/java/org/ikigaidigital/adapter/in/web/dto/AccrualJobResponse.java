@@ -0,0 +1,39 @@
+package org.ikigaidigital.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Asynchronous balance update job")
+public class AccrualJobResponse {
+
+    @Schema(description = "Unique identifier of the job", example = "3f1c2a9e-6f0b-4f4e-9a55-0d3e1c7b2a10")
+    private String id;
+
+    @Schema(description = "Job status (QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED)", example = "RUNNING")
+    private String status;
+
+    @Schema(description = "Deposits covered by committed chunks so far", example = "25000")
+    private long processed;
+
+    @Schema(description = "Deposits the run will visit, or -1 until counted", example = "100000")
+    private long total;
+
+    @Schema(description = "When the job was submitted", example = "2024-03-01T10:15:30Z")
+    private Instant submittedAt;
+
+    @Schema(description = "When the job started running", example = "2024-03-01T10:15:31Z")
+    private Instant startedAt;
+
+    @Schema(description = "When the job finished", example = "2024-03-01T10:17:02Z")
+    private Instant finishedAt;
+
+    @Schema(description = "Failure message of a FAILED job")
+    private String error;
+}
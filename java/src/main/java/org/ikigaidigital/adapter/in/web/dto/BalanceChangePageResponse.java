@@ -0,0 +1,21 @@
+package org.ikigaidigital.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Page of the balance change feed")
+public class BalanceChangePageResponse {
+
+    @Schema(description = "Changes in offset order")
+    private List<BalanceChangeResponse> changes;
+
+    @Schema(description = "Offset to pass as `after` for the next poll", example = "42")
+    private Long nextOffset;
+}
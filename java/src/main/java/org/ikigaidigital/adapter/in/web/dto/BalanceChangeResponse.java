@@ -0,0 +1,31 @@
+package org.ikigaidigital.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Balance of one time deposit changed by a monthly interest run")
+public class BalanceChangeResponse {
+
+    @Schema(description = "Position of the change in the feed, ascending in commit order", example = "42")
+    private Long offset;
+
+    @Schema(description = "Unique identifier of the time deposit", example = "1")
+    private Integer id;
+
+    @Schema(description = "Month whose interest was credited", type = "string", example = "2024-03")
+    private YearMonth period;
+
+    @Schema(description = "Balance before the credit", example = "10000.00")
+    private BigDecimal oldBalance;
+
+    @Schema(description = "Balance after the credit", example = "10008.33")
+    private BigDecimal newBalance;
+}
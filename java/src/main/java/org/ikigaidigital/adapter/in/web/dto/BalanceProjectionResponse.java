@@ -0,0 +1,31 @@
+package org.ikigaidigital.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Balance trajectory of one time deposit or of the whole portfolio")
+public class BalanceProjectionResponse {
+
+    @Schema(description = "Id of the time deposit; absent for the portfolio", example = "1")
+    private Integer id;
+
+    @Schema(description = "Type of plan; absent for the portfolio", example = "basic")
+    private String planType;
+
+    @Schema(description = "Number of deposits projected", example = "1")
+    private Long deposits;
+
+    @Schema(description = "Current balance", example = "10000.00")
+    private BigDecimal balance;
+
+    @Schema(description = "Projected balance after each coming monthly run")
+    private List<ProjectedMonthResponse> months;
+}
@@ -0,0 +1,25 @@
+package org.ikigaidigital.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a bulk import")
+public class ImportResponse {
+
+    @Schema(description = "Number of time deposits inserted", example = "1000000")
+    private Long deposits;
+
+    @Schema(description = "Number of withdrawals inserted", example = "250000")
+    private Long withdrawals;
+
+    @Schema(description = "Wall-clock duration of the import in milliseconds", example = "20000")
+    private Long elapsedMillis;
+
+    @Schema(description = "Rows inserted per second", example = "62500")
+    private Long rowsPerSecond;
+}
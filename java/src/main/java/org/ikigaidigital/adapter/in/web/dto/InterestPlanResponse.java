@@ -0,0 +1,21 @@
+package org.ikigaidigital.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data-driven interest plan")
+public class InterestPlanResponse {
+
+    @Schema(description = "Plan type the plan applies to", example = "student")
+    private String planType;
+
+    @Schema(description = "Interest tiers in ascending order of deposit age")
+    private List<InterestTierResponse> tiers;
+}
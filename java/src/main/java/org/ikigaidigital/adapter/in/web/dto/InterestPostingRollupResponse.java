@@ -0,0 +1,24 @@
+package org.ikigaidigital.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Interest posted to the time deposits of one plan type in one month")
+public class InterestPostingRollupResponse {
+
+    @Schema(description = "Type of plan", example = "premium")
+    private String planType;
+
+    @Schema(description = "Number of deposits credited", example = "118")
+    private Long postings;
+
+    @Schema(description = "Sum of the credited interest", example = "5208.33")
+    private BigDecimal totalAmount;
+}
@@ -0,0 +1,24 @@
+package org.ikigaidigital.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Band of deposit ages earning one annual rate")
+public class InterestTierResponse {
+
+    @Schema(description = "Deposits older than this many days are in the tier", example = "30")
+    private Integer afterDays;
+
+    @Schema(description = "Deposits at most this many days old are in the tier; absent when unbounded", example = "365")
+    private Integer upToDays;
+
+    @Schema(description = "Annual interest rate, credited monthly as one twelfth", example = "0.03")
+    private BigDecimal annualRate;
+}
@@ -0,0 +1,22 @@
+package org.ikigaidigital.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of this instance's pass over the accrual partitions of a month")
+public class PartitionedAccrualResponse {
+
+    @Schema(description = "Month accrued", example = "2024-03")
+    private String period;
+
+    @Schema(description = "Partitions accrued and completed by this instance", example = "5")
+    private int accruedPartitions;
+
+    @Schema(description = "Partitions of the month not yet completed by any instance", example = "0")
+    private int openPartitions;
+}
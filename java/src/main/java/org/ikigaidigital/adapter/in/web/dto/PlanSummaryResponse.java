@@ -0,0 +1,34 @@
+package org.ikigaidigital.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Aggregates of the time deposits of one plan type")
+public class PlanSummaryResponse {
+
+    @Schema(description = "Type of plan", example = "premium")
+    private String planType;
+
+    @Schema(description = "Number of deposits", example = "120")
+    private Long deposits;
+
+    @Schema(description = "Sum of the current balances", example = "1250000.00")
+    private BigDecimal totalBalance;
+
+    @Schema(description = "Number of withdrawals made from these deposits", example = "14")
+    private Long withdrawals;
+
+    @Schema(description = "Sum of the withdrawn amounts", example = "3500.00")
+    private BigDecimal totalWithdrawn;
+
+    @Schema(description = "Interest the next monthly update would credit at the current balances; "
+            + "absent when the plan type has no declarative rule", example = "5208.33")
+    private BigDecimal projectedInterest;
+}
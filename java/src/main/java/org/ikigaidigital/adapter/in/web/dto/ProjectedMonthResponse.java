@@ -0,0 +1,24 @@
+package org.ikigaidigital.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Projected balance after one future monthly run")
+public class ProjectedMonthResponse {
+
+    @Schema(description = "Number of monthly runs from now", example = "1")
+    private Integer month;
+
+    @Schema(description = "Balance after the run", example = "10008.33")
+    private BigDecimal balance;
+
+    @Schema(description = "Interest credited by the run", example = "8.33")
+    private BigDecimal interest;
+}
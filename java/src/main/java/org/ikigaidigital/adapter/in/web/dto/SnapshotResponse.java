@@ -0,0 +1,22 @@
+package org.ikigaidigital.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a portfolio snapshot export")
+public class SnapshotResponse {
+
+    @Schema(description = "Number of time deposits written", example = "10000000")
+    private Long deposits;
+
+    @Schema(description = "Size of the snapshot in bytes", example = "320000068")
+    private Long bytes;
+
+    @Schema(description = "Wall-clock duration of the export in milliseconds", example = "15000")
+    private Long elapsedMillis;
+}
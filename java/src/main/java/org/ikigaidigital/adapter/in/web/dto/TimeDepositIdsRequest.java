@@ -0,0 +1,18 @@
+package org.ikigaidigital.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Set of time deposits selected by id")
+public class TimeDepositIdsRequest {
+
+    @Schema(description = "Ids of the time deposits", example = "[1, 4, 6]")
+    private List<Integer> ids;
+}
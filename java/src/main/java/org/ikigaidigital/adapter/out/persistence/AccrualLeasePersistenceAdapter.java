@@ -0,0 +1,132 @@
+package org.ikigaidigital.adapter.out.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ikigaidigital.domain.model.AccrualPartition;
+import org.ikigaidigital.domain.port.out.AccrualLeaseRepository;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Leases partitions through the {@code accrual_partitions} table. A claim reads a free partition and
+ * takes it with an {@code UPDATE} that only succeeds while the partition is still free, so two
+ * instances can never both hold it. On databases that support {@code SKIP LOCKED} the read also locks
+ * the row and skips rows locked by concurrent claims, so instances claiming at the same time are
+ * handed different partitions instead of racing for the same one; elsewhere a claim that loses the
+ * race moves on to the next free partition.
+ */
+@Slf4j
+@Component
+public class AccrualLeasePersistenceAdapter implements AccrualLeaseRepository {
+
+    /**
+     * Databases that skip locked rows before applying {@code LIMIT}; H2 applies the limit first and then
+     * returns nothing while the lowest free partition is being claimed.
+     */
+    private static final Set<String> SKIP_LOCKED_DATABASES = Set.of("PostgreSQL", "MySQL");
+
+    private static final int MAX_CLAIM_ATTEMPTS = 8;
+
+    private static final String FREE_PREDICATE =
+            "period = ? AND completed_at IS NULL AND (lease_until IS NULL OR lease_until < ?)";
+    private static final String SELECT_FREE_SQL = "SELECT partition_no, after_id, up_to_id FROM accrual_partitions "
+            + "WHERE " + FREE_PREDICATE + " ORDER BY partition_no";
+    private static final String CLAIM_SQL = "UPDATE accrual_partitions SET owner = ?, lease_until = ? "
+            + "WHERE partition_no = ? AND " + FREE_PREDICATE;
+    private static final String RENEW_SQL = "UPDATE accrual_partitions SET lease_until = ? "
+            + "WHERE period = ? AND partition_no = ? AND owner = ? AND completed_at IS NULL";
+    private static final String COMPLETE_SQL = "UPDATE accrual_partitions SET completed_at = ?, lease_until = NULL "
+            + "WHERE period = ? AND partition_no = ? AND owner = ? AND completed_at IS NULL";
+    private static final String INSERT_SQL =
+            "INSERT INTO accrual_partitions (period, partition_no, after_id, up_to_id) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean skipLocked;
+
+    public AccrualLeasePersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        this.skipLocked = SKIP_LOCKED_DATABASES.contains(database);
+        log.debug("Claiming accrual partitions on {} {} SKIP LOCKED", database, skipLocked ? "with" : "without");
+    }
+
+    @Override
+    public boolean hasPartitions(YearMonth period) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM accrual_partitions WHERE period = ?",
+                Integer.class, period.atDay(1)) > 0;
+    }
+
+    @Override
+    public void createPartitions(YearMonth period, List<Integer> boundaries) {
+        LocalDate periodStart = period.atDay(1);
+        List<Object[]> rows = new ArrayList<>(boundaries.size() + 1);
+        for (int number = 0; number <= boundaries.size(); number++) {
+            rows.add(new Object[]{periodStart, number,
+                    number == 0 ? null : boundaries.get(number - 1),
+                    number == boundaries.size() ? null : boundaries.get(number)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    /**
+     * Must run inside a transaction, which holds the row lock of {@code SKIP LOCKED} until the claim
+     * commits. A candidate can still be taken by a claim that committed after it was read; the free
+     * partitions are then read again, a bounded number of times.
+     */
+    @Override
+    public Optional<AccrualPartition> claim(YearMonth period, String owner, Instant now, Instant leaseUntil) {
+        LocalDate periodStart = period.atDay(1);
+        OffsetDateTime nowUtc = utc(now);
+        OffsetDateTime leaseUntilUtc = utc(leaseUntil);
+        String sql = skipLocked ? SELECT_FREE_SQL + " LIMIT 1 FOR UPDATE SKIP LOCKED" : SELECT_FREE_SQL;
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            List<AccrualPartition> candidates = jdbcTemplate.query(sql, (rs, rowNum) -> new AccrualPartition(period,
+                    rs.getInt(1), rs.getObject(2, Integer.class), rs.getObject(3, Integer.class)), periodStart, nowUtc);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            for (AccrualPartition candidate : candidates) {
+                int claimed = jdbcTemplate.update(CLAIM_SQL, owner, leaseUntilUtc, candidate.getNumber(), periodStart,
+                        nowUtc);
+                if (claimed == 1) {
+                    return Optional.of(candidate);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean renew(AccrualPartition partition, String owner, Instant leaseUntil) {
+        return jdbcTemplate.update(RENEW_SQL, utc(leaseUntil), partition.getPeriod().atDay(1),
+                partition.getNumber(), owner) == 1;
+    }
+
+    @Override
+    public boolean complete(AccrualPartition partition, String owner, Instant now) {
+        return jdbcTemplate.update(COMPLETE_SQL, utc(now), partition.getPeriod().atDay(1),
+                partition.getNumber(), owner) == 1;
+    }
+
+    @Override
+    public int countOpenPartitions(YearMonth period) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM accrual_partitions WHERE period = ? AND completed_at IS NULL",
+                Integer.class, period.atDay(1));
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
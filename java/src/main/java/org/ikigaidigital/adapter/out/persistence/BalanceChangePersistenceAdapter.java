@@ -0,0 +1,40 @@
+package org.ikigaidigital.adapter.out.persistence;
+
+import org.ikigaidigital.domain.model.BalanceChange;
+import org.ikigaidigital.domain.port.out.BalanceChangeRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Reads the {@code balance_changes} outbox by primary key range. The feed row is read without a lock:
+ * it only ever holds the offset of the last committed change.
+ */
+@Component
+public class BalanceChangePersistenceAdapter implements BalanceChangeRepository {
+
+    private static final String FIND_AFTER_SQL = "SELECT feed_offset, time_deposit_id, period, old_balance, "
+            + "new_balance FROM balance_changes WHERE feed_offset > ? ORDER BY feed_offset LIMIT ?";
+    private static final String LAST_OFFSET_SQL = "SELECT last_offset FROM balance_change_feed WHERE id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BalanceChangePersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<BalanceChange> findAfter(long afterOffset, int limit) {
+        return jdbcTemplate.query(FIND_AFTER_SQL, (rs, rowNum) -> new BalanceChange(rs.getLong(1), rs.getInt(2),
+                YearMonth.from(rs.getDate(3).toLocalDate()), rs.getBigDecimal(4), rs.getBigDecimal(5)),
+                afterOffset, limit);
+    }
+
+    @Override
+    public long lastOffset() {
+        Long lastOffset = jdbcTemplate.queryForObject(LAST_OFFSET_SQL, Long.class);
+        return lastOffset == null ? 0 : lastOffset;
+    }
+}
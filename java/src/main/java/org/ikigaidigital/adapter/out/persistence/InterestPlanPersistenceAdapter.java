@@ -0,0 +1,38 @@
+package org.ikigaidigital.adapter.out.persistence;
+
+import org.ikigaidigital.domain.port.out.InterestPlanRepository;
+import org.ikigaidigital.domain.service.strategy.InterestPlan;
+import org.ikigaidigital.domain.service.strategy.InterestRule;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class InterestPlanPersistenceAdapter implements InterestPlanRepository {
+
+    private static final String SELECT_TIERS_SQL =
+            "SELECT plan_type, after_days, up_to_days, annual_rate FROM interest_plan_tiers "
+                    + "ORDER BY plan_type, after_days";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public InterestPlanPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<InterestPlan> findAll() {
+        Map<String, List<InterestRule>> tiersByPlanType = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_TIERS_SQL, rs -> {
+            tiersByPlanType.computeIfAbsent(rs.getString(1), planType -> new ArrayList<>())
+                    .add(new InterestRule(rs.getInt(2), rs.getObject(3, Integer.class), rs.getBigDecimal(4).stripTrailingZeros()));
+        });
+        List<InterestPlan> plans = new ArrayList<>(tiersByPlanType.size());
+        tiersByPlanType.forEach((planType, tiers) -> plans.add(new InterestPlan(planType, tiers)));
+        return plans;
+    }
+}
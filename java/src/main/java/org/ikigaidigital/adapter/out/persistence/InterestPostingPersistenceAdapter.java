@@ -0,0 +1,33 @@
+package org.ikigaidigital.adapter.out.persistence;
+
+import org.ikigaidigital.domain.model.InterestPostingRollup;
+import org.ikigaidigital.domain.port.out.InterestPostingRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Reads the {@code interest_postings} journal. The rollup filters on the leading column of the rollup
+ * index, which also holds the plan type and amount, so it reads one index range and neither the
+ * postings table nor {@code time_deposits}.
+ */
+@Component
+public class InterestPostingPersistenceAdapter implements InterestPostingRepository {
+
+    private static final String ROLLUP_SQL = "SELECT plan_type, COUNT(*), SUM(amount) FROM interest_postings "
+            + "WHERE period = ? GROUP BY plan_type ORDER BY plan_type";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public InterestPostingPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<InterestPostingRollup> rollUp(YearMonth period) {
+        return jdbcTemplate.query(ROLLUP_SQL, (rs, rowNum) ->
+                new InterestPostingRollup(rs.getString(1), rs.getLong(2), rs.getBigDecimal(3)), period.atDay(1));
+    }
+}
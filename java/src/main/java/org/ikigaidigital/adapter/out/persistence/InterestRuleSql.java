@@ -0,0 +1,49 @@
+package org.ikigaidigital.adapter.out.persistence;
+
+import org.ikigaidigital.domain.service.strategy.InterestRule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL rendering of declarative interest rules against the {@code time_deposits} columns.
+ * Plan types are bound as parameters; day thresholds and rates are rendered as numeric literals.
+ * {@code ROUND(x, 2)} rounds half away from zero on H2 and PostgreSQL, matching the
+ * {@code HALF_UP} rounding of the Java path for the positive balances we hold.
+ */
+class InterestRuleSql {
+
+    private final String interestExpression;
+    private final List<Object> interestArgs = new ArrayList<>();
+
+    InterestRuleSql(Map<String, InterestRule> rulesByPlanType) {
+        if (rulesByPlanType.isEmpty()) {
+            throw new IllegalArgumentException("At least one interest rule is required");
+        }
+        StringBuilder interest = new StringBuilder("CASE");
+        rulesByPlanType.forEach((planType, rule) -> {
+            interest.append(" WHEN ").append(condition(rule))
+                    .append(" THEN ROUND(balance * ").append(rule.getAnnualRate().toPlainString()).append(" / 12, 2)");
+            interestArgs.add(planType);
+        });
+        this.interestExpression = interest.append(" ELSE 0 END").toString();
+    }
+
+    /** Monthly interest of the current row, rounded to cents; {@code 0} when no rule applies. */
+    String interestExpression() {
+        return interestExpression;
+    }
+
+    List<Object> interestArgs() {
+        return interestArgs;
+    }
+
+    private static String condition(InterestRule rule) {
+        StringBuilder condition = new StringBuilder("(plan_type = ? AND days > ").append(rule.getAfterDays());
+        if (rule.getUpToDays() != null) {
+            condition.append(" AND days <= ").append(rule.getUpToDays());
+        }
+        return condition.append(")").toString();
+    }
+}
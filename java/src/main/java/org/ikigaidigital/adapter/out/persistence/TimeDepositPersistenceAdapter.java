@@ -1,55 +1,590 @@
 package org.ikigaidigital.adapter.out.persistence;
 
+import jakarta.persistence.EntityManager;
 import org.ikigaidigital.adapter.out.persistence.entity.TimeDepositEntity;
 import org.ikigaidigital.adapter.out.persistence.entity.WithdrawalEntity;
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.PlanCodes;
+import org.ikigaidigital.domain.model.PlanSummary;
 import org.ikigaidigital.domain.model.TimeDeposit;
 import org.ikigaidigital.domain.model.Withdrawal;
+import org.ikigaidigital.domain.port.out.SnapshotRowConsumer;
 import org.ikigaidigital.domain.port.out.TimeDepositRepository;
+import org.ikigaidigital.domain.service.strategy.InterestRule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Component
 public class TimeDepositPersistenceAdapter implements TimeDepositRepository {
 
-    private final TimeDepositJpaRepository jpaRepository;
+    /** Deposits not yet accrued for the period bound to the placeholder, given as its first day. */
+    private static final String DUE_PREDICATE = "(last_accrued_period IS NULL OR last_accrued_period < ?)";
+    private static final String SELECT_BATCH_SQL =
+            "SELECT id, plan_type, days, CAST(balance * 100 AS BIGINT) AS balance_cents FROM time_deposits";
+    private static final String SELECT_DUE_SQL = SELECT_BATCH_SQL + " WHERE " + DUE_PREDICATE;
+    private static final String SELECT_DEPOSITS_SQL = "SELECT id, plan_type, days, balance FROM time_deposits";
+    private static final String SELECT_WITHDRAWALS_SQL =
+            "SELECT id, time_deposit_id, amount, date FROM withdrawals WHERE time_deposit_id IN (%s) ORDER BY id";
+    /** Ids bound per {@code IN} list, kept under the bind-parameter limits of common databases. */
+    static final int IN_LIST_SIZE = 1000;
+    static final RowMapper<TimeDeposit> DEPOSIT_ROW = (rs, rowNum) ->
+            new TimeDeposit(rs.getInt(1), rs.getString(2), rs.getInt(3), rs.getBigDecimal(4));
+    /**
+     * Withdrawals are aggregated per deposit before the join, so each deposit contributes one row to
+     * its plan type's group whatever its number of withdrawals.
+     */
+    private static final String WITHDRAWAL_TOTALS_JOIN = " LEFT JOIN ("
+            + "SELECT time_deposit_id, COUNT(*) AS withdrawal_count, SUM(amount) AS withdrawn "
+            + "FROM withdrawals GROUP BY time_deposit_id) w ON w.time_deposit_id = td.id";
+    private static final String SUMMARY_SQL =
+            "SELECT plan_type, COUNT(*), SUM(balance), SUM(COALESCE(withdrawal_count, 0)), "
+                    + "SUM(COALESCE(withdrawn, 0)), SUM(%s) FROM time_deposits td" + WITHDRAWAL_TOTALS_JOIN
+                    + " GROUP BY plan_type ORDER BY plan_type";
+    private static final String SNAPSHOT_SQL =
+            "SELECT td.id, td.plan_type, td.days, CAST(td.balance * 100 AS BIGINT), COALESCE(withdrawal_count, 0), "
+                    + "CAST(COALESCE(withdrawn, 0) * 100 AS BIGINT) FROM time_deposits td" + WITHDRAWAL_TOTALS_JOIN
+                    + " ORDER BY td.id";
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final String UPDATE_BALANCE_SQL = "UPDATE time_deposits SET balance = ?, row_version = ?, "
+            + "last_accrued_period = ? WHERE id = ? AND " + DUE_PREDICATE;
+    private static final String MARK_ACCRUED_SQL =
+            "UPDATE time_deposits SET last_accrued_period = ? WHERE " + DUE_PREDICATE + " AND id IN (%s)";
+    private static final String INSERT_POSTINGS =
+            "INSERT INTO interest_postings (time_deposit_id, period, plan_type, amount)";
+    private static final String INSERT_POSTING_SQL = INSERT_POSTINGS + " VALUES (?, ?, ?, ?)";
+    private static final String INSERT_CHANGES =
+            "INSERT INTO balance_changes (feed_offset, time_deposit_id, period, old_balance, new_balance)";
+    private static final String INSERT_CHANGE_SQL = INSERT_CHANGES + " VALUES (?, ?, ?, ?, ?)";
+    /**
+     * Balances credited by this transaction: postings of the period bound to the placeholder that have
+     * no change yet, since every other transaction writes both or is not visible.
+     */
+    private static final String INSERT_POSTED_CHANGES_SQL = INSERT_CHANGES
+            + " SELECT CAST(? AS BIGINT) + ROW_NUMBER() OVER (ORDER BY p.time_deposit_id), p.time_deposit_id, "
+            + "p.period, td.balance - p.amount, td.balance FROM interest_postings p "
+            + "JOIN time_deposits td ON td.id = p.time_deposit_id WHERE p.period = ? AND NOT EXISTS ("
+            + "SELECT 1 FROM balance_changes c WHERE c.time_deposit_id = p.time_deposit_id AND c.period = p.period)";
+    private static final String LOCK_FEED_SQL = "SELECT last_offset FROM balance_change_feed WHERE id = 1 FOR UPDATE";
+    private static final String ADVANCE_FEED_SQL = "UPDATE balance_change_feed SET last_offset = ? WHERE id = 1";
+    private static final String LOCK_VERSION_SQL =
+            "SELECT last_version FROM time_deposit_versions WHERE id = 1 FOR UPDATE";
+    private static final String ADVANCE_VERSION_SQL = "UPDATE time_deposit_versions SET last_version = ? WHERE id = 1";
+    private static final String CURRENT_VERSION_SQL = "SELECT last_version FROM time_deposit_versions WHERE id = 1";
 
-    public TimeDepositPersistenceAdapter(TimeDepositJpaRepository jpaRepository) {
-        this.jpaRepository = jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final int writeBatchSize;
+
+    public TimeDepositPersistenceAdapter(JdbcTemplate jdbcTemplate,
+                                         EntityManager entityManager,
+                                         @Value("${time-deposit.accrual.write-batch-size:500}") int writeBatchSize) {
+        if (writeBatchSize < 1) {
+            throw new IllegalArgumentException("Write batch size must be positive: " + writeBatchSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.writeBatchSize = writeBatchSize;
     }
 
+    /**
+     * Reads the deposit columns only, one row per deposit, and then the withdrawals of those deposits
+     * by id, so the result set never repeats a deposit for each of its withdrawals.
+     */
     @Override
     public List<TimeDeposit> findAll() {
-        return jpaRepository.findAllWithWithdrawals().stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        List<TimeDeposit> timeDeposits = jdbcTemplate.query(SELECT_DEPOSITS_SQL + " ORDER BY id", DEPOSIT_ROW);
+        attachWithdrawals(timeDeposits);
+        return timeDeposits;
+    }
+
+    @Override
+    public List<TimeDeposit> findPageAfter(Integer afterId, int limit) {
+        List<TimeDeposit> timeDeposits = jdbcTemplate.query(SELECT_DEPOSITS_SQL + " WHERE id > ? ORDER BY id LIMIT ?",
+                DEPOSIT_ROW, afterId == null ? Integer.MIN_VALUE : afterId, limit);
+        attachWithdrawals(timeDeposits);
+        return timeDeposits;
+    }
+
+    @Override
+    public Optional<TimeDeposit> findById(int id) {
+        List<TimeDeposit> timeDeposits = jdbcTemplate.query(SELECT_DEPOSITS_SQL + " WHERE id = ?", DEPOSIT_ROW, id);
+        attachWithdrawals(timeDeposits);
+        return timeDeposits.stream().findFirst();
+    }
+
+    /**
+     * Looks the deposits up by primary key, {@value #IN_LIST_SIZE} ids per statement, so the cost
+     * grows with the number of ids requested rather than with the book.
+     */
+    @Override
+    public List<TimeDeposit> findByIds(Collection<Integer> ids) {
+        List<TimeDeposit> timeDeposits = new ArrayList<>();
+        forEachSlice(ids, slice -> timeDeposits.addAll(jdbcTemplate.query(
+                SELECT_DEPOSITS_SQL + " WHERE id IN (" + placeholders(slice.size()) + ") ORDER BY id",
+                DEPOSIT_ROW, slice.toArray())));
+        attachWithdrawals(timeDeposits);
+        return timeDeposits;
     }
 
+    /**
+     * Reads the deposits by the row version index, so the cost grows with the number of changed
+     * deposits rather than with the book.
+     */
     @Override
-    public void saveAll(List<TimeDeposit> timeDeposits) {
-        List<TimeDepositEntity> entities = timeDeposits.stream()
-                .map(this::toEntity)
-                .collect(Collectors.toList());
-        jpaRepository.saveAll(entities);
+    public List<TimeDeposit> findChangedSince(long version) {
+        List<TimeDeposit> timeDeposits = jdbcTemplate.query(SELECT_DEPOSITS_SQL + " WHERE row_version > ? ORDER BY id",
+                DEPOSIT_ROW, version);
+        attachWithdrawals(timeDeposits);
+        return timeDeposits;
+    }
+
+    @Override
+    public long currentVersion() {
+        Long version = jdbcTemplate.queryForObject(CURRENT_VERSION_SQL, Long.class);
+        return version == null ? 0 : version;
+    }
+
+    /**
+     * Loads the withdrawals of the given deposits with one {@code IN} query per
+     * {@value #IN_LIST_SIZE} deposits and adds them, in id order, to their deposit.
+     */
+    private void attachWithdrawals(List<TimeDeposit> timeDeposits) {
+        Map<Integer, TimeDeposit> byId = new HashMap<>(timeDeposits.size() * 4 / 3 + 1);
+        for (TimeDeposit timeDeposit : timeDeposits) {
+            byId.put(timeDeposit.getId(), timeDeposit);
+        }
+        for (int start = 0; start < timeDeposits.size(); start += IN_LIST_SIZE) {
+            List<TimeDeposit> slice = timeDeposits.subList(start,
+                    Math.min(start + IN_LIST_SIZE, timeDeposits.size()));
+            String sql = String.format(SELECT_WITHDRAWALS_SQL, placeholders(slice.size()));
+            jdbcTemplate.query(sql, rs -> {
+                int timeDepositId = rs.getInt(2);
+                byId.get(timeDepositId).getWithdrawals().add(new Withdrawal(
+                        rs.getInt(1), timeDepositId, rs.getBigDecimal(3), rs.getObject(4, LocalDate.class)));
+            }, slice.stream().map(TimeDeposit::getId).toArray());
+        }
+    }
+
+    /**
+     * Streams the deposit columns only, one row per deposit, and hands the deposits on in pages of
+     * {@value #IN_LIST_SIZE}, each with its withdrawals attached by one {@code IN} query, so at most one
+     * page is held. The fetch size lets drivers such as PostgreSQL's use a server-side cursor when the
+     * caller holds a transaction.
+     */
+    @Override
+    public void forEach(Consumer<TimeDeposit> action) {
+        List<TimeDeposit> page = new ArrayList<>(IN_LIST_SIZE);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_DEPOSITS_SQL + " ORDER BY id");
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            page.add(DEPOSIT_ROW.mapRow(rs, page.size()));
+            if (page.size() == IN_LIST_SIZE) {
+                emitPage(page, action);
+            }
+        });
+        emitPage(page, action);
+    }
+
+    private void emitPage(List<TimeDeposit> page, Consumer<TimeDeposit> action) {
+        attachWithdrawals(page);
+        page.forEach(action);
+        page.clear();
     }
 
-    private TimeDeposit toDomain(TimeDepositEntity entity) {
-        List<Withdrawal> withdrawals = entity.getWithdrawals().stream()
-                .map(w -> new Withdrawal(w.getId(), entity.getId(), w.getAmount(), w.getDate()))
-                .collect(Collectors.toList());
+    @Override
+    public void forEachSnapshotRow(SnapshotRowConsumer consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SNAPSHOT_SQL);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            consumer.accept(rs.getInt(1), rs.getString(2), rs.getInt(3), rs.getLong(4), rs.getInt(5), rs.getLong(6));
+        });
+    }
+
+    /**
+     * Reads the four accrual columns straight from the result set into the batch, with the balance
+     * converted to cents by the database so no {@link BigDecimal} is created per row. Deposits already
+     * accrued for {@code period} are filtered by the database and never read.
+     */
+    @Override
+    public void fillBatchAfter(Integer afterId, Integer upToId, Collection<String> planTypes, YearMonth period,
+                               DepositBatch batch) {
+        batch.clear();
+        StringBuilder sql = new StringBuilder(SELECT_DUE_SQL).append(" AND id > ?");
+        List<Object> args = new ArrayList<>();
+        args.add(period.atDay(1));
+        args.add(afterId == null ? Integer.MIN_VALUE : afterId);
+        if (upToId != null) {
+            sql.append(" AND id <= ?");
+            args.add(upToId);
+        }
+        appendPlanTypeFilter(sql, args, planTypes);
+        sql.append(" ORDER BY id LIMIT ?");
+        args.add(batch.capacity());
+
+        jdbcTemplate.query(sql.toString(), batchRows(batch), args.toArray());
+    }
+
+    /**
+     * Same columns as {@link #fillBatchAfter}, without the accrual filter.
+     */
+    @Override
+    public void fillPageAfter(Integer afterId, DepositBatch batch) {
+        batch.clear();
+        jdbcTemplate.query(SELECT_BATCH_SQL + " WHERE id > ? ORDER BY id LIMIT ?", batchRows(batch),
+                afterId == null ? Integer.MIN_VALUE : afterId, batch.capacity());
+    }
+
+    /**
+     * Same columns as {@link #fillBatchAfter}, looked up by primary key.
+     */
+    @Override
+    public void fillBatch(Collection<Integer> ids, YearMonth period, DepositBatch batch) {
+        if (ids.size() > batch.capacity()) {
+            throw new IllegalArgumentException(
+                    "Cannot load " + ids.size() + " deposits into a batch of " + batch.capacity());
+        }
+        batch.clear();
+        RowCallbackHandler rows = batchRows(batch);
+        LocalDate periodStart = period.atDay(1);
+        forEachSlice(ids, slice -> {
+            List<Object> args = new ArrayList<>(slice.size() + 1);
+            args.add(periodStart);
+            args.addAll(slice);
+            jdbcTemplate.query(SELECT_DUE_SQL + " AND id IN (" + placeholders(slice.size()) + ") ORDER BY id", rows,
+                    args.toArray());
+        });
+    }
+
+    /**
+     * Appends each row of {@link #SELECT_BATCH_SQL} to the batch, its plan type encoded once with the
+     * batch's dictionary so the calculator can dispatch by code. Call after clearing the batch.
+     */
+    private static RowCallbackHandler batchRows(DepositBatch batch) {
+        PlanCodes planCodes = batch.planCodes();
+        return rs -> batch.add(rs.getInt(1), planCodes.codeOf(rs.getString(2)), rs.getInt(3), rs.getLong(4));
+    }
+
+    @Override
+    public long countDueDeposits(Collection<String> planTypes, YearMonth period) {
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM time_deposits WHERE " + DUE_PREDICATE);
+        List<Object> args = new ArrayList<>();
+        args.add(period.atDay(1));
+        appendPlanTypeFilter(sql, args, planTypes);
+        return jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray());
+    }
+
+    @Override
+    public List<Integer> findIdBoundaries(int partitions) {
+        List<Integer> boundaries = new ArrayList<>();
+        jdbcTemplate.query("SELECT MIN(id), MAX(id) FROM time_deposits", rs -> {
+            Integer min = rs.getObject(1, Integer.class);
+            if (min == null) {
+                return;
+            }
+            int max = rs.getInt(2);
+            long span = (long) max - min + 1;
+            for (int partition = 1; partition < partitions; partition++) {
+                int boundary = (int) (min - 1 + span * partition / partitions);
+                if (boundary >= min && boundary < max
+                        && (boundaries.isEmpty() || boundary > boundaries.get(boundaries.size() - 1))) {
+                    boundaries.add(boundary);
+                }
+            }
+        });
+        return boundaries;
+    }
 
-        return new TimeDeposit(
-                entity.getId(),
-                entity.getPlanType(),
-                entity.getDays(),
-                entity.getBalance(),
-                withdrawals
-        );
+    @Override
+    public List<PlanSummary> summarizeByPlanType(Map<String, InterestRule> rulesByPlanType) {
+        String interest = "0";
+        List<Object> args = new ArrayList<>();
+        if (!rulesByPlanType.isEmpty()) {
+            InterestRuleSql rules = new InterestRuleSql(rulesByPlanType);
+            interest = rules.interestExpression();
+            args.addAll(rules.interestArgs());
+        }
+        return jdbcTemplate.query(String.format(SUMMARY_SQL, interest), (rs, rowNum) -> {
+            String planType = rs.getString(1);
+            return new PlanSummary(planType, rs.getLong(2), toCents(rs.getBigDecimal(3)), rs.getLong(4),
+                    toCents(rs.getBigDecimal(5)),
+                    rulesByPlanType.containsKey(planType) ? toCents(rs.getBigDecimal(6)) : null);
+        }, args.toArray());
+    }
+
+    /**
+     * Sums of cent amounts come back with whatever scale the database derives for the expression; the
+     * values are already whole cents, so this only normalises the scale.
+     */
+    private static BigDecimal toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Persists through the entity manager, so Hibernate batches the inserts, with ids drawn from the
+     * pooled sequences one allocation at a time, then flushes and detaches. Every deposit gets the
+     * transaction's row version.
+     */
+    @Override
+    public void insertAll(List<TimeDeposit> timeDeposits) {
+        long version = nextVersion();
+        for (TimeDeposit timeDeposit : timeDeposits) {
+            TimeDepositEntity entity = toEntity(timeDeposit);
+            entity.setId(null);
+            entity.setRowVersion(version);
+            entity.getWithdrawals().forEach(withdrawal -> withdrawal.setId(null));
+            entityManager.persist(entity);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Issues JDBC-batched {@code UPDATE}s of the balance, row version and accrued period of every deposit
+     * that was credited interest, {@code writeBatchSize} rows per round trip, in the batch's ascending id
+     * order so concurrent writers always lock rows in the same order. Every balance actually written is
+     * recorded in the {@code interest_postings} journal and in the {@code balance_changes} outbox by
+     * JDBC-batched {@code INSERT}s of the same size. The deposits of the batch that earned nothing are
+     * then stamped with {@code period} by id, {@value #IN_LIST_SIZE} per statement. Only deposits of the
+     * batch are written, so a deposit inserted between its first and last id after the batch was read
+     * stays due, and every statement only touches deposits still due, so a deposit credited by a
+     * concurrent run is left alone.
+     * Managed entities are flushed first and detached afterwards so the persistence context never
+     * serves a balance older than the one just written.
+     */
+    @Override
+    public void saveBalances(DepositBatch batch, YearMonth period) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        LocalDate periodStart = period.atDay(1);
+        entityManager.flush();
+        List<Integer> uncredited = writeCreditedBalances(batch, periodStart);
+        forEachSlice(uncredited, slice -> {
+            List<Object> args = new ArrayList<>(slice.size() + 2);
+            args.add(periodStart);
+            args.add(periodStart);
+            args.addAll(slice);
+            jdbcTemplate.update(String.format(MARK_ACCRUED_SQL, placeholders(slice.size())), args.toArray());
+        });
+        entityManager.clear();
+    }
+
+    /**
+     * Writes and journals the credited deposits of the batch and returns the ids of the others.
+     */
+    private List<Integer> writeCreditedBalances(DepositBatch batch, LocalDate periodStart) {
+        int[] credited = new int[batch.size()];
+        List<Integer> uncredited = new ArrayList<>();
+        int count = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            if (batch.interestCents(i) != 0) {
+                credited[count++] = i;
+            } else {
+                uncredited.add(batch.id(i));
+            }
+        }
+        long version = count == 0 ? 0 : nextVersion();
+        int posted = 0;
+        for (int start = 0; start < count; start += writeBatchSize) {
+            int from = start;
+            int size = Math.min(writeBatchSize, count - start);
+            int[] updated = jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    int index = credited[from + i];
+                    ps.setBigDecimal(1, BigDecimal.valueOf(batch.balanceCents(index), 2));
+                    ps.setLong(2, version);
+                    ps.setObject(3, periodStart);
+                    ps.setInt(4, batch.id(index));
+                    ps.setObject(5, periodStart);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+            // A deposit credited by a concurrent run is no longer due and was not updated, so it gets no
+            // posting either. Compacting in place is safe: the write index never passes the read index.
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] != 0) {
+                    credited[posted++] = credited[from + i];
+                }
+            }
+        }
+        writePostings(batch, credited, posted, periodStart);
+        writeChanges(batch, credited, posted, periodStart);
+        return uncredited;
+    }
+
+    private void writePostings(DepositBatch batch, int[] posted, int count, LocalDate periodStart) {
+        for (int start = 0; start < count; start += writeBatchSize) {
+            int from = start;
+            int size = Math.min(writeBatchSize, count - start);
+            jdbcTemplate.batchUpdate(INSERT_POSTING_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    int index = posted[from + i];
+                    ps.setInt(1, batch.id(index));
+                    ps.setObject(2, periodStart);
+                    ps.setString(3, batch.planType(index));
+                    ps.setBigDecimal(4, BigDecimal.valueOf(batch.interestCents(index), 2));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+
+    /**
+     * Takes the next row version and keeps {@code time_deposit_versions} locked until commit, so versions
+     * become visible in ascending order: once a reader sees a version, every deposit written with it or
+     * an earlier one is visible too. Writers lock it before the deposits they write and before the feed.
+     */
+    private long nextVersion() {
+        long version = jdbcTemplate.queryForObject(LOCK_VERSION_SQL, Long.class) + 1;
+        jdbcTemplate.update(ADVANCE_VERSION_SQL, version);
+        return version;
+    }
+
+    /**
+     * Appends the balance changes to the outbox with the offsets following the last one handed out. The
+     * feed row stays locked until commit, so concurrent writers take their offsets in commit order;
+     * it is locked after the balances, like the set-based path does, so the two never deadlock.
+     */
+    private void writeChanges(DepositBatch batch, int[] posted, int count, LocalDate periodStart) {
+        if (count == 0) {
+            return;
+        }
+        long lastOffset = jdbcTemplate.queryForObject(LOCK_FEED_SQL, Long.class);
+        for (int start = 0; start < count; start += writeBatchSize) {
+            int from = start;
+            int size = Math.min(writeBatchSize, count - start);
+            jdbcTemplate.batchUpdate(INSERT_CHANGE_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    int index = posted[from + i];
+                    ps.setLong(1, lastOffset + from + i + 1);
+                    ps.setInt(2, batch.id(index));
+                    ps.setObject(3, periodStart);
+                    ps.setBigDecimal(4, BigDecimal.valueOf(batch.balanceCents(index) - batch.interestCents(index), 2));
+                    ps.setBigDecimal(5, BigDecimal.valueOf(batch.balanceCents(index), 2));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+        jdbcTemplate.update(ADVANCE_FEED_SQL, lastOffset + count);
+    }
+
+    /**
+     * Journals the interest of every due deposit of the ruled plan types that earns any with one
+     * {@code INSERT ... SELECT}, then credits and stamps every due deposit of those plan types with one
+     * {@code UPDATE}, including those that earn nothing this month, so a repeated run for the same
+     * period changes nothing. The update only credits deposits that earn nothing or were journaled for
+     * the period, so a deposit imported between the two statements is left due rather than credited
+     * without a posting. Every posting is then matched by a balance change in the outbox. Only deposits
+     * credited a non-zero amount get the new row version.
+     */
+    @Override
+    public int applyInterestRules(Map<String, InterestRule> rulesByPlanType, YearMonth period) {
+        if (rulesByPlanType.isEmpty()) {
+            return 0;
+        }
+        LocalDate periodStart = period.atDay(1);
+        InterestRuleSql rules = new InterestRuleSql(rulesByPlanType);
+        String interest = rules.interestExpression();
+
+        StringBuilder post = new StringBuilder(INSERT_POSTINGS)
+                .append(" SELECT id, CAST(? AS DATE), plan_type, ").append(interest)
+                .append(" FROM time_deposits WHERE ").append(DUE_PREDICATE)
+                .append(" AND ").append(interest).append(" <> 0");
+        List<Object> postArgs = new ArrayList<>();
+        postArgs.add(periodStart);
+        postArgs.addAll(rules.interestArgs());
+        postArgs.add(periodStart);
+        postArgs.addAll(rules.interestArgs());
+        appendPlanTypeFilter(post, postArgs, rulesByPlanType.keySet());
+
+        StringBuilder update = new StringBuilder("UPDATE time_deposits SET balance = balance + ").append(interest)
+                .append(", row_version = CASE WHEN ").append(interest).append(" <> 0 THEN ? ELSE row_version END")
+                .append(", last_accrued_period = ? WHERE ").append(DUE_PREDICATE)
+                .append(" AND (").append(interest)
+                .append(" = 0 OR id IN (SELECT time_deposit_id FROM interest_postings WHERE period = ?))");
+        List<Object> updateArgs = new ArrayList<>(rules.interestArgs());
+        updateArgs.addAll(rules.interestArgs());
+        int versionArg = updateArgs.size();
+        updateArgs.add(0L);
+        updateArgs.add(periodStart);
+        updateArgs.add(periodStart);
+        updateArgs.addAll(rules.interestArgs());
+        updateArgs.add(periodStart);
+        appendPlanTypeFilter(update, updateArgs, rulesByPlanType.keySet());
+
+        entityManager.flush();
+        jdbcTemplate.update(post.toString(), postArgs.toArray());
+        updateArgs.set(versionArg, nextVersion());
+        int accrued = jdbcTemplate.update(update.toString(), updateArgs.toArray());
+        long lastOffset = jdbcTemplate.queryForObject(LOCK_FEED_SQL, Long.class);
+        int changed = jdbcTemplate.update(INSERT_POSTED_CHANGES_SQL, lastOffset, periodStart);
+        if (changed > 0) {
+            jdbcTemplate.update(ADVANCE_FEED_SQL, lastOffset + changed);
+        }
+        entityManager.clear();
+        return accrued;
+    }
+
+    private static void appendPlanTypeFilter(StringBuilder sql, List<Object> args, Collection<String> planTypes) {
+        if (!planTypes.isEmpty()) {
+            sql.append(" AND plan_type IN (").append(placeholders(planTypes.size())).append(")");
+            args.addAll(planTypes);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /** Hands the distinct ids to {@code action} in ascending order, at most {@value #IN_LIST_SIZE} at a time. */
+    private static void forEachSlice(Collection<Integer> ids, Consumer<List<Integer>> action) {
+        List<Integer> sorted = new ArrayList<>(new TreeSet<>(ids));
+        for (int start = 0; start < sorted.size(); start += IN_LIST_SIZE) {
+            action.accept(sorted.subList(start, Math.min(start + IN_LIST_SIZE, sorted.size())));
+        }
     }
 
-    private TimeDepositEntity toEntity(TimeDeposit domain) {
+    TimeDepositEntity toEntity(TimeDeposit domain) {
         TimeDepositEntity entity = new TimeDepositEntity();
         entity.setId(domain.getId());
         entity.setPlanType(domain.getPlanType());
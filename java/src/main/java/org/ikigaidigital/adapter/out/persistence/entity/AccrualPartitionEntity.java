@@ -0,0 +1,51 @@
+package org.ikigaidigital.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Lease on one id range of the deposits for the accrual of {@code period}: deposits with an id greater
+ * than {@code afterId} and at most {@code upToId}. {@code owner} holds it until {@code leaseUntil};
+ * {@code completedAt} is set once every deposit of the range has been accrued. Mapped so the schema is
+ * generated with the others; rows are read and written through JDBC.
+ */
+@Entity
+@Table(name = "accrual_partitions", uniqueConstraints =
+        @UniqueConstraint(name = "uk_accrual_partitions", columnNames = {"period", "partition_no"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString
+public class AccrualPartitionEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Integer id;
+
+    @Column(nullable = false)
+    private LocalDate period;
+
+    @Column(name = "partition_no", nullable = false)
+    private Integer partitionNo;
+
+    private Integer afterId;
+
+    private Integer upToId;
+
+    private String owner;
+
+    private Instant leaseUntil;
+
+    private Instant completedAt;
+}
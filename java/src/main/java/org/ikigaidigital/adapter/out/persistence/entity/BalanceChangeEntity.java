@@ -0,0 +1,48 @@
+package org.ikigaidigital.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Outbox row of the balance change feed: the accrual of {@code period}, whose first day it holds,
+ * moved the balance of deposit {@code timeDepositId} from {@code oldBalance} to {@code newBalance}.
+ * Rows are inserted through JDBC in the transaction that writes the balance, numbered by
+ * {@code feedOffset} in commit order; mapped so the schema is generated with the others. Like the
+ * interest posting journal, it holds at most one change per deposit and period.
+ */
+@Entity
+@Table(name = "balance_changes", uniqueConstraints = @UniqueConstraint(name = "uk_balance_changes",
+        columnNames = {"time_deposit_id", "period"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString
+public class BalanceChangeEntity {
+
+    @Id
+    @Column(name = "feed_offset")
+    @EqualsAndHashCode.Include
+    private Long feedOffset;
+
+    @Column(nullable = false)
+    private Integer timeDepositId;
+
+    @Column(nullable = false)
+    private LocalDate period;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal oldBalance;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal newBalance;
+}
@@ -0,0 +1,32 @@
+package org.ikigaidigital.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * The single row, seeded by {@code data.sql}, holding the last offset handed out to a
+ * {@code balance_changes} row. Writers lock it until they commit, so offsets become visible in
+ * ascending order and a reader that saw an offset never later finds a smaller one.
+ */
+@Entity
+@Table(name = "balance_change_feed")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString
+public class BalanceChangeFeedEntity {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long lastOffset;
+}
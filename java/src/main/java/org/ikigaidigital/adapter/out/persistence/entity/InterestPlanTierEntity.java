@@ -0,0 +1,44 @@
+package org.ikigaidigital.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * One tier of a data-driven interest plan: deposits of {@code planType} older than {@code afterDays}
+ * and, when set, at most {@code upToDays} days earn {@code annualRate}. Mapped so the schema is
+ * generated with the others; rows are read through JDBC.
+ */
+@Entity
+@Table(name = "interest_plan_tiers", uniqueConstraints =
+        @UniqueConstraint(name = "uk_interest_plan_tiers", columnNames = {"plan_type", "after_days"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString
+public class InterestPlanTierEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Integer id;
+
+    @Column(nullable = false)
+    private String planType;
+
+    @Column(nullable = false)
+    private Integer afterDays;
+
+    private Integer upToDays;
+
+    @Column(nullable = false, precision = 9, scale = 6)
+    private BigDecimal annualRate;
+}
@@ -0,0 +1,50 @@
+package org.ikigaidigital.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Interest of {@code amount} credited to deposit {@code timeDepositId} by the accrual of {@code period},
+ * whose first day it holds, under the interest plan of {@code planType}. Rows are only ever inserted,
+ * through JDBC, in the transaction that credits the balance; mapped so the schema is generated with the
+ * others. The unique key allows one posting per deposit and period and serves lookups of a deposit's
+ * history; the rollup index holds every column the per-period rollup reads, so it never visits the table.
+ */
+@Entity
+@Table(name = "interest_postings",
+        uniqueConstraints = @UniqueConstraint(name = "uk_interest_postings",
+                columnNames = {"time_deposit_id", "period"}),
+        indexes = @Index(name = "idx_interest_postings_rollup", columnList = "period, plan_type, amount"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString
+public class InterestPostingEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Column(nullable = false)
+    private Integer timeDepositId;
+
+    @Column(nullable = false)
+    private LocalDate period;
+
+    @Column(nullable = false)
+    private String planType;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+}
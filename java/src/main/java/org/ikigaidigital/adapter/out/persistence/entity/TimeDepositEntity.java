@@ -7,13 +7,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "time_deposits")
+@Table(name = "time_deposits", indexes = {
+        @Index(name = "idx_time_deposits_accrual", columnList = "last_accrued_period, id"),
+        @Index(name = "idx_time_deposits_plan_type", columnList = "plan_type"),
+        @Index(name = "idx_time_deposits_row_version", columnList = "row_version")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,8 +28,15 @@ import java.util.List;
 @ToString(exclude = "withdrawals")
 public class TimeDepositEntity {
 
+    /**
+     * Ids reserved per sequence round trip, equal to the JDBC batch size so Hibernate can batch inserts
+     * (which {@code IDENTITY} columns prevent) with one sequence call per batch.
+     */
+    public static final int ID_ALLOCATION_SIZE = 500;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_deposits_seq")
+    @SequenceGenerator(name = "time_deposits_seq", sequenceName = "time_deposits_seq", allocationSize = ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Integer id;
 
@@ -36,6 +49,21 @@ public class TimeDepositEntity {
     @Column(nullable = false, precision = 19, scale = 2)
     private BigDecimal balance;
 
+    /**
+     * First day of the last month whose interest has been credited, or {@code null} if never.
+     * Written only by the accrual path, through JDBC, so JPA never inserts or overwrites it.
+     */
+    @Column(insertable = false, updatable = false)
+    private LocalDate lastAccruedPeriod;
+
+    /**
+     * Version of the transaction that inserted the deposit or last changed its balance, from
+     * {@code time_deposit_versions}; rows seeded without one are at version 0.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long rowVersion;
+
     @OneToMany(mappedBy = "timeDeposit", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<WithdrawalEntity> withdrawals = new ArrayList<>();
 }
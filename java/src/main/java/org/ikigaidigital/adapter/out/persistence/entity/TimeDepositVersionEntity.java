@@ -0,0 +1,32 @@
+package org.ikigaidigital.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * The single row, seeded by {@code data.sql}, holding the last row version given to a transaction that
+ * wrote {@code time_deposits}. Writers lock it until they commit, so a version read from it is never
+ * followed by a commit of the same or a smaller version.
+ */
+@Entity
+@Table(name = "time_deposit_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString
+public class TimeDepositVersionEntity {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long lastVersion;
+}
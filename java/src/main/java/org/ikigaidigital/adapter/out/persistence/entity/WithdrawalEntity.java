@@ -12,7 +12,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "withdrawals")
+@Table(name = "withdrawals", indexes = @Index(name = "idx_withdrawals_time_deposit", columnList = "time_deposit_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,7 +22,8 @@ import java.time.LocalDate;
 public class WithdrawalEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "withdrawals_seq")
+    @SequenceGenerator(name = "withdrawals_seq", sequenceName = "withdrawals_seq", allocationSize = TimeDepositEntity.ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     private Integer id;
     
@@ -0,0 +1,130 @@
+package org.ikigaidigital.adapter.out.snapshot;
+
+import org.ikigaidigital.domain.model.PlanCodes;
+import org.ikigaidigital.domain.model.PortfolioSnapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Snapshot read in place from a buffer, typically a read-only file mapping: every accessor is an
+ * absolute read at a fixed offset, so nothing is copied or allocated per deposit and concurrent
+ * readers need no locking.
+ * <p>
+ * Layout, little-endian:
+ * <pre>
+ * header   magic int, version int, deposits long, created-at epoch millis long, dictionary offset long
+ * records  one {@value #RECORD_SIZE}-byte record per deposit, in id order:
+ *          id int, plan code byte, 3 bytes padding, days int, withdrawals int,
+ *          balance cents long, withdrawn cents long
+ * dict     plan type count int, then per plan code its UTF-8 length short and bytes
+ * </pre>
+ * Longs sit at 8-byte aligned offsets.
+ */
+public final class MappedPortfolioSnapshot implements PortfolioSnapshot {
+
+    static final int MAGIC = 0x54445350;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 32;
+    static final int ID_OFFSET = 0;
+    static final int PLAN_CODE_OFFSET = 4;
+    static final int DAYS_OFFSET = 8;
+    static final int WITHDRAWALS_OFFSET = 12;
+    static final int BALANCE_OFFSET = 16;
+    static final int WITHDRAWN_OFFSET = 24;
+    /** A single mapping is limited to {@link Integer#MAX_VALUE} bytes, leaving room for the dictionary. */
+    static final int MAX_DEPOSITS = (Integer.MAX_VALUE - HEADER_SIZE - 64 * 1024) / RECORD_SIZE;
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final Instant createdAt;
+    private final PlanCodes planCodes;
+
+    /**
+     * @throws IllegalArgumentException if {@code buffer} does not hold a complete snapshot
+     */
+    public MappedPortfolioSnapshot(ByteBuffer buffer) {
+        this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (this.buffer.limit() < HEADER_SIZE || this.buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a portfolio snapshot");
+        }
+        if (this.buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported portfolio snapshot version: " + this.buffer.getInt(4));
+        }
+        long deposits = this.buffer.getLong(8);
+        long dictionaryOffset = this.buffer.getLong(24);
+        if (deposits < 0 || deposits > MAX_DEPOSITS || dictionaryOffset != HEADER_SIZE + deposits * RECORD_SIZE
+                || dictionaryOffset + Integer.BYTES > this.buffer.limit()) {
+            throw new IllegalArgumentException("Truncated portfolio snapshot");
+        }
+        this.size = (int) deposits;
+        this.createdAt = Instant.ofEpochMilli(this.buffer.getLong(16));
+        this.planCodes = readDictionary(this.buffer.position((int) dictionaryOffset).slice()
+                .order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    private static PlanCodes readDictionary(ByteBuffer dictionary) {
+        int count = dictionary.getInt();
+        List<String> planTypes = new ArrayList<>(count);
+        for (int code = 0; code < count; code++) {
+            byte[] name = new byte[dictionary.getShort()];
+            dictionary.get(name);
+            planTypes.add(new String(name, StandardCharsets.UTF_8));
+        }
+        return PlanCodes.of(planTypes);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    @Override
+    public PlanCodes planCodes() {
+        return planCodes;
+    }
+
+    @Override
+    public int id(int index) {
+        return buffer.getInt(offset(index) + ID_OFFSET);
+    }
+
+    @Override
+    public byte planCode(int index) {
+        return buffer.get(offset(index) + PLAN_CODE_OFFSET);
+    }
+
+    @Override
+    public int days(int index) {
+        return buffer.getInt(offset(index) + DAYS_OFFSET);
+    }
+
+    @Override
+    public long balanceCents(int index) {
+        return buffer.getLong(offset(index) + BALANCE_OFFSET);
+    }
+
+    @Override
+    public int withdrawals(int index) {
+        return buffer.getInt(offset(index) + WITHDRAWALS_OFFSET);
+    }
+
+    @Override
+    public long withdrawnCents(int index) {
+        return buffer.getLong(offset(index) + WITHDRAWN_OFFSET);
+    }
+
+    private static int offset(int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+}
@@ -0,0 +1,208 @@
+package org.ikigaidigital.adapter.out.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ikigaidigital.domain.model.PortfolioSnapshot;
+import org.ikigaidigital.domain.port.out.PortfolioSnapshotStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.ikigaidigital.adapter.out.snapshot.MappedPortfolioSnapshot.BALANCE_OFFSET;
+import static org.ikigaidigital.adapter.out.snapshot.MappedPortfolioSnapshot.DAYS_OFFSET;
+import static org.ikigaidigital.adapter.out.snapshot.MappedPortfolioSnapshot.HEADER_SIZE;
+import static org.ikigaidigital.adapter.out.snapshot.MappedPortfolioSnapshot.ID_OFFSET;
+import static org.ikigaidigital.adapter.out.snapshot.MappedPortfolioSnapshot.MAGIC;
+import static org.ikigaidigital.adapter.out.snapshot.MappedPortfolioSnapshot.MAX_DEPOSITS;
+import static org.ikigaidigital.adapter.out.snapshot.MappedPortfolioSnapshot.PLAN_CODE_OFFSET;
+import static org.ikigaidigital.adapter.out.snapshot.MappedPortfolioSnapshot.RECORD_SIZE;
+import static org.ikigaidigital.adapter.out.snapshot.MappedPortfolioSnapshot.VERSION;
+import static org.ikigaidigital.adapter.out.snapshot.MappedPortfolioSnapshot.WITHDRAWALS_OFFSET;
+import static org.ikigaidigital.adapter.out.snapshot.MappedPortfolioSnapshot.WITHDRAWN_OFFSET;
+
+/**
+ * Keeps the snapshot in one file, in the {@link MappedPortfolioSnapshot} layout, and opens it with
+ * {@link FileChannel#map}: opening costs a system call whatever the size, and the pages are read on
+ * first access and then served from the page cache. A new snapshot is written to a temporary file next
+ * to it and moved over it on commit, so a mapping of the previous file stays valid while it is in use.
+ */
+@Slf4j
+@Component
+public class MappedPortfolioSnapshotStore implements PortfolioSnapshotStore {
+
+    private static final int WRITE_BUFFER_RECORDS = 2048;
+
+    private final Path path;
+    private final Clock clock;
+
+    @Autowired
+    public MappedPortfolioSnapshotStore(
+            @Value("${time-deposit.snapshot.path:${java.io.tmpdir}/time-deposits.snapshot}") Path path) {
+        this(path, Clock.systemUTC());
+    }
+
+    MappedPortfolioSnapshotStore(Path path, Clock clock) {
+        this.path = path.toAbsolutePath();
+        this.clock = clock;
+    }
+
+    @Override
+    public Writer openWriter() {
+        try {
+            Files.createDirectories(path.getParent());
+            Path temporary = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            return new FileWriter(temporary);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create portfolio snapshot next to " + path, e);
+        }
+    }
+
+    @Override
+    public Optional<PortfolioSnapshot> open() {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return Optional.of(new MappedPortfolioSnapshot(
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open portfolio snapshot " + path, e);
+        }
+    }
+
+    private class FileWriter implements Writer {
+
+        private final Path temporary;
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_RECORDS * RECORD_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        private final Map<String, Byte> planCodes = new HashMap<>();
+        private final List<String> planTypes = new ArrayList<>();
+        private long deposits;
+        private boolean committed;
+
+        FileWriter(Path temporary) throws IOException {
+            this.temporary = temporary;
+            this.channel = FileChannel.open(temporary, StandardOpenOption.WRITE);
+            channel.position(HEADER_SIZE);
+        }
+
+        @Override
+        public void accept(int id, String planType, int days, long balanceCents, int withdrawals,
+                           long withdrawnCents) {
+            if (deposits == MAX_DEPOSITS) {
+                throw new IllegalStateException("A portfolio snapshot holds at most " + MAX_DEPOSITS + " deposits");
+            }
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int start = buffer.position();
+            buffer.putInt(start + ID_OFFSET, id)
+                    .put(start + PLAN_CODE_OFFSET, codeOf(planType))
+                    .putInt(start + DAYS_OFFSET, days)
+                    .putInt(start + WITHDRAWALS_OFFSET, withdrawals)
+                    .putLong(start + BALANCE_OFFSET, balanceCents)
+                    .putLong(start + WITHDRAWN_OFFSET, withdrawnCents)
+                    .position(start + RECORD_SIZE);
+            deposits++;
+        }
+
+        @Override
+        public long commit() {
+            flush();
+            try {
+                long dictionaryOffset = HEADER_SIZE + deposits * RECORD_SIZE;
+                ByteBuffer dictionary = ByteBuffer.allocate(dictionarySize()).order(ByteOrder.LITTLE_ENDIAN);
+                dictionary.putInt(planTypes.size());
+                for (String planType : planTypes) {
+                    byte[] name = planType.getBytes(StandardCharsets.UTF_8);
+                    dictionary.putShort((short) name.length).put(name);
+                }
+                writeFully(dictionary.flip(), dictionaryOffset);
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                        .putInt(MAGIC)
+                        .putInt(VERSION)
+                        .putLong(deposits)
+                        .putLong(clock.millis())
+                        .putLong(dictionaryOffset);
+                writeFully(header.flip(), 0);
+                channel.force(true);
+                channel.close();
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                committed = true;
+                return dictionaryOffset + dictionary.limit();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write portfolio snapshot " + path, e);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (committed) {
+                return;
+            }
+            try {
+                channel.close();
+                Files.deleteIfExists(temporary);
+            } catch (IOException e) {
+                log.warn("Cannot discard unfinished portfolio snapshot {}", temporary, e);
+            }
+        }
+
+        private byte codeOf(String planType) {
+            Byte code = planCodes.get(planType);
+            if (code != null) {
+                return code;
+            }
+            if (planTypes.size() > Byte.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct plan types in one snapshot: " + planTypes.size());
+            }
+            byte newCode = (byte) planTypes.size();
+            planTypes.add(planType);
+            planCodes.put(planType, newCode);
+            return newCode;
+        }
+
+        private int dictionarySize() {
+            int size = Integer.BYTES;
+            for (String planType : planTypes) {
+                size += Short.BYTES + planType.getBytes(StandardCharsets.UTF_8).length;
+            }
+            return size;
+        }
+
+        private void flush() {
+            try {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                buffer.clear();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write portfolio snapshot " + path, e);
+            }
+        }
+
+        private void writeFully(ByteBuffer source, long position) throws IOException {
+            while (source.hasRemaining()) {
+                position += channel.write(source, position);
+            }
+        }
+    }
+}
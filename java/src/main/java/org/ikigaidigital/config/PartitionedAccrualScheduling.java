@@ -0,0 +1,38 @@
+package org.ikigaidigital.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ikigaidigital.domain.model.PartitionedAccrualResult;
+import org.ikigaidigital.domain.port.in.AccruePartitionsUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.YearMonth;
+
+/**
+ * Polls the accrual partitions of the current month on every instance when
+ * {@code time-deposit.accrual.partitions.poll-interval} is set. Polls after the month is done only
+ * find every partition completed.
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty("time-deposit.accrual.partitions.poll-interval")
+public class PartitionedAccrualScheduling {
+
+    private final AccruePartitionsUseCase accruePartitionsUseCase;
+
+    public PartitionedAccrualScheduling(AccruePartitionsUseCase accruePartitionsUseCase) {
+        this.accruePartitionsUseCase = accruePartitionsUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${time-deposit.accrual.partitions.poll-interval}")
+    public void accruePartitions() {
+        PartitionedAccrualResult result = accruePartitionsUseCase.accruePartitions(YearMonth.now());
+        if (result.getAccruedPartitions() > 0) {
+            log.info("Accrued {} partitions of {}, {} still open",
+                    result.getAccruedPartitions(), result.getPeriod(), result.getOpenPartitions());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.ikigaidigital.domain.model;
+
+/**
+ * Thrown by an accrual run that stopped because cancellation was requested. Chunks committed
+ * before the request keep their credited interest.
+ */
+public class AccrualCancelledException extends RuntimeException {
+
+    public AccrualCancelledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,106 @@
+package org.ikigaidigital.domain.model;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An accrual run submitted for background execution. The run updates the job through
+ * {@link AccrualProgress} from the executor thread while API threads read it, so every mutable
+ * field is volatile or atomic.
+ */
+public class AccrualJob implements AccrualProgress {
+
+    private final String id;
+    private final Instant submittedAt;
+    private final AtomicLong processed = new AtomicLong();
+    private volatile AccrualJobStatus status = AccrualJobStatus.QUEUED;
+    private volatile long total = -1;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+    private volatile boolean cancelRequested;
+
+    public AccrualJob(String id, Instant submittedAt) {
+        this.id = id;
+        this.submittedAt = submittedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public AccrualJobStatus getStatus() {
+        return status;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /** Deposits covered by committed chunks so far. */
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    /** Deposits the run will visit, or {@code -1} until the run has counted them. */
+    public long getTotal() {
+        return total;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    @Override
+    public void started(long total) {
+        this.total = total;
+    }
+
+    @Override
+    public void processed(long deposits) {
+        processed.addAndGet(deposits);
+    }
+
+    public synchronized void markRunning(Instant now) {
+        if (status == AccrualJobStatus.QUEUED) {
+            status = AccrualJobStatus.RUNNING;
+            startedAt = now;
+        }
+    }
+
+    public synchronized void markFinished(AccrualJobStatus outcome, String error, Instant now) {
+        if (!status.isFinished()) {
+            this.status = outcome;
+            this.error = error;
+            this.finishedAt = now;
+        }
+    }
+
+    /**
+     * Requests cancellation. A queued job is cancelled at once; a running one stops before its
+     * next chunk. Returns {@code false} if the job had already finished.
+     */
+    public synchronized boolean requestCancel(Instant now) {
+        if (status.isFinished()) {
+            return false;
+        }
+        cancelRequested = true;
+        if (status == AccrualJobStatus.QUEUED) {
+            markFinished(AccrualJobStatus.CANCELLED, null, now);
+        }
+        return true;
+    }
+}
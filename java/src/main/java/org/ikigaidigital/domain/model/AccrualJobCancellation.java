@@ -0,0 +1,16 @@
+package org.ikigaidigital.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of a cancellation request: the job, and whether the request took effect or found the
+ * job already finished.
+ */
+@Getter
+@AllArgsConstructor
+public class AccrualJobCancellation {
+
+    private final AccrualJob job;
+    private final boolean accepted;
+}
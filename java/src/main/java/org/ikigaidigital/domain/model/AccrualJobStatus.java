@@ -0,0 +1,16 @@
+package org.ikigaidigital.domain.model;
+
+/**
+ * Lifecycle of an asynchronous accrual job.
+ */
+public enum AccrualJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    CANCELLED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,11 @@
+package org.ikigaidigital.domain.model;
+
+/**
+ * Where monthly interest is evaluated during an accrual run.
+ */
+public enum AccrualMode {
+    /** Deposits are read in chunks and credited by {@code TimeDepositCalculator}. */
+    JAVA,
+    /** Declarative rules are evaluated by a single set-based {@code UPDATE}; other plans fall back to {@link #JAVA}. */
+    SQL
+}
@@ -0,0 +1,22 @@
+package org.ikigaidigital.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.YearMonth;
+
+/**
+ * Slice of the id space accrued as one unit of work for {@code period}: deposits whose id is greater
+ * than {@code afterId} and at most {@code upToId}, either bound being {@code null} when open.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AccrualPartition {
+
+    private final YearMonth period;
+    private final int number;
+    private final Integer afterId;
+    private final Integer upToId;
+}
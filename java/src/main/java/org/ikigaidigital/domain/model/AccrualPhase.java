@@ -0,0 +1,15 @@
+package org.ikigaidigital.domain.model;
+
+/**
+ * Timed stages of an accrual run.
+ */
+public enum AccrualPhase {
+    /** Reading a chunk of deposits into a {@link DepositBatch}. */
+    LOAD,
+    /** Computing and crediting interest for a loaded batch. */
+    CALCULATE,
+    /** Writing credited balances back. */
+    PERSIST,
+    /** Crediting declarative rules with one set-based {@code UPDATE} in {@link AccrualMode#SQL} mode. */
+    SQL_UPDATE
+}
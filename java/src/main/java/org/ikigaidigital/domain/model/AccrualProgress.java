@@ -0,0 +1,29 @@
+package org.ikigaidigital.domain.model;
+
+/**
+ * Receives progress of an accrual run and may ask it to stop. Runs report once per committed
+ * chunk and check for cancellation before starting the next one.
+ */
+public interface AccrualProgress {
+
+    /** Progress that is neither tracked nor cancellable; runs skip counting the book for it. */
+    AccrualProgress NONE = new AccrualProgress() {
+        @Override
+        public void started(long total) {
+        }
+
+        @Override
+        public void processed(long deposits) {
+        }
+    };
+
+    /** Called once, before any deposit is credited, with the number of deposits the run will visit. */
+    void started(long total);
+
+    /** Called after each commit with the number of deposits it covered. */
+    void processed(long deposits);
+
+    default boolean isCancelRequested() {
+        return false;
+    }
+}
@@ -0,0 +1,22 @@
+package org.ikigaidigital.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * One entry of the balance change feed: the accrual of {@code period} moved the balance of deposit
+ * {@code timeDepositId} from {@code oldBalance} to {@code newBalance}. Offsets ascend in commit order.
+ */
+@Getter
+@AllArgsConstructor
+public class BalanceChange {
+
+    private final long offset;
+    private final int timeDepositId;
+    private final YearMonth period;
+    private final BigDecimal oldBalance;
+    private final BigDecimal newBalance;
+}
@@ -0,0 +1,18 @@
+package org.ikigaidigital.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Balance changes in offset order. {@code nextOffset} is the offset to pass as {@code after} for the
+ * following page: the offset of the last change, or the requested one when there is none yet.
+ */
+@Getter
+@AllArgsConstructor
+public class BalanceChangePage {
+
+    private final List<BalanceChange> changes;
+    private final long nextOffset;
+}
@@ -0,0 +1,43 @@
+package org.ikigaidigital.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Balance trajectory of one deposit, or of the whole portfolio when {@code id} and {@code planType}
+ * are {@code null}. {@code deposits} is the number of deposits projected and {@code balance} their
+ * balance today.
+ */
+@Getter
+@AllArgsConstructor
+public class BalanceProjection {
+
+    private final Integer id;
+    private final String planType;
+    private final long deposits;
+    private final BigDecimal balance;
+    private final List<ProjectedMonth> months;
+
+    /**
+     * Builds the projection from a balance of {@code balanceCents} today and the balances in cents
+     * after each month, element {@code m - 1} holding the balance after {@code m} months.
+     */
+    public static BalanceProjection ofCents(Integer id, String planType, long deposits, long balanceCents,
+                                            long[] balances) {
+        List<ProjectedMonth> months = new ArrayList<>(balances.length);
+        long previous = balanceCents;
+        for (int month = 0; month < balances.length; month++) {
+            months.add(new ProjectedMonth(month + 1, cents(balances[month]), cents(balances[month] - previous)));
+            previous = balances[month];
+        }
+        return new BalanceProjection(id, planType, deposits, cents(balanceCents), months);
+    }
+
+    private static BigDecimal cents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
@@ -0,0 +1,15 @@
+package org.ikigaidigital.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published inside the transaction that writes new balances, once per committed chunk or set-based
+ * update, so listeners bound to the commit learn that previously read deposits are stale.
+ */
+@Getter
+@AllArgsConstructor
+public class BalancesChangedEvent {
+
+    private final int deposits;
+}
@@ -0,0 +1,29 @@
+package org.ikigaidigital.domain.model;
+
+import java.util.List;
+
+/**
+ * Read-only columnar view of deposits, indexed {@code 0..size() - 1}, with plan types dictionary-encoded
+ * into codes and balances in cents. Lets the calculator run over any columnar source, on or off heap,
+ * without an object per deposit.
+ */
+public interface DepositColumns {
+
+    int size();
+
+    int id(int index);
+
+    byte planCode(int index);
+
+    /** Dictionary the plan codes refer to. */
+    PlanCodes planCodes();
+
+    /** Plan types indexed by plan code. */
+    default List<String> planTypes() {
+        return planCodes().planTypes();
+    }
+
+    int days(int index);
+
+    long balanceCents(int index);
+}
@@ -0,0 +1,24 @@
+package org.ikigaidigital.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of a bulk import: rows inserted and the wall-clock time it took.
+ */
+@Getter
+@AllArgsConstructor
+public class ImportResult {
+
+    private final long deposits;
+    private final long withdrawals;
+    private final long elapsedMillis;
+
+    public long getRows() {
+        return deposits + withdrawals;
+    }
+
+    public long getRowsPerSecond() {
+        return elapsedMillis == 0 ? getRows() * 1000 : getRows() * 1000 / elapsedMillis;
+    }
+}
@@ -0,0 +1,19 @@
+package org.ikigaidigital.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Interest postings of one plan type in one accrual period: how many deposits were credited and the
+ * total credited to them.
+ */
+@Getter
+@AllArgsConstructor
+public class InterestPostingRollup {
+
+    private final String planType;
+    private final long postings;
+    private final BigDecimal totalAmount;
+}
@@ -0,0 +1,21 @@
+package org.ikigaidigital.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.YearMonth;
+
+/**
+ * Outcome of one instance's pass over the partitions of an accrual period: how many partitions it
+ * completed and how many are still open, held by other instances or abandoned until their lease expires.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PartitionedAccrualResult {
+
+    private final YearMonth period;
+    private final int accruedPartitions;
+    private final int openPartitions;
+}
@@ -0,0 +1,69 @@
+package org.ikigaidigital.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary of plan types to the small codes that {@link DepositColumns} store per deposit. Codes are
+ * assigned in order of first appearance and never change or get reused, so columns encoded once stay
+ * valid however long the dictionary is shared. Lookups do not lock; only a new plan type does.
+ */
+public final class PlanCodes {
+
+    /** Codes are stored in a byte, so a dictionary holds at most this many plan types. */
+    public static final int MAX_CODES = Byte.MAX_VALUE + 1;
+
+    private final Map<String, Byte> codes = new ConcurrentHashMap<>();
+    private volatile List<String> planTypes = List.of();
+
+    /** Dictionary of the given distinct plan types, coded by their position. */
+    public static PlanCodes of(List<String> planTypes) {
+        PlanCodes planCodes = new PlanCodes();
+        for (String planType : planTypes) {
+            int next = planCodes.size();
+            if (planCodes.codeOf(planType) != next) {
+                throw new IllegalArgumentException("Duplicate plan type: " + planType);
+            }
+        }
+        return planCodes;
+    }
+
+    /** Code of the plan type, assigning the next free one if it is new. */
+    public byte codeOf(String planType) {
+        Byte code = codes.get(planType);
+        return code != null ? code : register(planType);
+    }
+
+    public String planType(int code) {
+        return planTypes.get(code);
+    }
+
+    /** Plan types indexed by code; a snapshot that later plan types do not extend. */
+    public List<String> planTypes() {
+        return planTypes;
+    }
+
+    public int size() {
+        return planTypes.size();
+    }
+
+    private synchronized byte register(String planType) {
+        Byte code = codes.get(planType);
+        if (code != null) {
+            return code;
+        }
+        if (planTypes.size() == MAX_CODES) {
+            throw new IllegalStateException("Too many distinct plan types: " + planTypes.size());
+        }
+        List<String> extended = new ArrayList<>(planTypes);
+        extended.add(planType);
+        // Published before the code, so a reader holding the code always finds its plan type.
+        planTypes = Collections.unmodifiableList(extended);
+        code = (byte) (extended.size() - 1);
+        codes.put(planType, code);
+        return code;
+    }
+}
@@ -0,0 +1,23 @@
+package org.ikigaidigital.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregates of the deposits of one plan type. {@code projectedInterest} is the interest the next
+ * monthly run would credit at current balances, or {@code null} for plan types whose strategy has no
+ * declarative rule and therefore cannot be evaluated by the database.
+ */
+@Getter
+@AllArgsConstructor
+public class PlanSummary {
+
+    private final String planType;
+    private final long deposits;
+    private final BigDecimal totalBalance;
+    private final long withdrawals;
+    private final BigDecimal totalWithdrawn;
+    private final BigDecimal projectedInterest;
+}
@@ -0,0 +1,17 @@
+package org.ikigaidigital.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Frozen copy of every deposit, in id order, with the count and total of its withdrawals, read without
+ * touching the database.
+ */
+public interface PortfolioSnapshot extends DepositColumns {
+
+    /** When the snapshot was taken. */
+    Instant createdAt();
+
+    int withdrawals(int index);
+
+    long withdrawnCents(int index);
+}
@@ -0,0 +1,18 @@
+package org.ikigaidigital.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Balance after the {@code month}-th monthly run from now, and the interest that run credits.
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectedMonth {
+
+    private final int month;
+    private final BigDecimal balance;
+    private final BigDecimal interest;
+}
@@ -0,0 +1,16 @@
+package org.ikigaidigital.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of a snapshot export: deposits written, size of the snapshot and the wall-clock time it took.
+ */
+@Getter
+@AllArgsConstructor
+public class SnapshotExport {
+
+    private final long deposits;
+    private final long bytes;
+    private final long elapsedMillis;
+}
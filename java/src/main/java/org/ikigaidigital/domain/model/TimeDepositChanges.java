@@ -0,0 +1,19 @@
+package org.ikigaidigital.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Deposits inserted or changed after a change token, in id order, with the token to pass for the
+ * next delta. A deposit changed again after {@code changeToken} was read may already be included and
+ * is then returned by the next delta too.
+ */
+@Getter
+@AllArgsConstructor
+public class TimeDepositChanges {
+
+    private final List<TimeDeposit> timeDeposits;
+    private final long changeToken;
+}
@@ -0,0 +1,18 @@
+package org.ikigaidigital.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One keyset page of deposits in id order. {@code nextCursor} is the id to pass as {@code after}
+ * for the following page, or {@code null} when this is the last page.
+ */
+@Getter
+@AllArgsConstructor
+public class TimeDepositPage {
+
+    private final List<TimeDeposit> timeDeposits;
+    private final Integer nextCursor;
+}
@@ -0,0 +1,15 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.PartitionedAccrualResult;
+
+import java.time.YearMonth;
+
+public interface AccruePartitionsUseCase {
+
+    /**
+     * Splits the deposits into id-range partitions for {@code period}, unless another instance already
+     * did, then leases and accrues free partitions one at a time until none is left. Any number of
+     * instances may call this concurrently; each partition is accrued by one of them at a time.
+     */
+    PartitionedAccrualResult accruePartitions(YearMonth period);
+}
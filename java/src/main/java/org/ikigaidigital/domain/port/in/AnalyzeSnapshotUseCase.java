@@ -0,0 +1,25 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.BalanceProjection;
+import org.ikigaidigital.domain.model.PlanSummary;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Portfolio figures computed from the latest snapshot instead of the database; every method returns
+ * empty while no snapshot has been taken.
+ */
+public interface AnalyzeSnapshotUseCase {
+
+    /**
+     * {@link ProjectBalancesUseCase#projectPortfolio} over the snapshot.
+     */
+    Optional<BalanceProjection> projectSnapshot(int months);
+
+    /**
+     * {@link GetPortfolioSummaryUseCase#getPortfolioSummary} over the snapshot, with the interest the
+     * next monthly update would credit projected for every plan type.
+     */
+    Optional<List<PlanSummary>> summarizeSnapshot();
+}
@@ -0,0 +1,13 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.AccrualJobCancellation;
+
+import java.util.Optional;
+
+public interface CancelAccrualJobUseCase {
+    /**
+     * Requests cancellation of the job; returns the outcome, or empty if no such job is known.
+     * The cancellation is not accepted if the job has already finished, whatever its status.
+     */
+    Optional<AccrualJobCancellation> cancelAccrualJob(String jobId);
+}
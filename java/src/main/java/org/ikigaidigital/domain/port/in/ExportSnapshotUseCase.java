@@ -0,0 +1,12 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.SnapshotExport;
+
+public interface ExportSnapshotUseCase {
+
+    /**
+     * Writes every deposit, with its withdrawal totals, to a new snapshot that replaces the previous
+     * one once complete.
+     */
+    SnapshotExport exportSnapshot();
+}
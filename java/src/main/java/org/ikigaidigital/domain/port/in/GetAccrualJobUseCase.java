@@ -0,0 +1,9 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.AccrualJob;
+
+import java.util.Optional;
+
+public interface GetAccrualJobUseCase {
+    Optional<AccrualJob> getAccrualJob(String jobId);
+}
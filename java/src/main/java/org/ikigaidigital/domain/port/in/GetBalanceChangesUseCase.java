@@ -0,0 +1,9 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.BalanceChangePage;
+
+public interface GetBalanceChangesUseCase {
+    BalanceChangePage getBalanceChanges(long afterOffset, int limit);
+
+    long getLastOffset();
+}
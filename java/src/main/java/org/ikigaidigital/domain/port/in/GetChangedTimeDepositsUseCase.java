@@ -0,0 +1,18 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.TimeDepositChanges;
+
+public interface GetChangedTimeDepositsUseCase {
+    /**
+     * Deposits changed after {@code changeToken}, as returned by an earlier call or by
+     * {@link #getChangeToken()}.
+     *
+     * @throws IllegalArgumentException if the token is negative or ahead of the book
+     */
+    TimeDepositChanges getTimeDepositsChangedSince(long changeToken);
+
+    /**
+     * Token of the book as it is now; read it before the deposits it is meant to describe.
+     */
+    long getChangeToken();
+}
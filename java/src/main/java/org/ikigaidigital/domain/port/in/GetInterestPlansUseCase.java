@@ -0,0 +1,9 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.service.strategy.InterestPlan;
+
+import java.util.List;
+
+public interface GetInterestPlansUseCase {
+    List<InterestPlan> getInterestPlans();
+}
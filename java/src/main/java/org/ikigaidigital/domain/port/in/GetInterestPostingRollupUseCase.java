@@ -0,0 +1,10 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.InterestPostingRollup;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface GetInterestPostingRollupUseCase {
+    List<InterestPostingRollup> getInterestPostingRollup(YearMonth period);
+}
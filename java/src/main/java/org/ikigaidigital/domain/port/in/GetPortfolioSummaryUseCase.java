@@ -0,0 +1,9 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.PlanSummary;
+
+import java.util.List;
+
+public interface GetPortfolioSummaryUseCase {
+    List<PlanSummary> getPortfolioSummary();
+}
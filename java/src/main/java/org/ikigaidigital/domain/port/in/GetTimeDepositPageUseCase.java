@@ -0,0 +1,7 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.TimeDepositPage;
+
+public interface GetTimeDepositPageUseCase {
+    TimeDepositPage getTimeDepositPage(Integer afterId, int limit);
+}
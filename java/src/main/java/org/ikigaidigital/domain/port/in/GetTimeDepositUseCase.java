@@ -0,0 +1,16 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.TimeDeposit;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface GetTimeDepositUseCase {
+    Optional<TimeDeposit> getTimeDeposit(int id);
+
+    /**
+     * Deposits with the given ids, in id order; ids without a deposit are skipped.
+     */
+    List<TimeDeposit> getTimeDeposits(Collection<Integer> ids);
+}
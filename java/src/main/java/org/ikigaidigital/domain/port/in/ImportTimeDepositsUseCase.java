@@ -0,0 +1,16 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.ImportResult;
+
+public interface ImportTimeDepositsUseCase {
+
+    /**
+     * Inserts every deposit, with its withdrawals, handed out by {@code timeDeposits}, pulling them one
+     * at a time and committing in chunks. Ids are assigned by the database sequences; ids on the
+     * deposits are ignored.
+     *
+     * @throws IllegalArgumentException if a deposit is invalid, naming its position in the input; earlier
+     *                                  chunks stay committed
+     */
+    ImportResult importTimeDeposits(TimeDepositSource timeDeposits);
+}
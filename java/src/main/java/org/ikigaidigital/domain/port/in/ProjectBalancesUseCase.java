@@ -0,0 +1,21 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.BalanceProjection;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Forecasts balances over the coming monthly runs without writing anything.
+ */
+public interface ProjectBalancesUseCase {
+
+    int MAX_MONTHS = 120;
+
+    BalanceProjection projectPortfolio(int months);
+
+    /**
+     * Trajectories of the deposits with the given ids, in id order; ids without a deposit are skipped.
+     */
+    List<BalanceProjection> projectTimeDeposits(Collection<Integer> ids, int months);
+}
@@ -0,0 +1,16 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.service.strategy.InterestPlan;
+
+import java.util.List;
+
+public interface ReloadInterestPlansUseCase {
+
+    /**
+     * Reads the plan table again and applies it to every calculation started afterwards. Returns the
+     * plans now in effect.
+     *
+     * @throws IllegalArgumentException if the table is invalid; the plans in effect are kept
+     */
+    List<InterestPlan> reloadInterestPlans();
+}
@@ -0,0 +1,9 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.TimeDeposit;
+
+import java.util.function.Consumer;
+
+public interface StreamTimeDepositsUseCase {
+    void streamTimeDeposits(Consumer<TimeDeposit> action);
+}
@@ -0,0 +1,7 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.AccrualJob;
+
+public interface SubmitAccrualJobUseCase {
+    AccrualJob submitAccrualJob();
+}
@@ -0,0 +1,43 @@
+package org.ikigaidigital.domain.port.in;
+
+import org.ikigaidigital.domain.model.TimeDeposit;
+
+import java.util.Iterator;
+
+/**
+ * Deposits, each with its withdrawals, handed out one at a time to an import.
+ */
+public interface TimeDepositSource extends Iterator<TimeDeposit> {
+
+    /**
+     * Where the deposit last returned by {@link #next()} was read, e.g. {@code "line 12"}, so an invalid
+     * deposit can be reported by its position in the input.
+     */
+    String position();
+
+    /**
+     * Source over deposits already in memory, positioned by record number starting at 1.
+     */
+    static TimeDepositSource of(Iterator<TimeDeposit> timeDeposits) {
+        return new TimeDepositSource() {
+            private long record;
+
+            @Override
+            public boolean hasNext() {
+                return timeDeposits.hasNext();
+            }
+
+            @Override
+            public TimeDeposit next() {
+                TimeDeposit timeDeposit = timeDeposits.next();
+                record++;
+                return timeDeposit;
+            }
+
+            @Override
+            public String position() {
+                return "record " + record;
+            }
+        };
+    }
+}
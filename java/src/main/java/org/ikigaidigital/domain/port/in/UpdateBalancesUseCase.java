@@ -1,5 +1,28 @@
 package org.ikigaidigital.domain.port.in;
 
+import org.ikigaidigital.domain.model.AccrualPartition;
+import org.ikigaidigital.domain.model.AccrualProgress;
+
+import java.time.YearMonth;
+import java.util.Collection;
+
 public interface UpdateBalancesUseCase {
     void updateBalances();
+
+    void updateBalances(AccrualProgress progress);
+
+    void updateBalances(YearMonth period, AccrualProgress progress);
+
+    /**
+     * Credits the interest of the current month to the deposits with the given ids that are not yet
+     * accrued for it; unknown ids are ignored.
+     */
+    void updateBalances(Collection<Integer> ids);
+
+    /**
+     * Credits the interest of the partition's period to the deposits of its id range not yet accrued
+     * for it, with the same progress and cancellation contract as {@link #updateBalances(YearMonth,
+     * AccrualProgress)}.
+     */
+    void updateBalances(AccrualPartition partition, AccrualProgress progress);
 }
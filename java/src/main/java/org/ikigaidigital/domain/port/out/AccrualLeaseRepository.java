@@ -0,0 +1,51 @@
+package org.ikigaidigital.domain.port.out;
+
+import org.ikigaidigital.domain.model.AccrualPartition;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lease table through which instances share the partitions of an accrual period. A partition is free
+ * when it has never been leased or its lease has expired, and done once completed.
+ */
+public interface AccrualLeaseRepository {
+
+    /**
+     * Whether the partitions of {@code period} have been created.
+     */
+    boolean hasPartitions(YearMonth period);
+
+    /**
+     * Creates one partition per consecutive id range delimited by {@code boundaries}, ascending: the
+     * first partition ends at the first boundary and the last one is open-ended.
+     *
+     * @throws org.springframework.dao.DuplicateKeyException if another instance created them first
+     */
+    void createPartitions(YearMonth period, List<Integer> boundaries);
+
+    /**
+     * Leases the free partition of {@code period} with the lowest number to {@code owner} until
+     * {@code leaseUntil}, skipping partitions another transaction is claiming, or returns empty when
+     * none is free.
+     */
+    Optional<AccrualPartition> claim(YearMonth period, String owner, Instant now, Instant leaseUntil);
+
+    /**
+     * Extends the lease of a partition still held by {@code owner}; returns {@code false} once another
+     * instance has taken it over or it has been completed.
+     */
+    boolean renew(AccrualPartition partition, String owner, Instant leaseUntil);
+
+    /**
+     * Marks a partition held by {@code owner} as done; returns {@code false} if it is no longer held.
+     */
+    boolean complete(AccrualPartition partition, String owner, Instant now);
+
+    /**
+     * Number of partitions of {@code period} not yet completed.
+     */
+    int countOpenPartitions(YearMonth period);
+}
@@ -0,0 +1,26 @@
+package org.ikigaidigital.domain.port.out;
+
+import org.ikigaidigital.domain.model.AccrualMode;
+import org.ikigaidigital.domain.model.AccrualPhase;
+import org.ikigaidigital.domain.model.DepositBatch;
+
+import java.util.function.Supplier;
+
+/**
+ * Observations of the accrual pipeline. Every call is made once per run, phase or batch, never
+ * per deposit, so implementations stay off the calculation hot path.
+ */
+public interface AccrualMetrics {
+
+    void recordRun(AccrualMode mode, Runnable run);
+
+    void recordPhase(AccrualPhase phase, Runnable action);
+
+    <T> T recordPhase(AccrualPhase phase, Supplier<T> action);
+
+    /** Counts the deposits of a calculated batch and the interest credited to them, per plan type. */
+    void recordBatch(DepositBatch batch);
+
+    /** Counts deposits credited by a set-based update, whose interest is not seen by the application. */
+    void recordSetBasedUpdate(int deposits);
+}
@@ -0,0 +1,23 @@
+package org.ikigaidigital.domain.port.out;
+
+import org.ikigaidigital.domain.model.BalanceChange;
+
+import java.util.List;
+
+/**
+ * Read side of the balance change outbox. Changes are written by {@link TimeDepositRepository} in
+ * the transaction that writes the balances.
+ */
+public interface BalanceChangeRepository {
+
+    /**
+     * At most {@code limit} committed changes with an offset greater than {@code afterOffset}, in
+     * offset order.
+     */
+    List<BalanceChange> findAfter(long afterOffset, int limit);
+
+    /**
+     * Offset of the last committed change, or 0 when there is none.
+     */
+    long lastOffset();
+}
@@ -0,0 +1,15 @@
+package org.ikigaidigital.domain.port.out;
+
+import org.ikigaidigital.domain.service.strategy.InterestPlan;
+
+import java.util.List;
+
+public interface InterestPlanRepository {
+
+    /**
+     * Every plan of the plan table with its tiers.
+     *
+     * @throws IllegalArgumentException if the stored tiers of a plan are invalid
+     */
+    List<InterestPlan> findAll();
+}
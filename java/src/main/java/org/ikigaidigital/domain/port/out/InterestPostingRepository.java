@@ -0,0 +1,19 @@
+package org.ikigaidigital.domain.port.out;
+
+import org.ikigaidigital.domain.model.InterestPostingRollup;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Read side of the append-only journal of interest credits. Postings are written by
+ * {@link TimeDepositRepository} in the transaction that credits the balances.
+ */
+public interface InterestPostingRepository {
+
+    /**
+     * Number and total of the postings of {@code period} per plan type, in plan type order, read from
+     * the journal alone.
+     */
+    List<InterestPostingRollup> rollUp(YearMonth period);
+}
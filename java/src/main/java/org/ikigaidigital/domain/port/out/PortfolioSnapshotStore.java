@@ -0,0 +1,36 @@
+package org.ikigaidigital.domain.port.out;
+
+import org.ikigaidigital.domain.model.PortfolioSnapshot;
+
+import java.util.Optional;
+
+/**
+ * Keeps the latest portfolio snapshot. A snapshot being written replaces the previous one only once
+ * it is committed, so readers always see a complete snapshot.
+ */
+public interface PortfolioSnapshotStore {
+
+    /**
+     * Starts a new snapshot; rows must be handed to the writer in id order.
+     */
+    Writer openWriter();
+
+    /**
+     * The latest committed snapshot, or empty if none has been taken yet.
+     */
+    Optional<PortfolioSnapshot> open();
+
+    interface Writer extends SnapshotRowConsumer, AutoCloseable {
+
+        /**
+         * Publishes the snapshot and returns its size in bytes.
+         */
+        long commit();
+
+        /**
+         * Discards the snapshot unless it was committed.
+         */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,10 @@
+package org.ikigaidigital.domain.port.out;
+
+/**
+ * Receives the deposits of a snapshot one row at a time, in primitive columns.
+ */
+@FunctionalInterface
+public interface SnapshotRowConsumer {
+
+    void accept(int id, String planType, int days, long balanceCents, int withdrawals, long withdrawnCents);
+}
@@ -1,10 +1,119 @@
 package org.ikigaidigital.domain.port.out;
 
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.PlanSummary;
 import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.service.strategy.InterestRule;
 
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TimeDepositRepository {
     List<TimeDeposit> findAll();
-    void saveAll(List<TimeDeposit> timeDeposits);
+
+    Optional<TimeDeposit> findById(int id);
+
+    /**
+     * Deposits with the given ids, in id order; ids without a deposit are skipped.
+     */
+    List<TimeDeposit> findByIds(Collection<Integer> ids);
+
+    /**
+     * Deposits, in id order, inserted or credited by a transaction with a row version greater than
+     * {@code version}.
+     */
+    List<TimeDeposit> findChangedSince(long version);
+
+    /**
+     * Row version of the last committed transaction that wrote deposits, or 0 when none has.
+     */
+    long currentVersion();
+
+    /**
+     * Keyset page of deposits ordered by id: at most {@code limit} deposits whose id is greater
+     * than {@code afterId}, or the first page when {@code afterId} is {@code null}.
+     */
+    List<TimeDeposit> findPageAfter(Integer afterId, int limit);
+
+    /**
+     * Hands every deposit, with its withdrawals, to {@code action} in id order while reading from a
+     * database cursor, so only a bounded page of deposits is held in memory.
+     */
+    void forEach(Consumer<TimeDeposit> action);
+
+    /**
+     * Hands every deposit to {@code consumer} in id order, with its balance in cents and the count and
+     * total in cents of its withdrawals, all aggregated by the database and read from a cursor.
+     */
+    void forEachSnapshotRow(SnapshotRowConsumer consumer);
+
+    /**
+     * Clears {@code batch} and refills it, in id order, with up to {@code batch.capacity()} deposits
+     * still due for {@code period} whose id is greater than {@code afterId} ({@code null} for the
+     * first batch) and at most {@code upToId} ({@code null} for no upper bound), restricted to the
+     * given plan types unless {@code planTypes} is empty. Withdrawals are not read.
+     */
+    void fillBatchAfter(Integer afterId, Integer upToId, Collection<String> planTypes, YearMonth period,
+                        DepositBatch batch);
+
+    /**
+     * Clears {@code batch} and refills it, in id order, with up to {@code batch.capacity()} deposits
+     * whose id is greater than {@code afterId} ({@code null} for the first batch), whether accrued or
+     * not. Withdrawals are not read.
+     */
+    void fillPageAfter(Integer afterId, DepositBatch batch);
+
+    /**
+     * Clears {@code batch} and refills it, in id order, with the deposits among {@code ids} still due
+     * for {@code period}. Withdrawals are not read.
+     *
+     * @throws IllegalArgumentException if there are more ids than the batch can hold
+     */
+    void fillBatch(Collection<Integer> ids, YearMonth period, DepositBatch batch);
+
+    /**
+     * Number of deposits still due for {@code period} with one of the given plan types, or of any
+     * plan type when {@code planTypes} is empty.
+     */
+    long countDueDeposits(Collection<String> planTypes, YearMonth period);
+
+    /**
+     * Ascending ids that split the current id range into at most {@code partitions} ranges of equal
+     * width; fewer when there are fewer ids, none when there are no deposits.
+     */
+    List<Integer> findIdBoundaries(int partitions);
+
+    /**
+     * Count, balance, withdrawal and projected-interest totals per plan type, aggregated by the
+     * database, in plan type order. Interest is projected with the given rules; plan types without a
+     * rule get no projection.
+     */
+    List<PlanSummary> summarizeByPlanType(Map<String, InterestRule> rulesByPlanType);
+
+    /**
+     * Inserts new deposits with their withdrawals, letting the id sequences assign every id, and
+     * detaches them afterwards so nothing accumulates across calls.
+     */
+    void insertAll(List<TimeDeposit> timeDeposits);
+
+    /**
+     * Writes the balance of every deposit of the batch that was credited interest and records every
+     * deposit of the batch, and no other, as accrued for {@code period}; plan type, days and withdrawals
+     * are left untouched. Deposits that are no longer due for {@code period} are not written. Every
+     * credited balance written is appended to the interest posting journal with its amount and plan
+     * type, and to the balance change outbox with its old and new balance.
+     */
+    void saveBalances(DepositBatch batch, YearMonth period);
+
+    /**
+     * Credits one month of interest in the database, for every deposit still due for {@code period}
+     * whose plan type has a rule, and records those deposits as accrued for it, without loading any
+     * deposit. Every non-zero credit is appended to the interest posting journal and the balance change
+     * outbox. Returns the number of deposits accrued.
+     */
+    int applyInterestRules(Map<String, InterestRule> rulesByPlanType, YearMonth period);
 }
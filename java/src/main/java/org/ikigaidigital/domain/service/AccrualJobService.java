@@ -0,0 +1,110 @@
+package org.ikigaidigital.domain.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ikigaidigital.domain.model.AccrualCancelledException;
+import org.ikigaidigital.domain.model.AccrualJob;
+import org.ikigaidigital.domain.model.AccrualJobCancellation;
+import org.ikigaidigital.domain.model.AccrualJobStatus;
+import org.ikigaidigital.domain.port.in.CancelAccrualJobUseCase;
+import org.ikigaidigital.domain.port.in.GetAccrualJobUseCase;
+import org.ikigaidigital.domain.port.in.SubmitAccrualJobUseCase;
+import org.ikigaidigital.domain.port.in.UpdateBalancesUseCase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs {@link UpdateBalancesUseCase#updateBalances} in the background and keeps the most recent jobs
+ * in memory for status queries. Jobs execute one at a time on a dedicated single-thread executor,
+ * never on request or shared pool threads; later submissions wait in its queue. Jobs are not
+ * persisted; chunks committed before a restart or cancellation stay credited.
+ */
+@Slf4j
+@Service
+public class AccrualJobService implements SubmitAccrualJobUseCase, GetAccrualJobUseCase, CancelAccrualJobUseCase {
+
+    private final UpdateBalancesUseCase updateBalancesUseCase;
+    private final ExecutorService executor;
+    private final int retainedJobs;
+    private final Map<String, AccrualJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AccrualJobService(UpdateBalancesUseCase updateBalancesUseCase,
+                             @Value("${time-deposit.accrual.jobs.retained:100}") int retainedJobs) {
+        this(updateBalancesUseCase,
+                Executors.newSingleThreadExecutor(new CustomizableThreadFactory("accrual-job-")), retainedJobs);
+    }
+
+    AccrualJobService(UpdateBalancesUseCase updateBalancesUseCase, ExecutorService executor, int retainedJobs) {
+        if (retainedJobs < 1) {
+            throw new IllegalArgumentException("Retained accrual jobs must be positive: " + retainedJobs);
+        }
+        this.updateBalancesUseCase = updateBalancesUseCase;
+        this.executor = executor;
+        this.retainedJobs = retainedJobs;
+    }
+
+    @Override
+    public AccrualJob submitAccrualJob() {
+        AccrualJob job = new AccrualJob(UUID.randomUUID().toString(), Instant.now());
+        jobs.put(job.getId(), job);
+        evictFinishedJobs();
+        executor.execute(() -> run(job));
+        return job;
+    }
+
+    @Override
+    public Optional<AccrualJob> getAccrualJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    @Override
+    public Optional<AccrualJobCancellation> cancelAccrualJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId))
+                .map(job -> new AccrualJobCancellation(job, job.requestCancel(Instant.now())));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(AccrualJob job) {
+        job.markRunning(Instant.now());
+        if (job.getStatus() != AccrualJobStatus.RUNNING) {
+            return;
+        }
+        try {
+            updateBalancesUseCase.updateBalances(job);
+            job.markFinished(AccrualJobStatus.SUCCEEDED, null, Instant.now());
+        } catch (AccrualCancelledException e) {
+            job.markFinished(AccrualJobStatus.CANCELLED, null, Instant.now());
+        } catch (RuntimeException e) {
+            log.error("Accrual job {} failed after {} deposits", job.getId(), job.getProcessed(), e);
+            job.markFinished(AccrualJobStatus.FAILED, e.getMessage(), Instant.now());
+        }
+    }
+
+    private void evictFinishedJobs() {
+        int excess = jobs.size() - retainedJobs;
+        if (excess <= 0) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(job -> job.getStatus().isFinished())
+                .sorted(Comparator.comparing(AccrualJob::getSubmittedAt))
+                .limit(excess)
+                .forEach(job -> jobs.remove(job.getId()));
+    }
+}
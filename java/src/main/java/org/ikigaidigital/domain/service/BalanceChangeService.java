@@ -0,0 +1,39 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.model.BalanceChange;
+import org.ikigaidigital.domain.model.BalanceChangePage;
+import org.ikigaidigital.domain.port.in.GetBalanceChangesUseCase;
+import org.ikigaidigital.domain.port.out.BalanceChangeRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class BalanceChangeService implements GetBalanceChangesUseCase {
+
+    private final BalanceChangeRepository repository;
+
+    public BalanceChangeService(BalanceChangeRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public BalanceChangePage getBalanceChanges(long afterOffset, int limit) {
+        if (afterOffset < 0) {
+            throw new IllegalArgumentException("Offset must not be negative: " + afterOffset);
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+        List<BalanceChange> changes = repository.findAfter(afterOffset, limit);
+        long nextOffset = changes.isEmpty() ? afterOffset : changes.get(changes.size() - 1).getOffset();
+        return new BalanceChangePage(changes, nextOffset);
+    }
+
+    @Override
+    public long getLastOffset() {
+        return repository.lastOffset();
+    }
+}
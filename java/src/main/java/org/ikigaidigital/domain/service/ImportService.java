@@ -0,0 +1,118 @@
+package org.ikigaidigital.domain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ikigaidigital.domain.model.BalancesChangedEvent;
+import org.ikigaidigital.domain.model.ImportResult;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.Withdrawal;
+import org.ikigaidigital.domain.port.in.ImportTimeDepositsUseCase;
+import org.ikigaidigital.domain.port.in.TimeDepositSource;
+import org.ikigaidigital.domain.port.out.TimeDepositRepository;
+import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bulk import. Deposits are pulled from the iterator one at a time and inserted
+ * {@code chunkSize} at a time, each chunk in its own transaction, so heap use is bounded by the chunk
+ * whatever the size of the input.
+ */
+@Slf4j
+@Service
+public class ImportService implements ImportTimeDepositsUseCase {
+
+    private final TimeDepositRepository repository;
+    private final InterestStrategyFactory strategyFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public ImportService(TimeDepositRepository repository,
+                         InterestStrategyFactory strategyFactory,
+                         PlatformTransactionManager transactionManager,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${time-deposit.import.chunk-size:5000}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Import chunk size must be positive: " + chunkSize);
+        }
+        this.repository = repository;
+        this.strategyFactory = strategyFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ImportResult importTimeDeposits(TimeDepositSource timeDeposits) {
+        long start = System.nanoTime();
+        Set<String> planTypes = strategyFactory.getPlanTypes();
+        List<TimeDeposit> chunk = new ArrayList<>(chunkSize);
+        long deposits = 0;
+        long withdrawals = 0;
+        try {
+            while (timeDeposits.hasNext()) {
+                TimeDeposit timeDeposit = timeDeposits.next();
+                validate(timeDeposit, planTypes, timeDeposits.position());
+                chunk.add(timeDeposit);
+                withdrawals += timeDeposit.getWithdrawals().size();
+                if (chunk.size() == chunkSize) {
+                    deposits += insert(chunk);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage() + " (" + deposits + " deposits imported before)", e);
+        }
+        deposits += insert(chunk);
+        ImportResult result = new ImportResult(deposits, withdrawals, (System.nanoTime() - start) / 1_000_000);
+        log.info("Imported {} deposits and {} withdrawals in {} ms ({} rows/s)", result.getDeposits(),
+                result.getWithdrawals(), result.getElapsedMillis(), result.getRowsPerSecond());
+        return result;
+    }
+
+    private int insert(List<TimeDeposit> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        int size = chunk.size();
+        transactionTemplate.executeWithoutResult(status -> {
+            repository.insertAll(chunk);
+            eventPublisher.publishEvent(new BalancesChangedEvent(size));
+        });
+        chunk.clear();
+        return size;
+    }
+
+    private static void validate(TimeDeposit timeDeposit, Set<String> planTypes, String position) {
+        if (!planTypes.contains(timeDeposit.getPlanType())) {
+            throw invalid(position, "Unknown plan type: " + timeDeposit.getPlanType());
+        }
+        if (timeDeposit.getDays() == null || timeDeposit.getDays() < 0) {
+            throw invalid(position, "Days must not be negative: " + timeDeposit.getDays());
+        }
+        requireAmount(timeDeposit.getBalance(), "Balance", position);
+        for (Withdrawal withdrawal : timeDeposit.getWithdrawals()) {
+            requireAmount(withdrawal.getAmount(), "Withdrawal amount", position);
+            if (withdrawal.getDate() == null) {
+                throw invalid(position, "Withdrawal date is required");
+            }
+        }
+    }
+
+    private static void requireAmount(BigDecimal amount, String name, String position) {
+        if (amount == null || amount.signum() < 0 || amount.scale() > 2) {
+            throw invalid(position, name + " must be a non-negative amount in cents: " + amount);
+        }
+    }
+
+    private static IllegalArgumentException invalid(String position, String reason) {
+        return new IllegalArgumentException("Invalid deposit at " + position + ": " + reason);
+    }
+}
@@ -0,0 +1,48 @@
+package org.ikigaidigital.domain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ikigaidigital.domain.port.in.GetInterestPlansUseCase;
+import org.ikigaidigital.domain.port.in.ReloadInterestPlansUseCase;
+import org.ikigaidigital.domain.port.out.InterestPlanRepository;
+import org.ikigaidigital.domain.service.strategy.InterestPlan;
+import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+public class InterestPlanService implements GetInterestPlansUseCase, ReloadInterestPlansUseCase {
+
+    private final InterestPlanRepository repository;
+    private final InterestStrategyFactory strategyFactory;
+
+    public InterestPlanService(InterestPlanRepository repository, InterestStrategyFactory strategyFactory) {
+        this.repository = repository;
+        this.strategyFactory = strategyFactory;
+    }
+
+    /**
+     * Loads the plan table once the context is refreshed, which is after the schema has been created
+     * and seeded.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void loadInterestPlans() {
+        reloadInterestPlans();
+    }
+
+    @Override
+    public List<InterestPlan> getInterestPlans() {
+        return strategyFactory.getPlans();
+    }
+
+    @Override
+    public List<InterestPlan> reloadInterestPlans() {
+        List<InterestPlan> plans = repository.findAll();
+        strategyFactory.reload(plans);
+        log.info("Loaded {} interest plans: {}", plans.size(), plans);
+        return strategyFactory.getPlans();
+    }
+}
@@ -0,0 +1,26 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.model.InterestPostingRollup;
+import org.ikigaidigital.domain.port.in.GetInterestPostingRollupUseCase;
+import org.ikigaidigital.domain.port.out.InterestPostingRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class InterestPostingService implements GetInterestPostingRollupUseCase {
+
+    private final InterestPostingRepository repository;
+
+    public InterestPostingService(InterestPostingRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public List<InterestPostingRollup> getInterestPostingRollup(YearMonth period) {
+        return repository.rollUp(period);
+    }
+}
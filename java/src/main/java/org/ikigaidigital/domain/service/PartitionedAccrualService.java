@@ -0,0 +1,163 @@
+package org.ikigaidigital.domain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ikigaidigital.domain.model.AccrualCancelledException;
+import org.ikigaidigital.domain.model.AccrualPartition;
+import org.ikigaidigital.domain.model.AccrualProgress;
+import org.ikigaidigital.domain.model.PartitionedAccrualResult;
+import org.ikigaidigital.domain.port.in.AccruePartitionsUseCase;
+import org.ikigaidigital.domain.port.in.UpdateBalancesUseCase;
+import org.ikigaidigital.domain.port.out.AccrualLeaseRepository;
+import org.ikigaidigital.domain.port.out.TimeDepositRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Optional;
+
+/**
+ * Shares the accrual of a period between instances through leases on id-range partitions. A lease is
+ * renewed as its chunks commit and an instance that loses it, because it stalled past the lease and
+ * another instance took the partition over, stops before its next chunk. Partitions of an instance
+ * that dies are picked up by the others once the lease expires; chunks it committed stay credited and
+ * are skipped, as deposits are only read while still due.
+ */
+@Slf4j
+@Service
+public class PartitionedAccrualService implements AccruePartitionsUseCase {
+
+    private final TimeDepositRepository timeDepositRepository;
+    private final AccrualLeaseRepository leaseRepository;
+    private final UpdateBalancesUseCase updateBalancesUseCase;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final String owner;
+    private final int partitions;
+    private final Duration leaseTtl;
+
+    @Autowired
+    public PartitionedAccrualService(TimeDepositRepository timeDepositRepository,
+                                     AccrualLeaseRepository leaseRepository,
+                                     UpdateBalancesUseCase updateBalancesUseCase,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${time-deposit.accrual.partitions.instance-id:${random.uuid}}")
+                                     String owner,
+                                     @Value("${time-deposit.accrual.partitions.count:16}") int partitions,
+                                     @Value("${time-deposit.accrual.partitions.lease-ttl:PT5M}") Duration leaseTtl) {
+        this(timeDepositRepository, leaseRepository, updateBalancesUseCase, transactionManager,
+                Clock.systemUTC(), owner, partitions, leaseTtl);
+    }
+
+    PartitionedAccrualService(TimeDepositRepository timeDepositRepository,
+                              AccrualLeaseRepository leaseRepository,
+                              UpdateBalancesUseCase updateBalancesUseCase,
+                              PlatformTransactionManager transactionManager,
+                              Clock clock, String owner, int partitions, Duration leaseTtl) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("Accrual partition count must be positive: " + partitions);
+        }
+        if (leaseTtl.isNegative() || leaseTtl.isZero()) {
+            throw new IllegalArgumentException("Accrual lease TTL must be positive: " + leaseTtl);
+        }
+        this.timeDepositRepository = timeDepositRepository;
+        this.leaseRepository = leaseRepository;
+        this.updateBalancesUseCase = updateBalancesUseCase;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.owner = owner;
+        this.partitions = partitions;
+        this.leaseTtl = leaseTtl;
+    }
+
+    @Override
+    public PartitionedAccrualResult accruePartitions(YearMonth period) {
+        createPartitionsIfMissing(period);
+        int accrued = 0;
+        Optional<AccrualPartition> partition;
+        while ((partition = claim(period)).isPresent()) {
+            if (accrue(partition.get())) {
+                accrued++;
+            }
+        }
+        return new PartitionedAccrualResult(period, accrued, leaseRepository.countOpenPartitions(period));
+    }
+
+    /**
+     * Boundaries are computed once per period, so deposits added later fall into the open-ended last
+     * partition.
+     */
+    private void createPartitionsIfMissing(YearMonth period) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!leaseRepository.hasPartitions(period)) {
+                    leaseRepository.createPartitions(period, timeDepositRepository.findIdBoundaries(partitions));
+                }
+            });
+        } catch (DuplicateKeyException e) {
+            log.debug("Accrual partitions of {} were created by another instance", period);
+        }
+    }
+
+    private Optional<AccrualPartition> claim(YearMonth period) {
+        Instant now = clock.instant();
+        return transactionTemplate.execute(status -> leaseRepository.claim(period, owner, now, now.plus(leaseTtl)));
+    }
+
+    private boolean accrue(AccrualPartition partition) {
+        try {
+            updateBalancesUseCase.updateBalances(partition, new LeaseProgress(partition));
+        } catch (AccrualCancelledException e) {
+            log.warn("Lost the lease on accrual partition {} of {}", partition.getNumber(), partition.getPeriod());
+            return false;
+        }
+        boolean completed = transactionTemplate.execute(status ->
+                leaseRepository.complete(partition, owner, clock.instant()));
+        if (!completed) {
+            log.warn("Accrual partition {} of {} was taken over before it completed",
+                    partition.getNumber(), partition.getPeriod());
+        }
+        return completed;
+    }
+
+    /**
+     * Renews the lease once half of it has elapsed, after a chunk commits, and asks the run to stop
+     * once the renewal fails.
+     */
+    private class LeaseProgress implements AccrualProgress {
+
+        private final AccrualPartition partition;
+        private Instant renewAfter;
+        private boolean lost;
+
+        LeaseProgress(AccrualPartition partition) {
+            this.partition = partition;
+            this.renewAfter = clock.instant().plus(leaseTtl.dividedBy(2));
+        }
+
+        @Override
+        public void started(long total) {
+        }
+
+        @Override
+        public void processed(long deposits) {
+            Instant now = clock.instant();
+            if (lost || now.isBefore(renewAfter)) {
+                return;
+            }
+            lost = !transactionTemplate.execute(status -> leaseRepository.renew(partition, owner, now.plus(leaseTtl)));
+            renewAfter = now.plus(leaseTtl.dividedBy(2));
+        }
+
+        @Override
+        public boolean isCancelRequested() {
+            return lost;
+        }
+    }
+}
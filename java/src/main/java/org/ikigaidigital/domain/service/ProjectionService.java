@@ -0,0 +1,101 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.BalanceProjection;
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.port.in.ProjectBalancesUseCase;
+import org.ikigaidigital.domain.port.out.TimeDepositRepository;
+import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Projects balances with the calculator's strategies on columnar batches, entirely in memory: the book
+ * is read once, {@code chunkSize} deposits at a time, and nothing is written back.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ProjectionService implements ProjectBalancesUseCase {
+
+    private final TimeDepositRepository repository;
+    private final TimeDepositCalculator calculator;
+    private final InterestStrategyFactory strategyFactory;
+    private final int chunkSize;
+
+    public ProjectionService(TimeDepositRepository repository,
+                             TimeDepositCalculator calculator,
+                             InterestStrategyFactory strategyFactory,
+                             @Value("${time-deposit.projection.chunk-size:10000}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Projection chunk size must be positive: " + chunkSize);
+        }
+        this.repository = repository;
+        this.calculator = calculator;
+        this.strategyFactory = strategyFactory;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Sums the per-chunk totals, so memory use is one batch plus one array of {@code months} totals
+     * whatever the size of the book.
+     */
+    @Override
+    public BalanceProjection projectPortfolio(int months) {
+        requireMonths(months);
+        DepositBatch batch = new DepositBatch(chunkSize, strategyFactory.getPlanCodes());
+        long[] totals = new long[months];
+        long balanceCents = 0;
+        long deposits = 0;
+        Integer afterId = null;
+        do {
+            repository.fillPageAfter(afterId, batch);
+            long[] chunkTotals = calculator.projectTotals(batch, months);
+            for (int month = 0; month < months; month++) {
+                totals[month] += chunkTotals[month];
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                balanceCents += batch.balanceCents(i);
+            }
+            deposits += batch.size();
+            afterId = batch.isFull() ? batch.lastId() : null;
+        } while (afterId != null);
+        return BalanceProjection.ofCents(null, null, deposits, balanceCents, totals);
+    }
+
+    @Override
+    public List<BalanceProjection> projectTimeDeposits(Collection<Integer> ids, int months) {
+        requireMonths(months);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<TimeDeposit> timeDeposits = repository.findByIds(ids);
+        if (timeDeposits.isEmpty()) {
+            return List.of();
+        }
+        DepositBatch batch = new DepositBatch(timeDeposits.size(), strategyFactory.getPlanCodes());
+        for (TimeDeposit timeDeposit : timeDeposits) {
+            batch.add(timeDeposit.getId(), timeDeposit.getPlanType(), timeDeposit.getDays(),
+                    timeDeposit.getBalance().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+        }
+        long[][] trajectories = calculator.projectTrajectories(batch, months);
+        List<BalanceProjection> projections = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            projections.add(BalanceProjection.ofCents(batch.id(i), batch.planType(i), 1, batch.balanceCents(i),
+                    trajectories[i]));
+        }
+        return projections;
+    }
+
+    static void requireMonths(int months) {
+        if (months < 1 || months > MAX_MONTHS) {
+            throw new IllegalArgumentException("Months must be between 1 and " + MAX_MONTHS + ": " + months);
+        }
+    }
+}
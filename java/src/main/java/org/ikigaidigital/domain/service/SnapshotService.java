@@ -0,0 +1,112 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.BalanceProjection;
+import org.ikigaidigital.domain.model.PlanSummary;
+import org.ikigaidigital.domain.model.PortfolioSnapshot;
+import org.ikigaidigital.domain.model.SnapshotExport;
+import org.ikigaidigital.domain.port.in.AnalyzeSnapshotUseCase;
+import org.ikigaidigital.domain.port.in.ExportSnapshotUseCase;
+import org.ikigaidigital.domain.port.out.PortfolioSnapshotStore;
+import org.ikigaidigital.domain.port.out.TimeDepositRepository;
+import org.ikigaidigital.domain.service.strategy.InterestStrategy;
+import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Exports the book to a {@link PortfolioSnapshot} and runs what-if analytics over it. Analytics read
+ * the snapshot column by column, with no object per deposit, and never open a database connection;
+ * only the export does, in one read-only transaction that keeps its cursor open.
+ */
+@Service
+public class SnapshotService implements ExportSnapshotUseCase, AnalyzeSnapshotUseCase {
+
+    private final TimeDepositRepository repository;
+    private final PortfolioSnapshotStore snapshotStore;
+    private final TimeDepositCalculator calculator;
+    private final InterestStrategyFactory strategyFactory;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public SnapshotService(TimeDepositRepository repository,
+                           PortfolioSnapshotStore snapshotStore,
+                           TimeDepositCalculator calculator,
+                           InterestStrategyFactory strategyFactory,
+                           PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.snapshotStore = snapshotStore;
+        this.calculator = calculator;
+        this.strategyFactory = strategyFactory;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public SnapshotExport exportSnapshot() {
+        long started = System.nanoTime();
+        long[] deposits = new long[1];
+        try (PortfolioSnapshotStore.Writer writer = snapshotStore.openWriter()) {
+            readOnlyTransaction.executeWithoutResult(status -> repository.forEachSnapshotRow(
+                    (id, planType, days, balanceCents, withdrawals, withdrawnCents) -> {
+                        writer.accept(id, planType, days, balanceCents, withdrawals, withdrawnCents);
+                        deposits[0]++;
+                    }));
+            long bytes = writer.commit();
+            return new SnapshotExport(deposits[0], bytes, (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    @Override
+    public Optional<BalanceProjection> projectSnapshot(int months) {
+        ProjectionService.requireMonths(months);
+        return snapshotStore.open().map(snapshot -> {
+            long balanceCents = 0;
+            for (int i = 0; i < snapshot.size(); i++) {
+                balanceCents += snapshot.balanceCents(i);
+            }
+            return BalanceProjection.ofCents(null, null, snapshot.size(), balanceCents,
+                    calculator.projectTotals(snapshot, months));
+        });
+    }
+
+    /**
+     * Accumulates per plan code in primitive arrays in one pass; interest goes through
+     * {@link InterestStrategy#calculateInterestCents}, as the accrual does.
+     */
+    @Override
+    public Optional<List<PlanSummary>> summarizeSnapshot() {
+        return snapshotStore.open().map(snapshot -> {
+            InterestStrategy[] strategies = strategyFactory.getStrategies(snapshot.planTypes());
+            int plans = strategies.length;
+            long[] deposits = new long[plans];
+            long[] balanceCents = new long[plans];
+            long[] withdrawals = new long[plans];
+            long[] withdrawnCents = new long[plans];
+            long[] interestCents = new long[plans];
+            for (int i = 0; i < snapshot.size(); i++) {
+                int code = snapshot.planCode(i);
+                long balance = snapshot.balanceCents(i);
+                deposits[code]++;
+                balanceCents[code] += balance;
+                withdrawals[code] += snapshot.withdrawals(i);
+                withdrawnCents[code] += snapshot.withdrawnCents(i);
+                interestCents[code] += strategies[code].calculateInterestCents(balance, snapshot.days(i));
+            }
+            List<PlanSummary> summaries = new ArrayList<>(plans);
+            for (int code = 0; code < plans; code++) {
+                summaries.add(new PlanSummary(snapshot.planTypes().get(code), deposits[code],
+                        BigDecimal.valueOf(balanceCents[code], 2), withdrawals[code],
+                        BigDecimal.valueOf(withdrawnCents[code], 2), BigDecimal.valueOf(interestCents[code], 2)));
+            }
+            summaries.sort(Comparator.comparing(PlanSummary::getPlanType));
+            return summaries;
+        });
+    }
+}
@@ -1,25 +1,82 @@
 package org.ikigaidigital.domain.service;
 
 import org.ikigaidigital.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.AccrualCancelledException;
+import org.ikigaidigital.domain.model.AccrualMode;
+import org.ikigaidigital.domain.model.AccrualPartition;
+import org.ikigaidigital.domain.model.AccrualPhase;
+import org.ikigaidigital.domain.model.AccrualProgress;
+import org.ikigaidigital.domain.model.BalancesChangedEvent;
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.PlanSummary;
 import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.TimeDepositChanges;
+import org.ikigaidigital.domain.model.TimeDepositPage;
 import org.ikigaidigital.domain.port.in.GetAllTimeDepositsUseCase;
+import org.ikigaidigital.domain.port.in.GetChangedTimeDepositsUseCase;
+import org.ikigaidigital.domain.port.in.GetPortfolioSummaryUseCase;
+import org.ikigaidigital.domain.port.in.GetTimeDepositPageUseCase;
+import org.ikigaidigital.domain.port.in.GetTimeDepositUseCase;
+import org.ikigaidigital.domain.port.in.StreamTimeDepositsUseCase;
 import org.ikigaidigital.domain.port.in.UpdateBalancesUseCase;
+import org.ikigaidigital.domain.port.out.AccrualMetrics;
 import org.ikigaidigital.domain.port.out.TimeDepositRepository;
+import org.ikigaidigital.domain.service.strategy.InterestRule;
+import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
-public class TimeDepositService implements GetAllTimeDepositsUseCase, UpdateBalancesUseCase {
+public class TimeDepositService implements GetAllTimeDepositsUseCase, GetTimeDepositPageUseCase,
+        GetTimeDepositUseCase, GetChangedTimeDepositsUseCase, GetPortfolioSummaryUseCase, StreamTimeDepositsUseCase,
+        UpdateBalancesUseCase {
 
     private final TimeDepositRepository repository;
     private final TimeDepositCalculator calculator;
+    private final InterestStrategyFactory strategyFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final AccrualMetrics metrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final AccrualMode mode;
 
-    public TimeDepositService(TimeDepositRepository repository, TimeDepositCalculator calculator) {
+    public TimeDepositService(TimeDepositRepository repository,
+                              TimeDepositCalculator calculator,
+                              InterestStrategyFactory strategyFactory,
+                              PlatformTransactionManager transactionManager,
+                              AccrualMetrics metrics,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${time-deposit.accrual.chunk-size:1000}") int chunkSize,
+                              @Value("${time-deposit.accrual.mode:JAVA}") AccrualMode mode) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Accrual chunk size must be positive: " + chunkSize);
+        }
         this.repository = repository;
         this.calculator = calculator;
+        this.strategyFactory = strategyFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.metrics = metrics;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.mode = mode;
     }
 
     @Override
@@ -29,9 +86,213 @@ public class TimeDepositService implements GetAllTimeDepositsUseCase, UpdateBala
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Optional<TimeDeposit> getTimeDeposit(int id) {
+        return repository.findById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeDeposit> getTimeDeposits(Collection<Integer> ids) {
+        return ids.isEmpty() ? List.of() : repository.findByIds(ids);
+    }
+
+    /**
+     * Reads the current version before the deposits, so a deposit committed in between is returned now
+     * and again by the next delta rather than never.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TimeDepositChanges getTimeDepositsChangedSince(long changeToken) {
+        long version = repository.currentVersion();
+        if (changeToken < 0 || changeToken > version) {
+            throw new IllegalArgumentException("Unknown change token: " + changeToken);
+        }
+        return new TimeDepositChanges(repository.findChangedSince(changeToken), version);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getChangeToken() {
+        return repository.currentVersion();
+    }
+
+    /**
+     * Projects interest with the same declarative rules the set-based accrual uses.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PlanSummary> getPortfolioSummary() {
+        return repository.summarizeByPlanType(strategyFactory.getInterestRules());
+    }
+
+    /**
+     * Reads one deposit more than requested to learn whether another page follows, so the last page
+     * never points at an empty one.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TimeDepositPage getTimeDepositPage(Integer afterId, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+        List<TimeDeposit> timeDeposits = repository.findPageAfter(afterId, limit + 1);
+        if (timeDeposits.size() <= limit) {
+            return new TimeDepositPage(timeDeposits, null);
+        }
+        List<TimeDeposit> page = timeDeposits.subList(0, limit);
+        return new TimeDepositPage(page, page.get(limit - 1).getId());
+    }
+
+    /**
+     * Runs in a read-only transaction so the repository can keep a database cursor open for the
+     * whole walk.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamTimeDeposits(Consumer<TimeDeposit> action) {
+        repository.forEach(action);
+    }
+
+    /**
+     * Credits the interest of the current month. Each deposit records the last month it was credited
+     * for, so only deposits still due are read: calling this twice in a month credits nothing the
+     * second time, and a run interrupted part-way resumes after its last committed chunk.
+     * The book is walked in id order, {@code chunkSize} deposits at a time, committing each chunk
+     * before reading the next. One columnar {@link DepositBatch} is reused for every chunk, so heap
+     * usage and transaction length are bounded by the chunk size.
+     * In {@link AccrualMode#SQL} mode, plans with a declarative rule are credited by one set-based
+     * update first and only the remaining plans go through the chunked Java path.
+     * A caller that already holds a transaction keeps all-or-nothing semantics: chunks join it.
+     * Every chunk publishes a {@link BalancesChangedEvent} within its transaction.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void updateBalances() {
-        List<TimeDeposit> timeDeposits = repository.findAll();
-        calculator.updateBalance(timeDeposits);
-        repository.saveAll(timeDeposits);
+        updateBalances(AccrualProgress.NONE);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void updateBalances(AccrualProgress progress) {
+        updateBalances(YearMonth.now(), progress);
+    }
+
+    /**
+     * Credits the interest of {@code period} to every deposit not yet accrued for it, reporting to
+     * {@code progress} after every commit and throwing {@link AccrualCancelledException} before the
+     * next commit once cancellation is requested.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void updateBalances(YearMonth period, AccrualProgress progress) {
+        metrics.recordRun(mode, () -> accrue(period, progress));
+    }
+
+    /**
+     * Looks the deposits up by id, {@code chunkSize} ids per transaction, and always calculates them in
+     * Java: a handful of accounts does not warrant a set-based update.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void updateBalances(Collection<Integer> ids) {
+        YearMonth period = YearMonth.now();
+        List<Integer> sortedIds = new ArrayList<>(new TreeSet<>(ids));
+        metrics.recordRun(AccrualMode.JAVA, () -> {
+            DepositBatch batch = new DepositBatch(chunkSize, strategyFactory.getPlanCodes());
+            for (int start = 0; start < sortedIds.size(); start += chunkSize) {
+                List<Integer> chunk = sortedIds.subList(start, Math.min(start + chunkSize, sortedIds.size()));
+                transactionTemplate.executeWithoutResult(status -> {
+                    metrics.recordPhase(AccrualPhase.LOAD, () -> repository.fillBatch(chunk, period, batch));
+                    if (!batch.isEmpty()) {
+                        creditAndSave(batch, () -> repository.saveBalances(batch, period));
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Always takes the chunked Java path, confined to the partition's id range, so partitions held by
+     * different instances never touch the same deposits.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void updateBalances(AccrualPartition partition, AccrualProgress progress) {
+        metrics.recordRun(AccrualMode.JAVA, () -> accrueInChunks(partition.getAfterId(), partition.getUpToId(),
+                Collections.emptySet(), partition.getPeriod(), progress));
+    }
+
+    private void accrue(YearMonth period, AccrualProgress progress) {
+        boolean tracked = progress != AccrualProgress.NONE;
+        if (mode == AccrualMode.SQL) {
+            Map<String, InterestRule> rules = strategyFactory.getInterestRules();
+            Set<String> remaining = strategyFactory.getPlanTypes().stream()
+                    .filter(planType -> !rules.containsKey(planType))
+                    .collect(Collectors.toSet());
+            long total = tracked ? repository.countDueDeposits(Collections.emptySet(), period) : 0;
+            long remainingTotal = tracked && !remaining.isEmpty() ? repository.countDueDeposits(remaining, period) : 0;
+            progress.started(total);
+            checkNotCancelled(progress);
+            int accrued = transactionTemplate.execute(status -> {
+                int updated = metrics.recordPhase(AccrualPhase.SQL_UPDATE,
+                        () -> repository.applyInterestRules(rules, period));
+                eventPublisher.publishEvent(new BalancesChangedEvent(updated));
+                return updated;
+            });
+            metrics.recordSetBasedUpdate(accrued);
+            progress.processed(total - remainingTotal);
+            if (!remaining.isEmpty()) {
+                accrueInChunks(null, null, remaining, period, progress);
+            }
+        } else {
+            progress.started(tracked ? repository.countDueDeposits(Collections.emptySet(), period) : 0);
+            accrueInChunks(null, null, Collections.emptySet(), period, progress);
+        }
+    }
+
+    private static void checkNotCancelled(AccrualProgress progress) {
+        if (progress.isCancelRequested()) {
+            throw new AccrualCancelledException("Accrual run cancelled");
+        }
+    }
+
+    /**
+     * @param afterId   deposits with an id up to this one are skipped, or {@code null} for none
+     * @param upToId    deposits with a greater id are skipped, or {@code null} for none
+     * @param planTypes plan types to accrue, or empty for every deposit
+     */
+    private void accrueInChunks(Integer afterId, Integer upToId, Collection<String> planTypes, YearMonth period,
+                                AccrualProgress progress) {
+        DepositBatch batch = new DepositBatch(chunkSize, strategyFactory.getPlanCodes());
+        Integer next = afterId;
+        do {
+            checkNotCancelled(progress);
+            Integer cursor = next;
+            next = transactionTemplate.execute(status -> accrueChunk(cursor, upToId, planTypes, period, batch));
+            progress.processed(batch.size());
+        } while (next != null);
+    }
+
+    /**
+     * Accrues the batch after {@code afterId} and returns the cursor for the next batch, or
+     * {@code null} once the last (short) batch has been processed.
+     */
+    private Integer accrueChunk(Integer afterId, Integer upToId, Collection<String> planTypes, YearMonth period,
+                                DepositBatch batch) {
+        metrics.recordPhase(AccrualPhase.LOAD,
+                () -> repository.fillBatchAfter(afterId, upToId, planTypes, period, batch));
+        if (batch.isEmpty()) {
+            return null;
+        }
+        creditAndSave(batch, () -> repository.saveBalances(batch, period));
+        return batch.isFull() ? batch.lastId() : null;
+    }
+
+    private void creditAndSave(DepositBatch batch, Runnable save) {
+        metrics.recordPhase(AccrualPhase.CALCULATE, () -> calculator.updateBalance(batch));
+        metrics.recordPhase(AccrualPhase.PERSIST, save);
+        metrics.recordBatch(batch);
+        eventPublisher.publishEvent(new BalancesChangedEvent(batch.size()));
     }
 }
@@ -0,0 +1,43 @@
+package org.ikigaidigital.domain.service.strategy;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Data-driven definition of a plan: its interest tiers, each an {@link InterestRule} covering a band
+ * of deposit ages with its own rate. Tiers are kept in ascending order of their lower bound and must
+ * not overlap, so a deposit earns the rate of at most one tier; ages outside every tier earn nothing.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class InterestPlan {
+
+    private final String planType;
+    private final List<InterestRule> tiers;
+
+    public InterestPlan(String planType, List<InterestRule> tiers) {
+        if (planType == null || planType.isBlank()) {
+            throw new IllegalArgumentException("Plan type must not be blank");
+        }
+        if (tiers.isEmpty()) {
+            throw new IllegalArgumentException("Plan " + planType + " has no tiers");
+        }
+        List<InterestRule> sorted = new ArrayList<>(tiers);
+        sorted.sort(Comparator.comparingInt(InterestRule::getAfterDays));
+        for (int i = 1; i < sorted.size(); i++) {
+            InterestRule previous = sorted.get(i - 1);
+            if (previous.getUpToDays() == null || previous.getUpToDays() > sorted.get(i).getAfterDays()) {
+                throw new IllegalArgumentException("Plan " + planType + " has overlapping tiers: "
+                        + previous + " and " + sorted.get(i));
+            }
+        }
+        this.planType = planType;
+        this.tiers = List.copyOf(sorted);
+    }
+}
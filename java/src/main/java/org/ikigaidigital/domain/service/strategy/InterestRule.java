@@ -0,0 +1,93 @@
+package org.ikigaidigital.domain.service.strategy;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Declarative form of a threshold strategy: a deposit earns {@code annualRate / 12} per month
+ * while its age in days is greater than {@code afterDays} and, when set, at most {@code upToDays}.
+ */
+@Getter
+@EqualsAndHashCode(exclude = {"rateUnscaled", "centsDivisor"})
+@ToString(exclude = {"rateUnscaled", "centsDivisor"})
+public final class InterestRule {
+
+    private static final BigDecimal MONTHS_PER_YEAR = new BigDecimal("12");
+
+    /**
+     * Largest rate scale for which the cents kernel is exact. Interest in cents is
+     * {@code balanceCents * unscaledRate / (12 * 10^scale)}; a non-zero distance from a half cent is
+     * therefore at least {@code 1 / (24 * 10^scale)} cents, which must exceed the {@code 0.5e-8} cents
+     * the scale-10 intermediate rounding of {@link #monthlyInterest} may move the value.
+     */
+    private static final int MAX_FIXED_POINT_RATE_SCALE = 6;
+
+    private final int afterDays;
+    private final Integer upToDays;
+    private final BigDecimal annualRate;
+
+    @Getter(AccessLevel.NONE)
+    private final long rateUnscaled;
+
+    @Getter(AccessLevel.NONE)
+    private final long centsDivisor;
+
+    public InterestRule(int afterDays, Integer upToDays, BigDecimal annualRate) {
+        this.afterDays = afterDays;
+        this.upToDays = upToDays;
+        this.annualRate = annualRate;
+
+        BigDecimal rate = annualRate.stripTrailingZeros();
+        if (rate.scale() < 0) {
+            rate = rate.setScale(0);
+        }
+        if (rate.scale() <= MAX_FIXED_POINT_RATE_SCALE && rate.precision() <= 18) {
+            this.rateUnscaled = rate.unscaledValue().longValueExact();
+            this.centsDivisor = 12 * BigDecimal.ONE.scaleByPowerOfTen(rate.scale()).longValueExact();
+        } else {
+            this.rateUnscaled = 0;
+            this.centsDivisor = 0;
+        }
+    }
+
+    public boolean appliesTo(int days) {
+        return days > afterDays && (upToDays == null || days <= upToDays);
+    }
+
+    public BigDecimal monthlyInterest(BigDecimal balance) {
+        return balance
+                .multiply(annualRate)
+                .divide(MONTHS_PER_YEAR, 10, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Whether {@link #monthlyInterestCents} is available and exact for this rule's rate.
+     */
+    public boolean isFixedPointExact() {
+        return centsDivisor != 0;
+    }
+
+    /**
+     * Allocation-free counterpart of {@link #monthlyInterest} for balances held in cents: the same
+     * monthly interest, rounded {@code HALF_UP} to whole cents, computed with {@code long} arithmetic.
+     *
+     * @throws ArithmeticException if the balance is too large for exact {@code long} arithmetic
+     */
+    public long monthlyInterestCents(long balanceCents) {
+        if (centsDivisor == 0) {
+            throw new UnsupportedOperationException("Rate " + annualRate + " has no exact fixed-point form");
+        }
+        long numerator = Math.multiplyExact(balanceCents, rateUnscaled);
+        long quotient = numerator / centsDivisor;
+        long remainder = numerator % centsDivisor;
+        if (Math.abs(remainder) * 2 >= centsDivisor) {
+            quotient += Long.signum(numerator);
+        }
+        return quotient;
+    }
+}
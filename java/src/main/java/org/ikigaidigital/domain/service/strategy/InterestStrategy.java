@@ -3,10 +3,42 @@ package org.ikigaidigital.domain.service.strategy;
 import org.ikigaidigital.domain.model.TimeDeposit;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Optional;
 
 public interface InterestStrategy {
 
     BigDecimal calculateInterest(TimeDeposit deposit);
 
     String getPlanType();
+
+    /**
+     * The rule this strategy applies, for strategies simple enough to be evaluated outside the JVM.
+     * Strategies that return empty are always evaluated through {@link #calculateInterest}.
+     */
+    default Optional<InterestRule> getInterestRule() {
+        return Optional.empty();
+    }
+
+    /**
+     * Whether {@link #calculateInterestCents} is a native fixed-point implementation rather than the
+     * allocating {@link BigDecimal} fallback.
+     */
+    default boolean supportsFixedPoint() {
+        return false;
+    }
+
+    /**
+     * Monthly interest for a balance held in cents, rounded {@code HALF_UP} to whole cents exactly
+     * like the calculator rounds {@link #calculateInterest}. The default delegates to
+     * {@link #calculateInterest}; strategies that {@link #supportsFixedPoint() support fixed point}
+     * override it with {@code long} arithmetic.
+     */
+    default long calculateInterestCents(long balanceCents, int days) {
+        TimeDeposit deposit = new TimeDeposit(null, getPlanType(), days, BigDecimal.valueOf(balanceCents, 2));
+        return calculateInterest(deposit)
+                .setScale(2, RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+    }
 }
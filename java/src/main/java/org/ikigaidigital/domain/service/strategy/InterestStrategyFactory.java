@@ -1,27 +1,161 @@
 package org.ikigaidigital.domain.service.strategy;
 
+import org.ikigaidigital.domain.model.PlanCodes;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Set;
 
+/**
+ * Resolves the strategy of a plan type. Strategies come from two sources: the {@link InterestStrategy}
+ * beans, and the {@link InterestPlan}s of the plan table, which replace a bean of the same plan type.
+ * Both are compiled into an immutable {@link PlanTable} holding the strategies in an array indexed by
+ * plan code. Codes come from the factory's {@link PlanCodes}, which outlives every table, so a plan
+ * type keeps its code across reloads and deposits encoded with {@link #getPlanCodes()} are dispatched
+ * by array index alone. {@link #reload} swaps the whole table through a volatile field, so lookups
+ * never lock and always see either the old or the new table.
+ */
 @Component
 public class InterestStrategyFactory {
 
-    private final Map<String, InterestStrategy> strategyMap;
+    private final Map<String, InterestStrategy> beanStrategies;
+    private final PlanCodes planCodes = new PlanCodes();
+    private volatile PlanTable table;
 
     public InterestStrategyFactory(List<InterestStrategy> strategies) {
-        this.strategyMap = strategies.stream()
-                .collect(Collectors.toMap(InterestStrategy::getPlanType, Function.identity()));
+        Map<String, InterestStrategy> byPlanType = new LinkedHashMap<>();
+        for (InterestStrategy strategy : strategies) {
+            if (byPlanType.put(strategy.getPlanType(), strategy) != null) {
+                throw new IllegalArgumentException(
+                        "Duplicate interest strategy for plan type: " + strategy.getPlanType());
+            }
+        }
+        this.beanStrategies = Collections.unmodifiableMap(byPlanType);
+        this.table = new PlanTable(beanStrategies, List.of(), planCodes);
+    }
+
+    /**
+     * Compiles {@code plans} over the strategy beans and publishes the result for every subsequent
+     * lookup. Calculations already running keep the strategies they resolved.
+     *
+     * @throws IllegalArgumentException if a plan type is defined twice; the current table is kept
+     */
+    public void reload(Collection<InterestPlan> plans) {
+        table = new PlanTable(beanStrategies, plans, planCodes);
+    }
+
+    /** Dictionary whose codes index the strategy table; shared by every batch filled for accrual. */
+    public PlanCodes getPlanCodes() {
+        return planCodes;
+    }
+
+    /** Stable code of the plan type, assigned on first use even if no strategy is defined for it yet. */
+    public int codeOf(String planType) {
+        return planCodes.codeOf(planType);
     }
 
     public InterestStrategy getStrategy(String planType) {
-        InterestStrategy strategy = strategyMap.get(planType);
-        if (strategy == null) {
-            throw new IllegalArgumentException("No interest strategy found for plan type: " + planType);
+        return table.strategy(planType);
+    }
+
+    /**
+     * Strategy of the plan type with the given {@link #codeOf code}.
+     *
+     * @throws IllegalArgumentException if the current table defines no strategy for it
+     */
+    public InterestStrategy strategy(int code) {
+        return table.strategy(code);
+    }
+
+    /**
+     * Strategies of the plan types of {@code codes}, resolved from one table so a concurrent reload
+     * cannot mix rules within a batch; element {@code c} belongs to code {@code c}. For the factory's
+     * own dictionary this is a copy of the table's array, with {@code null} for plan types that have
+     * no strategy, so callers must check the element they dispatch to. Any other dictionary is
+     * translated by plan type and fails on an unknown one.
+     */
+    public InterestStrategy[] getStrategies(PlanCodes codes) {
+        return codes == planCodes ? table.strategies.clone() : getStrategies(codes.planTypes());
+    }
+
+    /**
+     * Strategies of the given plan types, resolved from one table so a concurrent reload cannot mix
+     * rules within a batch; element {@code i} belongs to {@code planTypes.get(i)}.
+     */
+    public InterestStrategy[] getStrategies(List<String> planTypes) {
+        PlanTable current = table;
+        InterestStrategy[] strategies = new InterestStrategy[planTypes.size()];
+        for (int i = 0; i < strategies.length; i++) {
+            strategies[i] = current.strategy(planTypes.get(i));
+        }
+        return strategies;
+    }
+
+    public Set<String> getPlanTypes() {
+        return table.planTypes;
+    }
+
+    /** Plans of the plan table currently in effect, in load order. */
+    public List<InterestPlan> getPlans() {
+        return table.plans;
+    }
+
+    /**
+     * Rules of the strategies that declare one, keyed by plan type. Plan types missing from the
+     * result must be evaluated through {@link InterestStrategy#calculateInterest}.
+     */
+    public Map<String, InterestRule> getInterestRules() {
+        PlanTable current = table;
+        Map<String, InterestRule> rules = new LinkedHashMap<>();
+        for (String planType : current.planTypes) {
+            current.strategy(planType).getInterestRule().ifPresent(rule -> rules.put(planType, rule));
+        }
+        return rules;
+    }
+
+    private static final class PlanTable {
+
+        private final PlanCodes codes;
+        private final Set<String> planTypes;
+        private final InterestStrategy[] strategies = new InterestStrategy[PlanCodes.MAX_CODES];
+        private final List<InterestPlan> plans;
+
+        PlanTable(Map<String, InterestStrategy> beanStrategies, Collection<InterestPlan> plans, PlanCodes codes) {
+            Map<String, InterestStrategy> byPlanType = new LinkedHashMap<>(beanStrategies);
+            Map<String, InterestPlan> planByType = new LinkedHashMap<>();
+            for (InterestPlan plan : plans) {
+                if (planByType.put(plan.getPlanType(), plan) != null) {
+                    throw new IllegalArgumentException("Duplicate interest plan: " + plan.getPlanType());
+                }
+                byPlanType.put(plan.getPlanType(), new TieredInterestStrategy(plan));
+            }
+            for (InterestStrategy strategy : byPlanType.values()) {
+                strategies[codes.codeOf(strategy.getPlanType())] = strategy;
+            }
+            this.codes = codes;
+            this.planTypes = Collections.unmodifiableSet(new LinkedHashSet<>(byPlanType.keySet()));
+            this.plans = List.copyOf(planByType.values());
+        }
+
+        InterestStrategy strategy(String planType) {
+            if (!planTypes.contains(planType)) {
+                throw new IllegalArgumentException("No interest strategy found for plan type: " + planType);
+            }
+            return strategies[codes.codeOf(planType)];
+        }
+
+        InterestStrategy strategy(int code) {
+            InterestStrategy strategy = code >= 0 && code < strategies.length ? strategies[code] : null;
+            if (strategy == null) {
+                throw new IllegalArgumentException("No interest strategy found for plan type: "
+                        + (code >= 0 && code < codes.size() ? codes.planType(code) : "code " + code));
+            }
+            return strategy;
         }
-        return strategy;
     }
 }
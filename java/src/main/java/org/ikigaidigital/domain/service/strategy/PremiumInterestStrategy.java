@@ -4,17 +4,17 @@ import org.ikigaidigital.domain.model.TimeDeposit;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.Optional;
 
 @Component
 public class PremiumInterestStrategy implements InterestStrategy {
 
+    private static final InterestRule RULE = new InterestRule(45, null, new BigDecimal("0.05"));
+
     @Override
     public BigDecimal calculateInterest(TimeDeposit deposit) {
-        if (deposit.getDays() > 45) {
-            return deposit.getBalance()
-                    .multiply(new BigDecimal("0.05"))
-                    .divide(new BigDecimal("12"), 10, RoundingMode.HALF_UP);
+        if (RULE.appliesTo(deposit.getDays())) {
+            return RULE.monthlyInterest(deposit.getBalance());
         }
         return BigDecimal.valueOf(0);
     }
@@ -23,4 +23,19 @@ public class PremiumInterestStrategy implements InterestStrategy {
     public String getPlanType() {
         return "premium";
     }
+
+    @Override
+    public Optional<InterestRule> getInterestRule() {
+        return Optional.of(RULE);
+    }
+
+    @Override
+    public boolean supportsFixedPoint() {
+        return RULE.isFixedPointExact();
+    }
+
+    @Override
+    public long calculateInterestCents(long balanceCents, int days) {
+        return RULE.appliesTo(days) ? RULE.monthlyInterestCents(balanceCents) : 0L;
+    }
 }
@@ -0,0 +1,69 @@
+package org.ikigaidigital.domain.service.strategy;
+
+import org.ikigaidigital.domain.model.TimeDeposit;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * Strategy compiled from an {@link InterestPlan}. The tiers are copied into an array so finding the
+ * tier of a deposit is a short scan without allocation. A single-tier plan exposes its rule, so the
+ * set-based SQL path can evaluate it; plans with several tiers are always calculated in Java.
+ */
+public final class TieredInterestStrategy implements InterestStrategy {
+
+    private final String planType;
+    private final InterestRule[] tiers;
+    private final boolean fixedPoint;
+
+    public TieredInterestStrategy(InterestPlan plan) {
+        this.planType = plan.getPlanType();
+        this.tiers = plan.getTiers().toArray(new InterestRule[0]);
+        boolean exact = true;
+        for (InterestRule tier : tiers) {
+            exact &= tier.isFixedPointExact();
+        }
+        this.fixedPoint = exact;
+    }
+
+    @Override
+    public BigDecimal calculateInterest(TimeDeposit deposit) {
+        InterestRule tier = tierFor(deposit.getDays());
+        return tier == null ? BigDecimal.valueOf(0) : tier.monthlyInterest(deposit.getBalance());
+    }
+
+    @Override
+    public String getPlanType() {
+        return planType;
+    }
+
+    @Override
+    public Optional<InterestRule> getInterestRule() {
+        return tiers.length == 1 ? Optional.of(tiers[0]) : Optional.empty();
+    }
+
+    @Override
+    public boolean supportsFixedPoint() {
+        return fixedPoint;
+    }
+
+    @Override
+    public long calculateInterestCents(long balanceCents, int days) {
+        InterestRule tier = tierFor(days);
+        if (tier == null) {
+            return 0L;
+        }
+        return tier.isFixedPointExact()
+                ? tier.monthlyInterestCents(balanceCents)
+                : InterestStrategy.super.calculateInterestCents(balanceCents, days);
+    }
+
+    private InterestRule tierFor(int days) {
+        for (InterestRule tier : tiers) {
+            if (tier.appliesTo(days)) {
+                return tier;
+            }
+        }
+        return null;
+    }
+}
@@ -13,3 +13,20 @@ INSERT INTO withdrawals (id, time_deposit_id, amount, date) VALUES
                                                                 (2, 2, 200.00, '2024-01-20'),
                                                                 (3, 3, 1000.00, '2024-02-01'),
                                                                 (4, 6, 750.00, '2024-01-25');
+
+
+INSERT INTO interest_plan_tiers (plan_type, after_days, up_to_days, annual_rate) VALUES
+                                                                                  ('basic', 30, NULL, 0.01),
+                                                                                  ('student', 30, 365, 0.03),
+                                                                                  ('premium', 45, NULL, 0.05);
+
+
+-- The seed rows above carry explicit ids; move the pooled id sequences past them.
+ALTER SEQUENCE time_deposits_seq RESTART WITH 1001;
+ALTER SEQUENCE withdrawals_seq RESTART WITH 1001;
+
+-- The balance change feed hands out offsets from its single row.
+INSERT INTO balance_change_feed (id, last_offset) VALUES (1, 0);
+
+-- Deposits written from now on get row versions from this row; the seed rows above are at version 0.
+INSERT INTO time_deposit_versions (id, last_version) VALUES (1, 0);
@@ -0,0 +1,150 @@
+package org.ikigaidigital;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts the application in a new JVM, as a new replica does, and fails when it takes longer than its
+ * budget to report that it started or to answer its first {@code GET /api/time-deposits}. Both are
+ * measured from launching the JVM, so they include class loading, context refresh, Hibernate and
+ * {@code data.sql}. It forks a whole application, so it is an integration test that only the
+ * {@code fast-startup} profile runs, under failsafe, pointing it at the AOT-processed jar and its CDS
+ * archive with tighter budgets. Run on its own, the JVM runs this test's classpath instead.
+ * <ul>
+ *     <li>{@code startup.jar}: jar to run with {@code -jar} instead of the test classpath</li>
+ *     <li>{@code startup.jvm-args}: extra JVM arguments, separated by spaces</li>
+ *     <li>{@code startup.max-started-millis}: budget until the application reports it started</li>
+ *     <li>{@code startup.max-first-request-millis}: budget until the first listing is received</li>
+ * </ul>
+ */
+@Slf4j
+class ApplicationStartupIT {
+
+    private static final Pattern PORT = Pattern.compile("Tomcat started on port (\\d+)");
+    private static final String STARTED = "Started " + TimeDepositApplication.class.getSimpleName();
+    private static final long TIMEOUT_MILLIS = 180_000;
+
+    @Test
+    void shouldStartAndServeFirstRequestWithinBudget() throws Exception {
+        long maxStartedMillis = Long.getLong("startup.max-started-millis", 30_000);
+        long maxFirstRequestMillis = Long.getLong("startup.max-first-request-millis", 35_000);
+
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command()).redirectErrorStream(true).start();
+        try {
+            CompletableFuture<Integer> port = new CompletableFuture<>();
+            CompletableFuture<Long> started = new CompletableFuture<>();
+            Thread output = new Thread(() -> watch(process, launched, port, started), "startup-test-output");
+            output.setDaemon(true);
+            output.start();
+
+            String listing = firstListing(port.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            long firstRequestMillis = millisSince(launched);
+            long startedMillis = started.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            log.info("Started after {} ms, first listing after {} ms", startedMillis, firstRequestMillis);
+
+            assertTrue(listing.startsWith("[{\"id\":1,"), listing);
+            assertTrue(startedMillis <= maxStartedMillis,
+                    "Started after " + startedMillis + " ms, budget " + maxStartedMillis + " ms");
+            assertTrue(firstRequestMillis <= maxFirstRequestMillis,
+                    "First listing after " + firstRequestMillis + " ms, budget " + maxFirstRequestMillis + " ms");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static List<String> command() {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        String jvmArgs = System.getProperty("startup.jvm-args", "").trim();
+        if (!jvmArgs.isEmpty()) {
+            command.addAll(Arrays.asList(jvmArgs.split("\\s+")));
+        }
+        String jar = System.getProperty("startup.jar", "");
+        if (jar.isEmpty()) {
+            command.addAll(List.of("-cp", System.getProperty("java.class.path"),
+                    TimeDepositApplication.class.getName()));
+        } else {
+            command.addAll(List.of("-jar", jar));
+        }
+        command.addAll(List.of("--server.port=0", "--spring.jpa.show-sql=false"));
+        return command;
+    }
+
+    /**
+     * Drains the application's output, which would otherwise block it once the pipe fills up, and
+     * completes the futures from its log lines. Both fail if the process exits first.
+     */
+    private static void watch(Process process, long launched, CompletableFuture<Integer> port,
+                              CompletableFuture<Long> started) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher matcher = PORT.matcher(line);
+                if (matcher.find()) {
+                    port.complete(Integer.parseInt(matcher.group(1)));
+                }
+                if (line.contains(STARTED)) {
+                    started.complete(millisSince(launched));
+                }
+            }
+        } catch (IOException e) {
+            // The stream closes when the process is destroyed.
+        }
+        IllegalStateException exited = new IllegalStateException("Application exited before it started");
+        port.completeExceptionally(exited);
+        started.completeExceptionally(exited);
+    }
+
+    /**
+     * Polls the listing until the port accepts connections; Tomcat reports its port just before the
+     * application reports it started.
+     */
+    private static String firstListing(int port) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/time-deposits"))
+                .build();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+        while (true) {
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                assertEquals(200, response.statusCode(), response.body());
+                return response.body();
+            } catch (ConnectException e) {
+                if (System.nanoTime() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private static long millisSince(long nanoTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - nanoTime);
+    }
+}
@@ -0,0 +1,135 @@
+package org.ikigaidigital;
+
+import org.ikigaidigital.domain.model.PartitionedAccrualResult;
+import org.ikigaidigital.domain.port.in.AccruePartitionsUseCase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs several application instances against one file-backed database and lets them share accrual runs
+ * through the partition leases, as separate processes would. The instances share one book, so the tests
+ * accrue successive months in order.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PartitionedAccrualMultiInstanceTest {
+
+    private static final int INSTANCES = 3;
+    private static final int DEPOSITS = 3000;
+    private static final int PARTITIONS = 12;
+
+    @TempDir
+    static Path directory;
+
+    private static final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private static JdbcTemplate jdbc;
+
+    @BeforeAll
+    static void startInstances() {
+        String url = "jdbc:h2:file:" + directory.resolve("book");
+        for (int instance = 0; instance < INSTANCES; instance++) {
+            // Only the first instance creates the schema and sample data; the others join it.
+            boolean first = instance == 0;
+            contexts.add(new SpringApplicationBuilder(TimeDepositApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .run("--spring.datasource.url=" + url,
+                            "--spring.jpa.show-sql=false",
+                            "--spring.jpa.hibernate.ddl-auto=" + (first ? "create" : "none"),
+                            "--spring.sql.init.mode=" + (first ? "always" : "never"),
+                            "--time-deposit.accrual.chunk-size=50",
+                            "--time-deposit.accrual.partitions.count=" + PARTITIONS,
+                            "--time-deposit.accrual.partitions.instance-id=instance-" + instance));
+        }
+        jdbc = contexts.get(0).getBean(JdbcTemplate.class);
+        jdbc.batchUpdate("INSERT INTO time_deposits (id, plan_type, days, balance) VALUES (?, 'basic', 45, 1000.00)",
+                IntStream.rangeClosed(7, DEPOSITS).mapToObj(id -> new Object[]{id}).toList());
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        for (int instance = contexts.size() - 1; instance >= 0; instance--) {
+            contexts.get(instance).close();
+        }
+    }
+
+    @Test
+    @Order(1)
+    void shouldCreditEveryDepositOnceAcrossInstances() throws Exception {
+        YearMonth period = YearMonth.of(2024, 3);
+
+        List<PartitionedAccrualResult> results = accrueOnEveryInstance(period);
+
+        assertEquals(PARTITIONS, results.stream().mapToInt(PartitionedAccrualResult::getAccruedPartitions).sum());
+        assertEquals(DEPOSITS - 6, jdbc.queryForObject(
+                "SELECT COUNT(*) FROM time_deposits WHERE id > 6 AND balance = 1000.83", Integer.class));
+        assertEquals(new BigDecimal("10008.33"),
+                jdbc.queryForObject("SELECT balance FROM time_deposits WHERE id = 1", BigDecimal.class));
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM time_deposits "
+                + "WHERE last_accrued_period IS NULL OR last_accrued_period <> ?", Integer.class, period.atDay(1)));
+        assertEquals(PARTITIONS, jdbc.queryForObject("SELECT COUNT(DISTINCT partition_no) FROM accrual_partitions "
+                + "WHERE period = ? AND completed_at IS NOT NULL", Integer.class, period.atDay(1)));
+    }
+
+    @Test
+    @Order(2)
+    void shouldTakeOverPartitionWhoseLeaseExpired() {
+        YearMonth period = YearMonth.of(2024, 4);
+        OffsetDateTime expired = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(1);
+        jdbc.update("INSERT INTO accrual_partitions (period, partition_no, after_id, up_to_id, owner, lease_until) "
+                + "VALUES (?, 0, NULL, 1500, 'crashed-instance', ?)", period.atDay(1), expired);
+        jdbc.update("INSERT INTO accrual_partitions (period, partition_no, after_id, up_to_id) "
+                + "VALUES (?, 1, 1500, NULL)", period.atDay(1));
+
+        PartitionedAccrualResult result = useCase(1).accruePartitions(period);
+
+        assertEquals(2, result.getAccruedPartitions());
+        assertEquals(0, result.getOpenPartitions());
+        assertEquals("instance-1", jdbc.queryForObject(
+                "SELECT owner FROM accrual_partitions WHERE period = ? AND partition_no = 0",
+                String.class, period.atDay(1)));
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM time_deposits "
+                + "WHERE last_accrued_period <> ?", Integer.class, period.atDay(1)));
+    }
+
+    private static List<PartitionedAccrualResult> accrueOnEveryInstance(YearMonth period) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(INSTANCES);
+        try {
+            List<Future<PartitionedAccrualResult>> runs = IntStream.range(0, INSTANCES)
+                    .mapToObj(instance -> executor.submit(() -> useCase(instance).accruePartitions(period)))
+                    .toList();
+            List<PartitionedAccrualResult> results = new ArrayList<>();
+            for (Future<PartitionedAccrualResult> run : runs) {
+                results.add(run.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static AccruePartitionsUseCase useCase(int instance) {
+        return contexts.get(instance).getBean(AccruePartitionsUseCase.class);
+    }
+}
@@ -1,5 +1,6 @@
 package org.ikigaidigital;
 
+import org.ikigaidigital.domain.model.DepositBatch;
 import org.ikigaidigital.domain.model.TimeDeposit;
 import org.ikigaidigital.domain.service.strategy.BasicInterestStrategy;
 import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
@@ -12,16 +13,20 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class TimeDepositCalculatorTest {
 
+    private InterestStrategyFactory factory;
     private TimeDepositCalculator calculator;
 
     @BeforeEach
     void setUp() {
-        InterestStrategyFactory factory = new InterestStrategyFactory(List.of(
+        factory = new InterestStrategyFactory(List.of(
                 new BasicInterestStrategy(),
                 new StudentInterestStrategy(),
                 new PremiumInterestStrategy()
@@ -96,4 +101,215 @@ class TimeDepositCalculatorTest {
 
         assertEquals(BigDecimal.valueOf(20000.0).setScale(2, RoundingMode.HALF_EVEN), deposits.get(0).getBalance().setScale(2, RoundingMode.HALF_EVEN));
     }
+
+    @Test
+    void parallelModeShouldProduceIdenticalBalances() {
+        InterestStrategyFactory factory = new InterestStrategyFactory(List.of(
+                new BasicInterestStrategy(),
+                new StudentInterestStrategy(),
+                new PremiumInterestStrategy()
+        ));
+        TimeDepositCalculator parallel = new TimeDepositCalculator(factory, 4, 64);
+        String[] planTypes = {"basic", "student", "premium"};
+        Random random = new Random(7);
+        List<TimeDeposit> sequentialDeposits = new ArrayList<>();
+        List<TimeDeposit> parallelDeposits = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            String planType = planTypes[random.nextInt(planTypes.length)];
+            int days = random.nextInt(500);
+            BigDecimal balance = BigDecimal.valueOf(random.nextInt(100_000_000), 2);
+            sequentialDeposits.add(new TimeDeposit(i, planType, days, balance));
+            parallelDeposits.add(new TimeDeposit(i, planType, days, balance));
+        }
+
+        try {
+            calculator.updateBalance(sequentialDeposits);
+            parallel.updateBalance(parallelDeposits);
+        } finally {
+            parallel.shutdown();
+        }
+
+        assertEquals(sequentialDeposits, parallelDeposits);
+    }
+
+    @Test
+    void parallelModeShouldPropagateStrategyFailures() {
+        InterestStrategyFactory factory = new InterestStrategyFactory(List.of(new BasicInterestStrategy()));
+        TimeDepositCalculator parallel = new TimeDepositCalculator(factory, 2, 1);
+        List<TimeDeposit> deposits = List.of(
+                new TimeDeposit(1, "basic", 45, BigDecimal.valueOf(10000.0)),
+                new TimeDeposit(2, "unknown", 45, BigDecimal.valueOf(10000.0)));
+
+        try {
+            assertThrows(IllegalArgumentException.class, () -> parallel.updateBalance(deposits));
+        } finally {
+            parallel.shutdown();
+        }
+    }
+
+    @Test
+    void batchShouldCreditSameInterestAsListPath() {
+        String[] planTypes = {"premium", "basic", "student"};
+        Random random = new Random(11);
+        List<TimeDeposit> deposits = new ArrayList<>();
+        DepositBatch batch = new DepositBatch(5_000);
+        for (int i = 0; i < 5_000; i++) {
+            String planType = planTypes[random.nextInt(planTypes.length)];
+            int days = random.nextInt(500);
+            long cents = random.nextInt(100_000_000);
+            deposits.add(new TimeDeposit(i, planType, days, BigDecimal.valueOf(cents, 2)));
+            batch.add(i, planType, days, cents);
+        }
+
+        calculator.updateBalance(deposits);
+        calculator.updateBalance(batch);
+
+        for (int i = 0; i < deposits.size(); i++) {
+            assertEquals(deposits.get(i).getBalance(), BigDecimal.valueOf(batch.balanceCents(i), 2));
+        }
+    }
+
+    @Test
+    void batchShouldRecordCreditedInterest() {
+        DepositBatch batch = new DepositBatch(2);
+        batch.add(1, "basic", 45, 1_000_000L);
+        batch.add(4, "basic", 25, 300_000L);
+
+        calculator.updateBalance(batch);
+
+        assertEquals(1_000_833L, batch.balanceCents(0));
+        assertEquals(833L, batch.interestCents(0));
+        assertEquals(300_000L, batch.balanceCents(1));
+        assertEquals(0L, batch.interestCents(1));
+    }
+
+    @Test
+    void batchWithSharedPlanCodesShouldDispatchByCode() {
+        DepositBatch batch = new DepositBatch(2, factory.getPlanCodes());
+        batch.add(1, (byte) factory.codeOf("basic"), 45, 1_000_000L);
+        batch.add(2, (byte) factory.codeOf("premium"), 50, 1_000_000L);
+
+        calculator.updateBalance(batch);
+
+        assertEquals(1_000_833L, batch.balanceCents(0));
+        assertEquals(1_004_167L, batch.balanceCents(1));
+    }
+
+    @Test
+    void batchWithSharedPlanCodesShouldRejectPlanTypeWithoutStrategy() {
+        DepositBatch batch = new DepositBatch(2, factory.getPlanCodes());
+        batch.add(1, "basic", 45, 1_000_000L);
+        batch.add(2, "gold", 45, 1_000_000L);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> calculator.updateBalance(batch));
+
+        assertEquals("No interest strategy found for plan type: gold", e.getMessage());
+    }
+
+    @Test
+    void parallelBatchShouldMatchSequentialBatch() {
+        InterestStrategyFactory factory = new InterestStrategyFactory(List.of(
+                new BasicInterestStrategy(),
+                new StudentInterestStrategy(),
+                new PremiumInterestStrategy()
+        ));
+        TimeDepositCalculator parallel = new TimeDepositCalculator(factory, 4, 64);
+        String[] planTypes = {"basic", "student", "premium"};
+        Random random = new Random(13);
+        DepositBatch sequentialBatch = new DepositBatch(10_000);
+        DepositBatch parallelBatch = new DepositBatch(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            String planType = planTypes[random.nextInt(planTypes.length)];
+            int days = random.nextInt(500);
+            long cents = random.nextInt(100_000_000);
+            sequentialBatch.add(i, planType, days, cents);
+            parallelBatch.add(i, planType, days, cents);
+        }
+
+        try {
+            calculator.updateBalance(sequentialBatch);
+            parallel.updateBalance(parallelBatch);
+        } finally {
+            parallel.shutdown();
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(sequentialBatch.balanceCents(i), parallelBatch.balanceCents(i));
+        }
+    }
+
+    @Test
+    void projectionShouldMatchRepeatedMonthlyRunsOnAgeingDeposits() {
+        DepositBatch batch = randomBatch(2_000, 17);
+        int months = 24;
+
+        long[][] trajectories = calculator.projectTrajectories(batch, months);
+        long[] totals = calculator.projectTotals(batch, months);
+
+        DepositBatch current = copy(batch, 0);
+        for (int month = 0; month < months; month++) {
+            calculator.updateBalance(current);
+            long total = 0;
+            for (int i = 0; i < current.size(); i++) {
+                assertEquals(current.balanceCents(i), trajectories[i][month]);
+                total += current.balanceCents(i);
+            }
+            assertEquals(total, totals[month]);
+            current = copy(current, TimeDepositCalculator.DAYS_PER_MONTH);
+        }
+    }
+
+    @Test
+    void projectionShouldStopCreditingOnceDepositAgesOutOfItsPlan() {
+        DepositBatch batch = new DepositBatch(1);
+        batch.add(1, "student", 330, 1_000_000L);
+
+        long[] balances = calculator.projectTrajectories(batch, 3)[0];
+
+        assertEquals(1_002_500L, balances[0]);
+        assertEquals(1_005_006L, balances[1]);
+        assertEquals(1_005_006L, balances[2]);
+        assertEquals(1_000_000L, batch.balanceCents(0));
+    }
+
+    @Test
+    void parallelProjectionShouldMatchSequentialProjection() {
+        InterestStrategyFactory factory = new InterestStrategyFactory(List.of(
+                new BasicInterestStrategy(),
+                new StudentInterestStrategy(),
+                new PremiumInterestStrategy()
+        ));
+        TimeDepositCalculator parallel = new TimeDepositCalculator(factory, 4, 64);
+        DepositBatch batch = randomBatch(10_000, 13);
+
+        try {
+            assertArrayEquals(calculator.projectTotals(batch, 120), parallel.projectTotals(batch, 120));
+            long[][] sequentialTrajectories = calculator.projectTrajectories(batch, 12);
+            long[][] parallelTrajectories = parallel.projectTrajectories(batch, 12);
+            for (int i = 0; i < batch.size(); i++) {
+                assertArrayEquals(sequentialTrajectories[i], parallelTrajectories[i]);
+            }
+        } finally {
+            parallel.shutdown();
+        }
+    }
+
+    private static DepositBatch randomBatch(int size, long seed) {
+        String[] planTypes = {"basic", "student", "premium"};
+        Random random = new Random(seed);
+        DepositBatch batch = new DepositBatch(size);
+        for (int i = 0; i < size; i++) {
+            batch.add(i, planTypes[random.nextInt(planTypes.length)], random.nextInt(500), random.nextInt(100_000_000));
+        }
+        return batch;
+    }
+
+    private static DepositBatch copy(DepositBatch batch, int ageDays) {
+        DepositBatch copy = new DepositBatch(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            copy.add(batch.id(i), batch.planType(i), batch.days(i) + ageDays, batch.balanceCents(i));
+        }
+        return copy;
+    }
 }
@@ -1,27 +1,59 @@
 package org.ikigaidigital;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.google.protobuf.CodedInputStream;
+import com.jayway.jsonpath.JsonPath;
+import org.ikigaidigital.adapter.in.web.dto.TimeDepositResponse;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@AutoConfigureObservability
 @Testcontainers
 @Transactional
 class TimeDepositIntegrationTest {
@@ -47,6 +79,15 @@ class TimeDepositIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Test
     void shouldGetAllTimeDeposits_withCorrectStructureAndValues() throws Exception {
         mockMvc.perform(get("/api/time-deposits"))
@@ -82,6 +123,105 @@ class TimeDepositIntegrationTest {
                 .andExpect(jsonPath("$[?(@.id == 1)].balance").value(hasItem(closeTo(10008.33, 0.01))));
     }
 
+    @Test
+    void shouldApplyInterestOncePerMonth_whenUpdateBalancesIsRepeated() throws Exception {
+        mockMvc.perform(put("/api/time-deposits/update-balances"))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/time-deposits/update-balances"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/time-deposits"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == 1)].balance").value(hasItem(closeTo(10008.33, 0.01))));
+    }
+
+    @Test
+    void shouldRollUpInterestPostingsOnce_whenUpdateBalancesIsRepeated() throws Exception {
+        mockMvc.perform(put("/api/time-deposits/update-balances"))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/time-deposits/update-balances"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/time-deposits/interest-postings/rollup"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].planType").value("basic"))
+                .andExpect(jsonPath("$[0].postings").value(1))
+                .andExpect(jsonPath("$[0].totalAmount").value(8.33))
+                .andExpect(jsonPath("$[1].planType").value("premium"))
+                .andExpect(jsonPath("$[1].postings").value(2))
+                .andExpect(jsonPath("$[1].totalAmount").value(145.83))
+                .andExpect(jsonPath("$[2].planType").value("student"))
+                .andExpect(jsonPath("$[2].postings").value(1))
+                .andExpect(jsonPath("$[2].totalAmount").value(12.5));
+    }
+
+    @Test
+    void shouldPollBalanceChangesFromOffset() throws Exception {
+        mockMvc.perform(put("/api/time-deposits/update-balances"))
+                .andExpect(status().isOk());
+
+        String body = mockMvc.perform(get("/api/time-deposits/changes").param("after", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(4)))
+                .andExpect(jsonPath("$.changes[0].id").value(1))
+                .andExpect(jsonPath("$.changes[0].period").value(YearMonth.now().toString()))
+                .andExpect(jsonPath("$.changes[0].oldBalance").value(10000.0))
+                .andExpect(jsonPath("$.changes[0].newBalance").value(10008.33))
+                .andExpect(jsonPath("$.changes[3].id").value(6))
+                .andExpect(jsonPath("$.changes[3].newBalance").value(15062.5))
+                .andReturn().getResponse().getContentAsString();
+        long nextOffset = ((Number) JsonPath.read(body, "$.nextOffset")).longValue();
+        assertEquals(nextOffset, ((Number) JsonPath.read(body, "$.changes[3].offset")).longValue());
+
+        mockMvc.perform(get("/api/time-deposits/changes").param("after", Long.toString(nextOffset)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(0)))
+                .andExpect(jsonPath("$.nextOffset").value(nextOffset));
+        mockMvc.perform(get("/api/time-deposits/changes").param("after", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldStreamCommittedBalanceChangesAsServerSentEvents() throws Exception {
+        // The feed's sender threads only see committed changes, so these are committed and removed again.
+        TransactionTemplate committed = new TransactionTemplate(transactionManager);
+        committed.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        committed.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO balance_changes (feed_offset, time_deposit_id, period, old_balance, "
+                    + "new_balance) VALUES (1, 1, ?, 10000.00, 10008.33), (2, 3, ?, 20000.00, 20083.33)",
+                    LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 1));
+            jdbcTemplate.update("UPDATE balance_change_feed SET last_offset = 2");
+        });
+        try {
+            MvcResult stream = mockMvc.perform(get("/api/time-deposits/changes/stream")
+                            .header("Last-Event-ID", "1")
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            String events = "";
+            for (int attempt = 0; attempt < 100 && !events.contains("\n\n"); attempt++) {
+                Thread.sleep(50);
+                events = stream.getResponse().getContentAsString();
+            }
+
+            assertEquals("id:2\nevent:balance-change\ndata:{\"offset\":2,\"id\":3,\"period\":\"2024-03\","
+                    + "\"oldBalance\":20000.00,\"newBalance\":20083.33}\n\n", events);
+        } finally {
+            committed.executeWithoutResult(status -> {
+                jdbcTemplate.update("DELETE FROM balance_changes");
+                jdbcTemplate.update("UPDATE balance_change_feed SET last_offset = 0");
+            });
+        }
+    }
+
+    @Test
+    void shouldRejectMalformedInterestPostingPeriod() throws Exception {
+        mockMvc.perform(get("/api/time-deposits/interest-postings/rollup").param("period", "2024-13"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldNotApplyInterest_forDepositUnder30Days() throws Exception {
         mockMvc.perform(put("/api/time-deposits/update-balances"))
@@ -147,4 +287,377 @@ class TimeDepositIntegrationTest {
                 // premium (id=6): 15000.00 + 62.50
                 .andExpect(jsonPath("$[?(@.id == 6)].balance").value(hasItem(closeTo(15062.50, 0.01))));
     }
+
+    @Test
+    void shouldGetFirstPage_withNextCursor() throws Exception {
+        mockMvc.perform(get("/api/time-deposits").param("limit", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[3].id").value(4))
+                .andExpect(jsonPath("$[0].withdrawals", hasSize(1)))
+                .andExpect(header().string("X-Next-Cursor", "4"));
+    }
+
+    @Test
+    void shouldGetLastPage_withoutNextCursor() throws Exception {
+        mockMvc.perform(get("/api/time-deposits").param("after", "4").param("limit", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(5))
+                .andExpect(jsonPath("$[1].id").value(6))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void shouldRejectNonPositivePageLimit() throws Exception {
+        mockMvc.perform(get("/api/time-deposits").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldGetOnlyDepositsChangedSinceChangeToken() throws Exception {
+        String token = mockMvc.perform(get("/api/time-deposits"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("X-Change-Token");
+        mockMvc.perform(put("/api/time-deposits/update-balances"))
+                .andExpect(status().isOk());
+
+        String nextToken = mockMvc.perform(get("/api/time-deposits").param("changedSince", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(1, 2, 3, 6)))
+                .andExpect(jsonPath("$[0].balance").value(10008.33))
+                .andExpect(jsonPath("$[0].withdrawals", hasSize(1)))
+                .andReturn().getResponse().getHeader("X-Change-Token");
+        assertTrue(Long.parseLong(nextToken) > Long.parseLong(token));
+
+        mockMvc.perform(get("/api/time-deposits").param("changedSince", nextToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)))
+                .andExpect(header().string("X-Change-Token", nextToken));
+    }
+
+    @Test
+    void shouldRejectUnknownOrCombinedChangeToken() throws Exception {
+        mockMvc.perform(get("/api/time-deposits").param("changedSince", "-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/time-deposits").param("changedSince", Long.toString(Long.MAX_VALUE)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/time-deposits").param("changedSince", "0").param("limit", "2"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldGetSingleTimeDepositById() throws Exception {
+        mockMvc.perform(get("/api/time-deposits/3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.planType").value("premium"))
+                .andExpect(jsonPath("$.withdrawals[0].amount").value(1000.0));
+
+        mockMvc.perform(get("/api/time-deposits/999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldSummarizePortfolioPerPlanType() throws Exception {
+        mockMvc.perform(get("/api/time-deposits/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].planType").value("basic"))
+                .andExpect(jsonPath("$[0].projectedInterest").value(8.33))
+                .andExpect(jsonPath("$[1].planType").value("premium"))
+                .andExpect(jsonPath("$[1].deposits").value(2))
+                .andExpect(jsonPath("$[1].totalBalance").value(35000.0))
+                .andExpect(jsonPath("$[1].withdrawals").value(2))
+                .andExpect(jsonPath("$[1].totalWithdrawn").value(1750.0))
+                .andExpect(jsonPath("$[1].projectedInterest").value(145.83))
+                .andExpect(jsonPath("$[2].planType").value("student"))
+                .andExpect(jsonPath("$[2].projectedInterest").value(12.5));
+    }
+
+    @Test
+    void shouldExportSnapshotAndAnalyzeItLikeTheDatabase() throws Exception {
+        mockMvc.perform(put("/api/time-deposits/snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deposits").value(6))
+                .andExpect(jsonPath("$.bytes").value(32 + 6 * 32 + 4 + 3 * 2 + 19));
+
+        mockMvc.perform(get("/api/time-deposits/snapshot/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].planType").value("basic"))
+                .andExpect(jsonPath("$[0].projectedInterest").value(8.33))
+                .andExpect(jsonPath("$[1].deposits").value(2))
+                .andExpect(jsonPath("$[1].totalBalance").value(35000.0))
+                .andExpect(jsonPath("$[1].withdrawals").value(2))
+                .andExpect(jsonPath("$[1].totalWithdrawn").value(1750.0))
+                .andExpect(jsonPath("$[1].projectedInterest").value(145.83))
+                .andExpect(jsonPath("$[2].projectedInterest").value(12.5));
+        mockMvc.perform(get("/api/time-deposits/snapshot/projection").param("months", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deposits").value(6))
+                .andExpect(jsonPath("$.balance").value(61000.0))
+                .andExpect(jsonPath("$.months[0].balance").value(61166.66));
+        mockMvc.perform(get("/api/time-deposits/snapshot/projection").param("months", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldProjectBalancesWithoutWriting() throws Exception {
+        mockMvc.perform(get("/api/time-deposits/projection").param("months", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deposits").value(6))
+                .andExpect(jsonPath("$.balance").value(61000.0))
+                .andExpect(jsonPath("$.months", hasSize(2)))
+                .andExpect(jsonPath("$.months[0].interest").value(166.66))
+                .andExpect(jsonPath("$.months[0].balance").value(61166.66));
+
+        mockMvc.perform(post("/api/time-deposits/projection").param("months", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [1, 999]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].months[0].balance").value(10008.33));
+
+        mockMvc.perform(get("/api/time-deposits/projection").param("months", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/time-deposits/1"))
+                .andExpect(jsonPath("$.balance").value(10000.0));
+    }
+
+    @Test
+    void shouldBulkImportCsvAndNdjsonWithSequenceIds() throws Exception {
+        mockMvc.perform(post("/api/time-deposits/import")
+                        .contentType("text/csv")
+                        .content("type,plan_type,days,balance,amount,date\n"
+                                + "deposit,basic,45,1000.00,,\n"
+                                + "withdrawal,,,,50.00,2024-03-01\n"
+                                + "deposit,student,90,2000.00,,\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deposits").value(2))
+                .andExpect(jsonPath("$.withdrawals").value(1));
+
+        mockMvc.perform(post("/api/time-deposits/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"id\": 1, \"planType\": \"premium\", \"days\": 60, \"balance\": 3000.00, "
+                                + "\"withdrawals\": [{\"amount\": 75.00, \"date\": \"2024-03-02\"}]}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deposits").value(1));
+
+        mockMvc.perform(post("/api/time-deposits/import")
+                        .contentType("text/csv")
+                        .content("type,plan_type,days,balance,amount,date\ndeposit,basic,x,1.00,,\n"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(9, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM time_deposits", Integer.class));
+        assertEquals(6, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM withdrawals", Integer.class));
+        assertEquals(6, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM time_deposits WHERE id <= 6", Integer.class));
+        mockMvc.perform(get("/api/time-deposits/summary"))
+                .andExpect(jsonPath("$[0].deposits").value(3))
+                .andExpect(jsonPath("$[0].totalWithdrawn").value(550.0));
+    }
+
+    @Test
+    void shouldAccrueEveryPartitionOnceWhenCalledAgain() throws Exception {
+        mockMvc.perform(put("/api/time-deposits/update-balances/partitions").param("period", "2024-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.period").value("2024-03"))
+                .andExpect(jsonPath("$.accruedPartitions").value(6))
+                .andExpect(jsonPath("$.openPartitions").value(0));
+        mockMvc.perform(put("/api/time-deposits/update-balances/partitions").param("period", "2024-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accruedPartitions").value(0))
+                .andExpect(jsonPath("$.openPartitions").value(0));
+
+        mockMvc.perform(get("/api/time-deposits"))
+                .andExpect(jsonPath("$[?(@.id == 1)].balance").value(hasItem(closeTo(10008.33, 0.01))))
+                .andExpect(jsonPath("$[?(@.id == 6)].balance").value(hasItem(closeTo(15062.50, 0.01))));
+    }
+
+    @Test
+    void shouldQueryTimeDepositsByIds() throws Exception {
+        mockMvc.perform(post("/api/time-deposits/query")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [6, 2, 999]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[1].id").value(6));
+    }
+
+    @Test
+    void shouldUpdateBalancesOfSelectedDepositsOnly() throws Exception {
+        mockMvc.perform(put("/api/time-deposits/update-balances")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [1]}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/time-deposits"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == 1)].balance").value(hasItem(closeTo(10008.33, 0.01))))
+                .andExpect(jsonPath("$[?(@.id == 3)].balance").value(hasItem(20000.0)));
+
+        mockMvc.perform(put("/api/time-deposits/update-balances"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/time-deposits"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == 1)].balance").value(hasItem(closeTo(10008.33, 0.01))))
+                .andExpect(jsonPath("$[?(@.id == 3)].balance").value(hasItem(closeTo(20083.33, 0.01))));
+    }
+
+    @Test
+    void shouldStreamAllTimeDeposits_asNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/time-deposits").accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(6, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[0].contains("\"amount\":500.00"));
+        assertTrue(lines[3].contains("\"withdrawals\":[]"));
+        assertTrue(lines[5].startsWith("{\"id\":6,"));
+    }
+
+    @Test
+    void shouldAnswerNotModified_untilBalancesAreUpdated() throws Exception {
+        String etag = mockMvc.perform(get("/api/time-deposits"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/time-deposits").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(put("/api/time-deposits/update-balances"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/time-deposits").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$[?(@.id == 1)].balance").value(hasItem(closeTo(10008.33, 0.01))));
+    }
+
+    @Test
+    void shouldNegotiateBinaryListingsWithTheirOwnEtags() throws Exception {
+        MvcResult json = mockMvc.perform(get("/api/time-deposits"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andReturn();
+        MvcResult cbor = mockMvc.perform(get("/api/time-deposits").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        byte[] protobuf = mockMvc.perform(get("/api/time-deposits").header(HttpHeaders.ACCEPT, "application/x-protobuf")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-protobuf"))
+                // Six deposits are well under the compression threshold
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<TimeDepositResponse> fromCbor = objectMapper.copyWith(new CBORFactory())
+                .readValue(cbor.getResponse().getContentAsByteArray(), new TypeReference<>() {
+                });
+        assertEquals(json.getResponse().getContentAsString(), objectMapper.writeValueAsString(fromCbor));
+        assertTrue(cbor.getResponse().getContentLength() < json.getResponse().getContentLength());
+        assertNotEquals(json.getResponse().getHeader(HttpHeaders.ETAG), cbor.getResponse().getHeader(HttpHeaders.ETAG));
+        CodedInputStream in = CodedInputStream.newInstance(protobuf);
+        int deposits = 0;
+        while (!in.isAtEnd()) {
+            assertEquals(1, in.readTag() >>> 3);
+            in.skipField(in.getLastTag());
+            deposits++;
+        }
+        assertEquals(6, deposits);
+        assertTrue(protobuf.length < cbor.getResponse().getContentLength());
+
+        mockMvc.perform(get("/api/time-deposits").accept(MediaType.APPLICATION_XML))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    void shouldListInterestPlansLoadedFromTable() throws Exception {
+        mockMvc.perform(get("/api/interest-plans"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[?(@.planType == 'student')].tiers[0].upToDays").value(hasItem(365)))
+                .andExpect(jsonPath("$[?(@.planType == 'premium')].tiers[0].annualRate").value(hasItem(0.05)));
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void shouldApplyReloadedInterestPlans_withoutRestart() throws Exception {
+        jdbcTemplate.update("UPDATE interest_plan_tiers SET annual_rate = 0.12 WHERE plan_type = 'basic'");
+
+        mockMvc.perform(post("/api/interest-plans/reload"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.planType == 'basic')].tiers[0].annualRate").value(hasItem(0.12)));
+        mockMvc.perform(put("/api/time-deposits/update-balances"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/time-deposits"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == 1)].balance").value(hasItem(closeTo(10100.00, 0.01))));
+    }
+
+    @Test
+    void shouldExposeAccrualAndRequestMetricsForPrometheus() throws Exception {
+        mockMvc.perform(put("/api/time-deposits/update-balances"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/time-deposits"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("time_deposit_accrual_phase_seconds_count{phase=\"calculate\"")))
+                .andExpect(content().string(containsString("time_deposit_accrual_interest_currency_total{plan=\"premium\"")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")));
+    }
+
+    /**
+     * The job commits in its own transactions on a background thread, outside this test's rollback,
+     * so the context (and with it the schema and sample data) is rebuilt afterwards.
+     */
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void shouldRunUpdateBalancesJobInBackground() throws Exception {
+        String location = mockMvc.perform(post("/api/time-deposits/update-balances/jobs"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").isNotEmpty())
+                .andReturn().getResponse().getHeader("Location");
+
+        String status = "QUEUED";
+        for (int attempt = 0; attempt < 100 && !status.equals("SUCCEEDED"); attempt++) {
+            Thread.sleep(50);
+            status = JsonPath.read(mockMvc.perform(get(location))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(), "$.status");
+        }
+
+        mockMvc.perform(get(location))
+                .andExpect(jsonPath("$.status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.processed").value(6))
+                .andExpect(jsonPath("$.total").value(6));
+        mockMvc.perform(get("/api/time-deposits"))
+                .andExpect(jsonPath("$[?(@.id == 1)].balance").value(hasItem(closeTo(10008.33, 0.01))));
+        mockMvc.perform(delete(location))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownUpdateBalancesJob() throws Exception {
+        mockMvc.perform(get("/api/time-deposits/update-balances/jobs/unknown"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/time-deposits/update-balances/jobs/unknown"))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -0,0 +1,89 @@
+package org.ikigaidigital.adapter.in.importer;
+
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvTimeDepositReaderTest {
+
+    @Test
+    void shouldAttachWithdrawalRowsToTheDepositAboveThem() {
+        CsvTimeDepositReader reader = reader(CsvTimeDepositReader.HEADER + "\n"
+                + "deposit,basic,45,10000.00,,\n"
+                + "withdrawal,,,,500.00,2024-01-15\n"
+                + "withdrawal,,,,100.00,2024-02-15\n"
+                + "\n"
+                + "deposit,premium,60,20000.00,,\n");
+
+        List<TimeDeposit> deposits = new ArrayList<>();
+        reader.forEachRemaining(deposits::add);
+
+        assertEquals(2, deposits.size());
+        assertNull(deposits.get(0).getId());
+        assertEquals("basic", deposits.get(0).getPlanType());
+        assertEquals(45, deposits.get(0).getDays());
+        assertEquals(new BigDecimal("10000.00"), deposits.get(0).getBalance());
+        assertEquals(2, deposits.get(0).getWithdrawals().size());
+        assertEquals(LocalDate.of(2024, 2, 15), deposits.get(0).getWithdrawals().get(1).getDate());
+        assertTrue(deposits.get(1).getWithdrawals().isEmpty());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    void shouldPositionEachDepositAtItsOwnRow() {
+        CsvTimeDepositReader reader = reader(CsvTimeDepositReader.HEADER + "\n"
+                + "deposit,basic,45,10000.00,,\n"
+                + "withdrawal,,,,500.00,2024-01-15\n"
+                + "\n"
+                + "deposit,gold,60,-1.00,,\n");
+
+        reader.next();
+        assertEquals("line 2", reader.position());
+        reader.next();
+        assertEquals("line 5", reader.position());
+    }
+
+    @Test
+    void shouldReadNothingFromHeaderOnlyInput() {
+        assertFalse(reader(CsvTimeDepositReader.HEADER + "\n").hasNext());
+    }
+
+    @Test
+    void shouldRejectMissingHeader() {
+        assertThrows(IllegalArgumentException.class, () -> reader("deposit,basic,45,10000.00,,\n"));
+    }
+
+    @Test
+    void shouldNameTheLineOfAMalformedRow() {
+        CsvTimeDepositReader reader = reader(CsvTimeDepositReader.HEADER + "\n"
+                + "deposit,basic,45,10000.00,,\n"
+                + "withdrawal,,,,abc,2024-01-15\n");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, reader::next);
+        assertTrue(e.getMessage().contains("line 3"), e.getMessage());
+    }
+
+    @Test
+    void shouldRejectWithdrawalBeforeAnyDeposit() {
+        CsvTimeDepositReader reader = reader(CsvTimeDepositReader.HEADER + "\n"
+                + "withdrawal,,,,500.00,2024-01-15\n");
+
+        assertThrows(IllegalArgumentException.class, reader::hasNext);
+    }
+
+    private static CsvTimeDepositReader reader(String csv) {
+        return new CsvTimeDepositReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+}
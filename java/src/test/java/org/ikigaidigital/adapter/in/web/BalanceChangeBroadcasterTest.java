@@ -0,0 +1,187 @@
+package org.ikigaidigital.adapter.in.web;
+
+import org.ikigaidigital.domain.model.BalanceChange;
+import org.ikigaidigital.domain.model.BalanceChangePage;
+import org.ikigaidigital.domain.model.BalancesChangedEvent;
+import org.ikigaidigital.domain.port.in.GetBalanceChangesUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceChangeBroadcasterTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 3);
+
+    @Mock
+    private GetBalanceChangesUseCase getBalanceChangesUseCase;
+
+    private ExecutorService senders;
+    private ScheduledExecutorService poller;
+    private BalanceChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        senders = Executors.newSingleThreadExecutor();
+        poller = Executors.newSingleThreadScheduledExecutor();
+        // Polls only when a commit is reported
+        broadcaster = new BalanceChangeBroadcaster(getBalanceChangesUseCase, senders, poller, 2, 4,
+                Duration.ofMinutes(1), Duration.ofHours(1), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void subscribe_shouldCatchUpPageByPageFromTheGivenOffset() {
+        when(getBalanceChangesUseCase.getLastOffset()).thenReturn(3L);
+        when(getBalanceChangesUseCase.getBalanceChanges(0, 2)).thenReturn(page(1, 2));
+        when(getBalanceChangesUseCase.getBalanceChanges(2, 2)).thenReturn(page(3));
+
+        broadcaster.subscribe(0L);
+
+        verify(getBalanceChangesUseCase, timeout(1000)).getBalanceChanges(2, 2);
+        verify(getBalanceChangesUseCase, after(100).never()).getBalanceChanges(3, 2);
+        assertEquals(1, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void subscribe_shouldOnlySendChangesCommittedAfterwardsByDefault() {
+        when(getBalanceChangesUseCase.getLastOffset()).thenReturn(5L, 6L);
+        when(getBalanceChangesUseCase.getBalanceChanges(5, 2)).thenReturn(page(6));
+
+        broadcaster.subscribe(null);
+        verify(getBalanceChangesUseCase, after(100).never()).getBalanceChanges(anyLong(), anyInt());
+
+        broadcaster.onBalancesChanged(new BalancesChangedEvent(1));
+
+        verify(getBalanceChangesUseCase, timeout(1000)).getBalanceChanges(5, 2);
+    }
+
+    @Test
+    void onBalancesChanged_shouldDisconnectSubscriberWhoseQueueOverflows() throws Exception {
+        CountDownLatch release = blockSenders();
+        when(getBalanceChangesUseCase.getLastOffset()).thenReturn(1L, 3L, 5L, 7L);
+        when(getBalanceChangesUseCase.getBalanceChanges(1, 2)).thenReturn(page(2, 3));
+        when(getBalanceChangesUseCase.getBalanceChanges(3, 2)).thenReturn(page(4, 5));
+        when(getBalanceChangesUseCase.getBalanceChanges(5, 2)).thenReturn(page(6, 7));
+        broadcaster.subscribe(null);
+
+        try {
+            broadcaster.onBalancesChanged(new BalancesChangedEvent(1));
+            broadcaster.onBalancesChanged(new BalancesChangedEvent(1));
+            verify(getBalanceChangesUseCase, timeout(1000)).getBalanceChanges(3, 2);
+            assertEquals(1, broadcaster.subscriberCount());
+
+            broadcaster.onBalancesChanged(new BalancesChangedEvent(1));
+            verify(getBalanceChangesUseCase, timeout(1000)).getBalanceChanges(5, 2);
+        } finally {
+            release.countDown();
+        }
+        awaitPoller();
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void onBalancesChanged_shouldDisconnectSubscriberWhoseSenderMakesNoProgress() throws Exception {
+        broadcaster = new BalanceChangeBroadcaster(getBalanceChangesUseCase, senders, poller, 2, 4,
+                Duration.ofMillis(50), Duration.ofHours(1), Duration.ofMinutes(1));
+        CountDownLatch release = blockSenders();
+        when(getBalanceChangesUseCase.getLastOffset()).thenReturn(1L, 2L);
+        when(getBalanceChangesUseCase.getBalanceChanges(1, 2)).thenReturn(page(2));
+        broadcaster.subscribe(null);
+
+        try {
+            broadcaster.onBalancesChanged(new BalancesChangedEvent(1));
+            verify(getBalanceChangesUseCase, timeout(1000)).getBalanceChanges(1, 2);
+            awaitPoller();
+            assertEquals(1, broadcaster.subscriberCount());
+
+            Thread.sleep(100);
+            broadcaster.onBalancesChanged(new BalancesChangedEvent(1));
+            awaitPoller();
+            assertEquals(0, broadcaster.subscriberCount());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void onBalancesChanged_shouldNotReadTheFeedWithoutSubscribers() {
+        broadcaster.onBalancesChanged(new BalancesChangedEvent(1));
+
+        verify(getBalanceChangesUseCase, after(100).never()).getLastOffset();
+    }
+
+    @Test
+    void subscribe_shouldRejectNegativeOffset() {
+        assertThrows(IllegalArgumentException.class, () -> broadcaster.subscribe(-1L));
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositivePageSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BalanceChangeBroadcaster(getBalanceChangesUseCase,
+                senders, poller, 0, 4, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void constructor_shouldRejectQueueSmallerThanAPage() {
+        assertThrows(IllegalArgumentException.class, () -> new BalanceChangeBroadcaster(getBalanceChangesUseCase,
+                senders, poller, 2, 1, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1)));
+    }
+
+    /** Occupies the single sender thread until the returned latch is released. */
+    private CountDownLatch blockSenders() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        senders.execute(() -> {
+            blocked.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(blocked.await(1, TimeUnit.SECONDS));
+        return release;
+    }
+
+    /** Waits until the poller has run everything queued before this call. */
+    private void awaitPoller() throws Exception {
+        poller.submit(() -> { }).get(1, TimeUnit.SECONDS);
+    }
+
+    private static BalanceChangePage page(long... offsets) {
+        return new BalanceChangePage(Arrays.stream(offsets)
+                .mapToObj(offset -> new BalanceChange(offset, (int) offset, PERIOD, new BigDecimal("100.00"),
+                        new BigDecimal("100.25")))
+                .toList(), offsets[offsets.length - 1]);
+    }
+}
@@ -0,0 +1,31 @@
+package org.ikigaidigital.adapter.in.web;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ListingFormatTest {
+
+    @Test
+    void forAccept_shouldDefaultToJson() {
+        assertEquals(ListingFormat.JSON, ListingFormat.forAccept(null));
+        assertEquals(ListingFormat.JSON, ListingFormat.forAccept("*/*"));
+        assertEquals(ListingFormat.JSON, ListingFormat.forAccept("text/html, application/*;q=0.8"));
+    }
+
+    @Test
+    void forAccept_shouldPickTheHighestQuality() {
+        assertEquals(ListingFormat.PROTOBUF, ListingFormat.forAccept("application/x-protobuf"));
+        assertEquals(ListingFormat.CBOR, ListingFormat.forAccept("application/json;q=0.5, application/cbor"));
+        assertEquals(ListingFormat.SMILE,
+                ListingFormat.forAccept("application/x-jackson-smile, application/x-protobuf;q=0.9"));
+    }
+
+    @Test
+    void forAccept_shouldRejectUnsupportedOrMalformedTypes() {
+        assertThrows(IllegalArgumentException.class, () -> ListingFormat.forAccept("application/xml"));
+        assertThrows(IllegalArgumentException.class, () -> ListingFormat.forAccept("application/cbor;q=0"));
+        assertThrows(IllegalArgumentException.class, () -> ListingFormat.forAccept("not a type"));
+    }
+}
@@ -0,0 +1,140 @@
+package org.ikigaidigital.adapter.in.web;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.luben.zstd.Zstd;
+import com.google.protobuf.CodedInputStream;
+import org.ikigaidigital.adapter.in.web.dto.TimeDepositResponse;
+import org.ikigaidigital.adapter.in.web.dto.WithdrawalResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeDepositListingWriterTest {
+
+    private static final List<TimeDepositResponse> RESPONSES = List.of(
+            new TimeDepositResponse(1, "basic", new BigDecimal("10000.50"), 45, List.of(
+                    new WithdrawalResponse(7, 1, new BigDecimal("500.00"), LocalDate.of(2024, 1, 15)),
+                    new WithdrawalResponse(8, 1, new BigDecimal("0.05"), LocalDate.of(2024, 2, 1)))),
+            new TimeDepositResponse(2, "premium", new BigDecimal("0.00"), 0, List.of()));
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final TimeDepositListingWriter writer =
+            new TimeDepositListingWriter(objectMapper, true, DataSize.ofBytes(64));
+
+    @Test
+    void write_shouldRoundTripThroughEveryJacksonFormat() throws IOException {
+        String json = new String(writer.write(RESPONSES, ListingFormat.JSON));
+        TypeReference<List<TimeDepositResponse>> type = new TypeReference<>() {
+        };
+
+        List<TimeDepositResponse> fromCbor = objectMapper.copyWith(new CBORFactory())
+                .readValue(writer.write(RESPONSES, ListingFormat.CBOR), type);
+        List<TimeDepositResponse> fromSmile = objectMapper.copyWith(new SmileFactory())
+                .readValue(writer.write(RESPONSES, ListingFormat.SMILE), type);
+
+        assertEquals(json, objectMapper.writeValueAsString(fromCbor));
+        assertEquals(json, objectMapper.writeValueAsString(fromSmile));
+        assertTrue(json.contains("\"amount\":0.05"), json);
+    }
+
+    @Test
+    void write_shouldEncodeProtobufSchemaWithCentsAndEpochDays() throws IOException {
+        CodedInputStream in = CodedInputStream.newInstance(writer.write(RESPONSES, ListingFormat.PROTOBUF));
+        List<List<Long>> deposits = new ArrayList<>();
+        while (!in.isAtEnd()) {
+            assertEquals(1, in.readTag() >>> 3);
+            deposits.add(readMessage(in));
+        }
+
+        assertEquals(2, deposits.size());
+        // id, plan type length, balance cents, days, then the length of each withdrawal
+        assertEquals(List.of(1L, 5L, 1000050L, 45L), deposits.get(0).subList(0, 4));
+        assertEquals(6, deposits.get(0).size());
+        // Zero balance and zero days are proto3 defaults and therefore omitted
+        assertEquals(List.of(2L, 7L), deposits.get(1));
+    }
+
+    @Test
+    void write_shouldEncodeWithdrawalsAsNestedMessages() throws IOException {
+        byte[] body = writer.write(RESPONSES.subList(0, 1), ListingFormat.PROTOBUF);
+        CodedInputStream in = CodedInputStream.newInstance(body);
+        in.readTag();
+        int end = in.readRawVarint32() + in.getTotalBytesRead();
+        List<List<Long>> withdrawals = new ArrayList<>();
+        while (in.getTotalBytesRead() < end) {
+            int field = in.readTag() >>> 3;
+            if (field == 5) {
+                withdrawals.add(readMessage(in));
+            } else {
+                in.skipField(in.getLastTag());
+            }
+        }
+
+        assertEquals(List.of(
+                List.of(7L, 1L, 50000L, LocalDate.of(2024, 1, 15).toEpochDay()),
+                List.of(8L, 1L, 5L, LocalDate.of(2024, 2, 1).toEpochDay())), withdrawals);
+    }
+
+    @Test
+    void coding_shouldCompressOnlyBodiesOverTheMinimumSize() throws IOException {
+        assertEquals(ContentCoding.IDENTITY, writer.coding("gzip", 63));
+        assertEquals(ContentCoding.GZIP, writer.coding("gzip", 64));
+        assertEquals(ContentCoding.IDENTITY,
+                new TimeDepositListingWriter(objectMapper, false, DataSize.ofBytes(64)).coding("gzip", 1024));
+
+        byte[] body = String.join(",", Collections.nCopies(100, "deposit")).getBytes();
+        byte[] gzipped = ContentCoding.GZIP.encode(body);
+        byte[] zstd = ContentCoding.ZSTD.encode(body);
+
+        assertArrayEquals(body, new GZIPInputStream(new ByteArrayInputStream(gzipped)).readAllBytes());
+        assertArrayEquals(body, Zstd.decompress(zstd, body.length));
+        assertTrue(gzipped.length < body.length && zstd.length < body.length);
+    }
+
+    @Test
+    void forAcceptEncoding_shouldPreferZstdThenGzipAmongEqualQualities() {
+        assertEquals(ContentCoding.IDENTITY, ContentCoding.forAcceptEncoding(null));
+        assertEquals(ContentCoding.IDENTITY, ContentCoding.forAcceptEncoding("br"));
+        assertEquals(ContentCoding.GZIP, ContentCoding.forAcceptEncoding("gzip, deflate, br"));
+        assertEquals(ContentCoding.ZSTD, ContentCoding.forAcceptEncoding("gzip, zstd"));
+        assertEquals(ContentCoding.GZIP, ContentCoding.forAcceptEncoding("zstd;q=0.5, gzip"));
+        assertEquals(ContentCoding.ZSTD, ContentCoding.forAcceptEncoding("*"));
+        assertEquals(ContentCoding.GZIP, ContentCoding.forAcceptEncoding("zstd;q=0, *;q=0.1"));
+        assertEquals(ContentCoding.IDENTITY, ContentCoding.forAcceptEncoding("gzip;q=0"));
+    }
+
+    /**
+     * Reads a length-delimited message whose fields are all varints or strings, returning the varints
+     * and the length of every string or nested message, in field order.
+     */
+    private static List<Long> readMessage(CodedInputStream in) throws IOException {
+        int limit = in.pushLimit(in.readRawVarint32());
+        List<Long> values = new ArrayList<>();
+        while (!in.isAtEnd()) {
+            int tag = in.readTag();
+            if ((tag & 7) == 0) {
+                values.add(in.readInt64());
+            } else {
+                values.add((long) in.readBytes().size());
+            }
+        }
+        in.popLimit(limit);
+        return values;
+    }
+}
@@ -0,0 +1,170 @@
+package org.ikigaidigital.adapter.in.web;
+
+import org.ikigaidigital.domain.model.BalancesChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimeDepositResponseCacheTest {
+
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @Test
+    void get_shouldRenderOnceUntilBalancesChange() {
+        TimeDepositResponseCache cache = new TimeDepositResponseCache(1024);
+
+        TimeDepositResponseCache.Entry first = cache.get("all", 0, () -> render("[1]"));
+        TimeDepositResponseCache.Entry second = cache.get("all", 0, () -> render("[2]"));
+
+        assertSame(first, second);
+        assertEquals(1, renders.get());
+        assertArrayEquals("[1]".getBytes(StandardCharsets.UTF_8), second.getBody());
+
+        cache.onBalancesChanging(new BalancesChangedEvent(1));
+        TimeDepositResponseCache.Entry third = cache.get("all", 0, () -> render("[2]"));
+
+        assertEquals(2, renders.get());
+        assertNotEquals(first.getEtag(), third.getEtag());
+    }
+
+    @Test
+    void get_shouldRenderAgainOnceTheDatabaseChangeTokenMovesOn() {
+        TimeDepositResponseCache cache = new TimeDepositResponseCache(1024);
+        TimeDepositResponseCache.Entry first = cache.get("all", 0, () -> render("[1]"));
+
+        TimeDepositResponseCache.Entry second = cache.get("all", 7, () -> render("[2]", 7));
+        TimeDepositResponseCache.Entry third = cache.get("all", 7, () -> render("[3]", 7));
+
+        assertNotEquals(first.getEtag(), second.getEtag());
+        assertSame(second, third);
+        assertEquals(2, renders.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void getVariant_shouldDeriveAgainFromListingAtNewerChangeToken() {
+        TimeDepositResponseCache cache = new TimeDepositResponseCache(1024);
+        TimeDepositResponseCache.Entry source = cache.get("all", 0, () -> render("[1]"));
+        cache.getVariant("all&coding=x", source, TimeDepositResponseCacheTest::reverse);
+        TimeDepositResponseCache.Entry newer = cache.get("all", 7, () -> render("[2]", 7));
+
+        TimeDepositResponseCache.Entry variant = cache.getVariant("all&coding=x", newer, TimeDepositResponseCacheTest::reverse);
+
+        assertArrayEquals("]2[".getBytes(StandardCharsets.UTF_8), variant.getBody());
+        assertEquals(7, variant.getChangeToken());
+    }
+
+    @Test
+    void get_shouldDeriveStrongEtagFromBody() {
+        TimeDepositResponseCache cache = new TimeDepositResponseCache(1024);
+
+        String etag = cache.get("all", 0, () -> render("[1]")).getEtag();
+        String samePageOtherKey = cache.get("after=null&limit=100", 0, () -> render("[1]")).getEtag();
+
+        assertEquals(etag, samePageOtherKey);
+        assertEquals('"', etag.charAt(0));
+        assertEquals('"', etag.charAt(etag.length() - 1));
+    }
+
+    @Test
+    void get_shouldNotStoreListingRenderedWhileBalancesChanged() {
+        TimeDepositResponseCache cache = new TimeDepositResponseCache(1024);
+
+        cache.get("all", 0, () -> {
+            cache.onBalancesChanging(new BalancesChangedEvent(1));
+            return render("[1]");
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void onBalancesChangeCompleted_shouldDropListingRenderedBeforeTheCommit() {
+        TimeDepositResponseCache cache = new TimeDepositResponseCache(1024);
+        cache.onBalancesChanging(new BalancesChangedEvent(1));
+        cache.get("all", 0, () -> render("[1]"));
+
+        cache.onBalancesChangeCompleted(new BalancesChangedEvent(1));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void getVariant_shouldDeriveOnceWithItsOwnEtag() {
+        TimeDepositResponseCache cache = new TimeDepositResponseCache(1024);
+        TimeDepositResponseCache.Entry source = cache.get("all", 0, () -> render("[1]"));
+
+        TimeDepositResponseCache.Entry first = cache.getVariant("all&coding=x", source, TimeDepositResponseCacheTest::reverse);
+        TimeDepositResponseCache.Entry second = cache.getVariant("all&coding=x", source, body -> new byte[0]);
+
+        assertSame(first, second);
+        assertArrayEquals("]1[".getBytes(StandardCharsets.UTF_8), second.getBody());
+        assertNotEquals(source.getEtag(), second.getEtag());
+    }
+
+    @Test
+    void getVariant_shouldNotStoreVariantOfListingFromEarlierGeneration() {
+        TimeDepositResponseCache cache = new TimeDepositResponseCache(1024);
+        TimeDepositResponseCache.Entry source = cache.get("all", 0, () -> render("[1]"));
+        cache.onBalancesChanging(new BalancesChangedEvent(1));
+
+        TimeDepositResponseCache.Entry variant = cache.getVariant("all&coding=x", source, TimeDepositResponseCacheTest::reverse);
+
+        assertArrayEquals("]1[".getBytes(StandardCharsets.UTF_8), variant.getBody());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_shouldEvictLeastRecentlyUsedListingsBeyondByteBudget() {
+        TimeDepositResponseCache cache = new TimeDepositResponseCache(8);
+        cache.get("a", 0, () -> render("aaaa"));
+        cache.get("b", 0, () -> render("bbbb"));
+        cache.get("a", 0, () -> render("aaaa"));
+
+        cache.get("c", 0, () -> render("cccc"));
+        cache.get("a", 0, () -> render("aaaa"));
+        cache.get("b", 0, () -> render("bbbb"));
+
+        assertEquals(4, renders.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void get_shouldServeButNotStoreListingLargerThanBudget() {
+        TimeDepositResponseCache cache = new TimeDepositResponseCache(2);
+
+        TimeDepositResponseCache.Entry entry = cache.get("all", 0, () -> render("[1, 2]"));
+
+        assertEquals(6, entry.getBody().length);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void constructor_shouldRejectNegativeBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeDepositResponseCache(-1));
+    }
+
+    private static byte[] reverse(byte[] body) {
+        byte[] reversed = new byte[body.length];
+        for (int i = 0; i < body.length; i++) {
+            reversed[i] = body[body.length - 1 - i];
+        }
+        return reversed;
+    }
+
+    private TimeDepositResponseCache.Rendered render(String json) {
+        return render(json, 0);
+    }
+
+    private TimeDepositResponseCache.Rendered render(String json, long changeToken) {
+        renders.incrementAndGet();
+        return new TimeDepositResponseCache.Rendered(json.getBytes(StandardCharsets.UTF_8), null, changeToken);
+    }
+}
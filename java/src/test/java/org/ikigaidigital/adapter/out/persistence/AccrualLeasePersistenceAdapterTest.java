@@ -0,0 +1,148 @@
+package org.ikigaidigital.adapter.out.persistence;
+
+import org.ikigaidigital.domain.model.AccrualPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccrualLeasePersistenceAdapterTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 3);
+    private static final Instant NOW = Instant.parse("2024-03-01T10:00:00Z");
+    private static final Instant LEASE_UNTIL = NOW.plus(Duration.ofMinutes(5));
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbc;
+    private AccrualLeasePersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE accrual_partitions (id INT AUTO_INCREMENT PRIMARY KEY, period DATE NOT NULL, "
+                + "partition_no INT NOT NULL, after_id INT, up_to_id INT, owner VARCHAR(255), "
+                + "lease_until TIMESTAMP WITH TIME ZONE, completed_at TIMESTAMP WITH TIME ZONE, "
+                + "CONSTRAINT uk_accrual_partitions UNIQUE (period, partition_no))");
+        adapter = new AccrualLeasePersistenceAdapter(jdbc);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void createPartitions_shouldCoverTheWholeIdSpaceWithOpenEnds() {
+        adapter.createPartitions(PERIOD, List.of(100, 200));
+
+        assertTrue(adapter.hasPartitions(PERIOD));
+        assertFalse(adapter.hasPartitions(PERIOD.plusMonths(1)));
+        AccrualPartition first = adapter.claim(PERIOD, "a", NOW, LEASE_UNTIL).orElseThrow();
+        AccrualPartition second = adapter.claim(PERIOD, "a", NOW, LEASE_UNTIL).orElseThrow();
+        AccrualPartition third = adapter.claim(PERIOD, "a", NOW, LEASE_UNTIL).orElseThrow();
+        assertNull(first.getAfterId());
+        assertEquals(100, first.getUpToId());
+        assertEquals(100, second.getAfterId());
+        assertEquals(200, second.getUpToId());
+        assertEquals(200, third.getAfterId());
+        assertNull(third.getUpToId());
+        assertEquals(Optional.empty(), adapter.claim(PERIOD, "a", NOW, LEASE_UNTIL));
+    }
+
+    @Test
+    void createPartitions_shouldRejectSecondCreationForSamePeriod() {
+        adapter.createPartitions(PERIOD, List.of(100));
+
+        assertThrows(DuplicateKeyException.class, () -> adapter.createPartitions(PERIOD, List.of(50)));
+        adapter.createPartitions(PERIOD.plusMonths(1), List.of());
+        assertEquals(1, adapter.countOpenPartitions(PERIOD.plusMonths(1)));
+    }
+
+    @Test
+    void claim_shouldNotHandOutLeasedPartitionUntilLeaseExpires() {
+        adapter.createPartitions(PERIOD, List.of());
+        AccrualPartition partition = adapter.claim(PERIOD, "a", NOW, LEASE_UNTIL).orElseThrow();
+
+        assertEquals(Optional.empty(), adapter.claim(PERIOD, "b", NOW.plusSeconds(60), LEASE_UNTIL));
+        AccrualPartition takenOver = adapter.claim(PERIOD, "b", LEASE_UNTIL.plusSeconds(1),
+                LEASE_UNTIL.plusSeconds(301)).orElseThrow();
+
+        assertEquals(partition.getNumber(), takenOver.getNumber());
+        assertFalse(adapter.renew(partition, "a", LEASE_UNTIL.plusSeconds(60)));
+        assertFalse(adapter.complete(partition, "a", LEASE_UNTIL));
+        assertTrue(adapter.renew(takenOver, "b", LEASE_UNTIL.plusSeconds(600)));
+        assertEquals("b", jdbc.queryForObject("SELECT owner FROM accrual_partitions", String.class));
+    }
+
+    @Test
+    void complete_shouldCloseThePartitionForGood() {
+        adapter.createPartitions(PERIOD, List.of(100));
+        AccrualPartition partition = adapter.claim(PERIOD, "a", NOW, LEASE_UNTIL).orElseThrow();
+
+        assertTrue(adapter.complete(partition, "a", NOW.plusSeconds(30)));
+
+        assertEquals(1, adapter.countOpenPartitions(PERIOD));
+        assertFalse(adapter.renew(partition, "a", LEASE_UNTIL));
+        assertEquals(1, adapter.claim(PERIOD, "b", LEASE_UNTIL.plusSeconds(1), LEASE_UNTIL.plusSeconds(301))
+                .orElseThrow().getNumber());
+        assertEquals(Optional.empty(), adapter.claim(PERIOD, "c", LEASE_UNTIL.plusSeconds(1), LEASE_UNTIL));
+    }
+
+    @Test
+    void claim_shouldHandConcurrentClaimsDifferentPartitions() throws Exception {
+        int partitions = 8;
+        adapter.createPartitions(PERIOD, List.of(1, 2, 3, 4, 5, 6, 7));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        ExecutorService executor = Executors.newFixedThreadPool(partitions);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Optional<AccrualPartition>>> claims = IntStream.range(0, partitions)
+                    .mapToObj(owner -> executor.submit(() -> {
+                        start.await();
+                        return transactionTemplate.execute(status ->
+                                adapter.claim(PERIOD, "owner-" + owner, NOW, LEASE_UNTIL));
+                    }))
+                    .toList();
+            start.countDown();
+
+            Set<Integer> numbers = new HashSet<>();
+            for (Future<Optional<AccrualPartition>> claim : claims) {
+                assertTrue(numbers.add(claim.get().orElseThrow().getNumber()));
+            }
+            assertEquals(partitions, numbers.size());
+            assertEquals(partitions, jdbc.queryForObject(
+                    "SELECT COUNT(DISTINCT owner) FROM accrual_partitions", Integer.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.ikigaidigital.adapter.out.persistence;
+
+import org.ikigaidigital.domain.model.BalanceChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BalanceChangePersistenceAdapterTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 3);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbc;
+    private BalanceChangePersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE balance_changes (feed_offset BIGINT PRIMARY KEY, time_deposit_id INT NOT NULL, "
+                + "period DATE NOT NULL, old_balance DECIMAL(19,2) NOT NULL, new_balance DECIMAL(19,2) NOT NULL, "
+                + "UNIQUE (time_deposit_id, period))");
+        jdbc.execute("CREATE TABLE balance_change_feed (id INT PRIMARY KEY, last_offset BIGINT NOT NULL)");
+        jdbc.execute("INSERT INTO balance_change_feed VALUES (1, 3)");
+        jdbc.update("INSERT INTO balance_changes VALUES (1, 1, ?, 10000.00, 10008.33), (2, 2, ?, 5000.00, 5012.50), "
+                + "(3, 1, ?, 10008.33, 10016.67)", PERIOD.atDay(1), PERIOD.atDay(1), PERIOD.plusMonths(1).atDay(1));
+        adapter = new BalanceChangePersistenceAdapter(jdbc);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void findAfter_shouldReturnChangesAfterTheOffsetInOffsetOrder() {
+        assertEquals(List.of("1 1 2024-03 10000.00 10008.33", "2 2 2024-03 5000.00 5012.50"),
+                format(adapter.findAfter(0, 2)));
+        assertEquals(List.of("3 1 2024-04 10008.33 10016.67"), format(adapter.findAfter(2, 2)));
+        assertEquals(List.of(), format(adapter.findAfter(3, 2)));
+    }
+
+    @Test
+    void lastOffset_shouldReadTheFeedRow() {
+        assertEquals(3, adapter.lastOffset());
+    }
+
+    private static List<String> format(List<BalanceChange> changes) {
+        return changes.stream()
+                .map(change -> change.getOffset() + " " + change.getTimeDepositId() + " " + change.getPeriod() + " "
+                        + change.getOldBalance() + " " + change.getNewBalance())
+                .toList();
+    }
+}
@@ -0,0 +1,71 @@
+package org.ikigaidigital.adapter.out.persistence;
+
+import org.ikigaidigital.domain.service.strategy.InterestPlan;
+import org.ikigaidigital.domain.service.strategy.InterestRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InterestPlanPersistenceAdapterTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbc;
+    private InterestPlanPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE interest_plan_tiers (id INT AUTO_INCREMENT PRIMARY KEY, "
+                + "plan_type VARCHAR(255) NOT NULL, after_days INT NOT NULL, up_to_days INT, "
+                + "annual_rate DECIMAL(9,6) NOT NULL)");
+        adapter = new InterestPlanPersistenceAdapter(jdbc);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void findAll_shouldGroupTiersByPlanTypeInAscendingOrder() {
+        jdbc.execute("INSERT INTO interest_plan_tiers (plan_type, after_days, up_to_days, annual_rate) VALUES "
+                + "('student', 180, 365, 0.04), ('basic', 30, NULL, 0.01), ('student', 30, 180, 0.03)");
+
+        List<InterestPlan> plans = adapter.findAll();
+
+        assertEquals(List.of(
+                new InterestPlan("basic", List.of(new InterestRule(30, null, new BigDecimal("0.01")))),
+                new InterestPlan("student", List.of(
+                        new InterestRule(30, 180, new BigDecimal("0.03")),
+                        new InterestRule(180, 365, new BigDecimal("0.04"))))
+        ), plans);
+    }
+
+    @Test
+    void findAll_shouldReturnNoPlansForEmptyTable() {
+        assertTrue(adapter.findAll().isEmpty());
+    }
+
+    @Test
+    void findAll_shouldRejectOverlappingTiers() {
+        jdbc.execute("INSERT INTO interest_plan_tiers (plan_type, after_days, up_to_days, annual_rate) VALUES "
+                + "('basic', 30, NULL, 0.01), ('basic', 60, NULL, 0.02)");
+
+        assertThrows(IllegalArgumentException.class, () -> adapter.findAll());
+    }
+}
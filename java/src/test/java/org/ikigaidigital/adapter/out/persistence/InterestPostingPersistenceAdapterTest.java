@@ -0,0 +1,73 @@
+package org.ikigaidigital.adapter.out.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InterestPostingPersistenceAdapterTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 3);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbc;
+    private InterestPostingPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE interest_postings (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "time_deposit_id INT NOT NULL, period DATE NOT NULL, plan_type VARCHAR(255) NOT NULL, "
+                + "amount DECIMAL(19,2) NOT NULL, UNIQUE (time_deposit_id, period))");
+        adapter = new InterestPostingPersistenceAdapter(jdbc);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void rollUp_shouldTotalPostingsOfThePeriodPerPlanType() {
+        post(1, PERIOD, "basic", "8.33");
+        post(2, PERIOD, "student", "12.50");
+        post(3, PERIOD, "premium", "83.33");
+        post(4, PERIOD, "premium", "62.50");
+        post(1, PERIOD.minusMonths(1), "basic", "8.32");
+        post(3, PERIOD.plusMonths(1), "premium", "83.68");
+
+        assertEquals(List.of("basic 1 8.33", "premium 2 145.83", "student 1 12.50"), rollUp(PERIOD));
+    }
+
+    @Test
+    void rollUp_shouldBeEmptyForPeriodWithoutPostings() {
+        post(1, PERIOD, "basic", "8.33");
+
+        assertEquals(List.of(), rollUp(PERIOD.plusMonths(1)));
+    }
+
+    /** Rollup of {@code period} as "plan postings total", in plan type order. */
+    private List<String> rollUp(YearMonth period) {
+        return adapter.rollUp(period).stream()
+                .map(rollup -> rollup.getPlanType() + " " + rollup.getPostings() + " " + rollup.getTotalAmount())
+                .toList();
+    }
+
+    private void post(int timeDepositId, YearMonth period, String planType, String amount) {
+        jdbc.update("INSERT INTO interest_postings (time_deposit_id, period, plan_type, amount) VALUES (?, ?, ?, ?)",
+                timeDepositId, period.atDay(1), planType, new BigDecimal(amount));
+    }
+}
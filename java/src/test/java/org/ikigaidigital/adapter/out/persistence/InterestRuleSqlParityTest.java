@@ -0,0 +1,136 @@
+package org.ikigaidigital.adapter.out.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.ikigaidigital.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.service.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.ikigaidigital.domain.service.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.StudentInterestStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Checks that the set-based SQL accrual credits exactly the same cents as {@link TimeDepositCalculator}.
+ * Runs against H2; {@link PostgresInterestRuleSqlParityTest} repeats it on PostgreSQL.
+ */
+class InterestRuleSqlParityTest {
+
+    private static final String[] PLAN_TYPES = {"basic", "student", "premium"};
+    private static final int[] EDGE_DAYS = {0, 29, 30, 31, 44, 45, 46, 364, 365, 366, 1000};
+
+    private EmbeddedDatabase database;
+
+    @BeforeEach
+    void setUpDatabase() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+    }
+
+    @AfterEach
+    void tearDownDatabase() {
+        database.shutdown();
+    }
+
+    protected DataSource dataSource() {
+        return database;
+    }
+
+    @Test
+    void sqlAccrualShouldMatchCalculatorToTheCent() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource());
+        jdbc.execute("DROP TABLE IF EXISTS time_deposits");
+        jdbc.execute("DROP TABLE IF EXISTS interest_postings");
+        jdbc.execute("DROP TABLE IF EXISTS balance_changes");
+        jdbc.execute("DROP TABLE IF EXISTS balance_change_feed");
+        jdbc.execute("DROP TABLE IF EXISTS time_deposit_versions");
+        jdbc.execute("CREATE TABLE time_deposits (id INT PRIMARY KEY, plan_type VARCHAR(255) NOT NULL, "
+                + "days INT NOT NULL, balance DECIMAL(19,2) NOT NULL, last_accrued_period DATE, "
+                + "row_version BIGINT DEFAULT 0 NOT NULL)");
+        jdbc.execute("CREATE TABLE interest_postings (time_deposit_id INT NOT NULL, period DATE NOT NULL, "
+                + "plan_type VARCHAR(255) NOT NULL, amount DECIMAL(19,2) NOT NULL, "
+                + "UNIQUE (time_deposit_id, period))");
+        jdbc.execute("CREATE TABLE balance_changes (feed_offset BIGINT PRIMARY KEY, time_deposit_id INT NOT NULL, "
+                + "period DATE NOT NULL, old_balance DECIMAL(19,2) NOT NULL, new_balance DECIMAL(19,2) NOT NULL, "
+                + "UNIQUE (time_deposit_id, period))");
+        jdbc.execute("CREATE TABLE balance_change_feed (id INT PRIMARY KEY, last_offset BIGINT NOT NULL)");
+        jdbc.execute("INSERT INTO balance_change_feed VALUES (1, 0)");
+        jdbc.execute("CREATE TABLE time_deposit_versions (id INT PRIMARY KEY, last_version BIGINT NOT NULL)");
+        jdbc.execute("INSERT INTO time_deposit_versions VALUES (1, 0)");
+
+        List<TimeDeposit> deposits = sampleDeposits();
+        jdbc.batchUpdate("INSERT INTO time_deposits (id, plan_type, days, balance) VALUES (?, ?, ?, ?)",
+                deposits, 500, (ps, d) -> {
+                    ps.setInt(1, d.getId());
+                    ps.setString(2, d.getPlanType());
+                    ps.setInt(3, d.getDays());
+                    ps.setBigDecimal(4, d.getBalance());
+                });
+
+        InterestStrategyFactory factory = new InterestStrategyFactory(List.of(
+                new BasicInterestStrategy(),
+                new StudentInterestStrategy(),
+                new PremiumInterestStrategy()
+        ));
+        TimeDepositPersistenceAdapter adapter = new TimeDepositPersistenceAdapter(
+                jdbc, mock(EntityManager.class), 500);
+
+        adapter.applyInterestRules(factory.getInterestRules(), YearMonth.of(2024, 3));
+        new TimeDepositCalculator(factory).updateBalance(deposits);
+
+        Map<Integer, BigDecimal> expected = deposits.stream()
+                .collect(Collectors.toMap(TimeDeposit::getId, TimeDeposit::getBalance));
+        Map<Integer, BigDecimal> actual = jdbc.query("SELECT id, balance FROM time_deposits", rs -> {
+            List<Object[]> rows = new ArrayList<>();
+            while (rs.next()) {
+                rows.add(new Object[]{rs.getInt(1), rs.getBigDecimal(2)});
+            }
+            return rows;
+        }).stream().collect(Collectors.toMap(row -> (Integer) row[0], row -> (BigDecimal) row[1]));
+
+        assertEquals(expected.size(), actual.size());
+        expected.forEach((id, balance) ->
+                assertEquals(0, balance.compareTo(actual.get(id)),
+                        () -> "deposit " + id + ": expected " + balance + " but was " + actual.get(id)));
+    }
+
+    /**
+     * Every plan at every threshold edge, plus random balances that exercise half-cent rounding.
+     */
+    private static List<TimeDeposit> sampleDeposits() {
+        List<TimeDeposit> deposits = new ArrayList<>();
+        Random random = new Random(42);
+        int id = 1;
+        for (String planType : PLAN_TYPES) {
+            for (int days : EDGE_DAYS) {
+                deposits.add(new TimeDeposit(id++, planType, days, new BigDecimal("10000.00")));
+            }
+        }
+        for (int i = 0; i < 3000; i++) {
+            String planType = PLAN_TYPES[i % PLAN_TYPES.length];
+            int days = random.nextInt(500);
+            long balanceCents = i < 1200 ? i : (long) (random.nextDouble() * 10_000_000_00L);
+            deposits.add(new TimeDeposit(id++, planType, days, BigDecimal.valueOf(balanceCents, 2)));
+        }
+        return deposits;
+    }
+}
@@ -0,0 +1,689 @@
+package org.ikigaidigital.adapter.out.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.PlanSummary;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.Withdrawal;
+import org.ikigaidigital.domain.service.strategy.InterestRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class TimeDepositPersistenceAdapterTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 3);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbc;
+    private final Map<String, AtomicInteger> executions = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE time_deposits (id INT PRIMARY KEY, plan_type VARCHAR(255) NOT NULL, "
+                + "days INT NOT NULL, balance DECIMAL(19,2) NOT NULL, last_accrued_period DATE, "
+                + "row_version BIGINT DEFAULT 0 NOT NULL)");
+        jdbc.execute("CREATE TABLE withdrawals (id INT PRIMARY KEY, time_deposit_id INT NOT NULL, "
+                + "amount DECIMAL(19,2) NOT NULL, date DATE NOT NULL)");
+        jdbc.execute("CREATE TABLE interest_postings (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "time_deposit_id INT NOT NULL, period DATE NOT NULL, plan_type VARCHAR(255) NOT NULL, "
+                + "amount DECIMAL(19,2) NOT NULL, UNIQUE (time_deposit_id, period))");
+        jdbc.execute("CREATE TABLE balance_changes (feed_offset BIGINT PRIMARY KEY, time_deposit_id INT NOT NULL, "
+                + "period DATE NOT NULL, old_balance DECIMAL(19,2) NOT NULL, new_balance DECIMAL(19,2) NOT NULL, "
+                + "UNIQUE (time_deposit_id, period))");
+        jdbc.execute("CREATE TABLE balance_change_feed (id INT PRIMARY KEY, last_offset BIGINT NOT NULL)");
+        jdbc.execute("INSERT INTO balance_change_feed VALUES (1, 0)");
+        jdbc.execute("CREATE TABLE time_deposit_versions (id INT PRIMARY KEY, last_version BIGINT NOT NULL)");
+        jdbc.execute("INSERT INTO time_deposit_versions VALUES (1, 0)");
+        jdbc.execute("INSERT INTO time_deposits (id, plan_type, days, balance) VALUES (1, 'basic', 45, 10000.00), "
+                + "(2, 'student', 90, 5000.00), (3, 'premium', 60, 20000.00), (4, 'basic', 25, 3000.00), "
+                + "(5, 'student', 400, 8000.00)");
+        jdbc.execute("INSERT INTO withdrawals VALUES (1, 1, 500.00, '2024-01-15'), (2, 2, 200.00, '2024-01-20')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void fillBatchAfter_shouldReadKeysetPageInCents() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+        DepositBatch batch = new DepositBatch(3);
+
+        adapter.fillBatchAfter(1, null, Collections.emptyList(), PERIOD, batch);
+
+        assertEquals(3, batch.size());
+        assertEquals(2, batch.id(0));
+        assertEquals("student", batch.planType(0));
+        assertEquals(90, batch.days(0));
+        assertEquals(500_000L, batch.balanceCents(0));
+        assertEquals(4, batch.lastId());
+        assertEquals(List.of("student", "premium", "basic"), batch.planTypes());
+        assertEquals(1, count("executeQuery"));
+    }
+
+    @Test
+    void fillPageAfter_shouldReadDepositsWhetherAccruedOrNot() {
+        jdbc.update("UPDATE time_deposits SET last_accrued_period = ? WHERE id <= 3", PERIOD.atDay(1));
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+        DepositBatch batch = new DepositBatch(3);
+
+        adapter.fillPageAfter(1, batch);
+
+        assertEquals(3, batch.size());
+        assertEquals(2, batch.id(0));
+        assertEquals(2_000_000L, batch.balanceCents(1));
+        assertEquals(4, batch.lastId());
+        adapter.fillPageAfter(4, batch);
+        assertEquals(1, batch.size());
+        assertEquals(5, batch.id(0));
+    }
+
+    @Test
+    void fillBatchAfter_shouldRestrictToPlanTypes() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+        DepositBatch batch = new DepositBatch(10);
+
+        adapter.fillBatchAfter(null, null, List.of("student"), PERIOD, batch);
+
+        assertEquals(2, batch.size());
+        assertEquals(2, batch.id(0));
+        assertEquals(5, batch.id(1));
+        assertEquals(List.of("student"), batch.planTypes());
+    }
+
+    @Test
+    void fillBatchAfter_shouldStopAtUpperBound() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+        DepositBatch batch = new DepositBatch(10);
+
+        adapter.fillBatchAfter(1, 3, Collections.emptyList(), PERIOD, batch);
+
+        assertEquals(2, batch.size());
+        assertEquals(2, batch.id(0));
+        assertEquals(3, batch.lastId());
+    }
+
+    @Test
+    void findIdBoundaries_shouldSplitIdRangeIntoEqualWidths() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+
+        assertEquals(List.of(2), adapter.findIdBoundaries(2));
+        assertEquals(List.of(1, 3), adapter.findIdBoundaries(3));
+        assertEquals(List.of(1, 2, 3, 4), adapter.findIdBoundaries(10));
+        assertTrue(adapter.findIdBoundaries(1).isEmpty());
+        jdbc.execute("DELETE FROM time_deposits");
+        assertTrue(adapter.findIdBoundaries(4).isEmpty());
+    }
+
+    @Test
+    void forEach_shouldEmitEachDepositOnceWithItsWithdrawals() {
+        jdbc.execute("INSERT INTO withdrawals VALUES (3, 1, 100.00, '2024-02-15')");
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+        List<TimeDeposit> seen = new ArrayList<>();
+
+        adapter.forEach(seen::add);
+
+        assertEquals(List.of(1, 2, 3, 4, 5), seen.stream().map(TimeDeposit::getId).toList());
+        assertEquals(2, seen.get(0).getWithdrawals().size());
+        assertEquals(LocalDate.of(2024, 2, 15), seen.get(0).getWithdrawals().get(1).getDate());
+        assertEquals(1, seen.get(1).getWithdrawals().size());
+        assertTrue(seen.get(2).getWithdrawals().isEmpty());
+        assertEquals(new BigDecimal("20000.00"), seen.get(2).getBalance());
+        assertEquals(2, count("executeQuery"));
+        assertEquals(5 + 3, count("rows"));
+    }
+
+    @Test
+    void forEach_shouldAttachWithdrawalsPageByPage() {
+        jdbc.batchUpdate("INSERT INTO time_deposits (id, plan_type, days, balance) VALUES (?, 'basic', 45, 100.00)",
+                IntStream.rangeClosed(6, TimeDepositPersistenceAdapter.IN_LIST_SIZE + 1)
+                        .mapToObj(id -> new Object[]{id}).toList());
+        jdbc.execute("INSERT INTO withdrawals VALUES (3, " + (TimeDepositPersistenceAdapter.IN_LIST_SIZE + 1)
+                + ", 10.00, '2024-02-15')");
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+        List<TimeDeposit> seen = new ArrayList<>();
+
+        adapter.forEach(seen::add);
+
+        assertEquals(TimeDepositPersistenceAdapter.IN_LIST_SIZE + 1, seen.size());
+        assertEquals(1, seen.get(1).getWithdrawals().size());
+        assertEquals(new BigDecimal("10.00"), seen.get(TimeDepositPersistenceAdapter.IN_LIST_SIZE)
+                .getWithdrawals().get(0).getAmount());
+        assertEquals(3, count("executeQuery"));
+    }
+
+    @Test
+    void forEachSnapshotRow_shouldAggregateWithdrawalsInCentsInOneQuery() {
+        jdbc.execute("INSERT INTO withdrawals VALUES (3, 1, 100.00, '2024-02-15')");
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+        List<String> rows = new ArrayList<>();
+
+        adapter.forEachSnapshotRow((id, planType, days, balanceCents, withdrawals, withdrawnCents) ->
+                rows.add(id + ":" + planType + ":" + days + ":" + balanceCents + ":" + withdrawals + ":"
+                        + withdrawnCents));
+
+        assertEquals(List.of("1:basic:45:1000000:2:60000", "2:student:90:500000:1:20000",
+                "3:premium:60:2000000:0:0", "4:basic:25:300000:0:0", "5:student:400:800000:0:0"), rows);
+        assertEquals(1, count("executeQuery"));
+    }
+
+    @Test
+    void findAll_shouldReadEachDepositOnceAndWithdrawalsInOneQuery() {
+        jdbc.execute("INSERT INTO withdrawals VALUES (3, 1, 100.00, '2024-02-15')");
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+
+        List<TimeDeposit> timeDeposits = adapter.findAll();
+
+        assertEquals(List.of(1, 2, 3, 4, 5), timeDeposits.stream().map(TimeDeposit::getId).toList());
+        assertEquals(List.of(1, 3), timeDeposits.get(0).getWithdrawals().stream().map(Withdrawal::getId).toList());
+        assertEquals(new BigDecimal("200.00"), timeDeposits.get(1).getWithdrawals().get(0).getAmount());
+        assertTrue(timeDeposits.get(4).getWithdrawals().isEmpty());
+        assertEquals(2, count("executeQuery"));
+        assertEquals(5 + 3, count("rows"));
+    }
+
+    @Test
+    void findPageAfter_shouldLoadWithdrawalsOfThePageOnly() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+
+        List<TimeDeposit> page = adapter.findPageAfter(1, 2);
+
+        assertEquals(List.of(2, 3), page.stream().map(TimeDeposit::getId).toList());
+        assertEquals(1, page.get(0).getWithdrawals().size());
+        assertTrue(page.get(1).getWithdrawals().isEmpty());
+        assertEquals(2, count("executeQuery"));
+        assertEquals(2 + 1, count("rows"));
+    }
+
+    @Test
+    void findPageAfter_shouldSkipWithdrawalQueryForEmptyPage() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+
+        assertTrue(adapter.findPageAfter(5, 2).isEmpty());
+        assertEquals(1, count("executeQuery"));
+    }
+
+    @Test
+    void findAll_shouldSplitWithdrawalLookupIntoBoundedInLists() {
+        jdbc.batchUpdate("INSERT INTO time_deposits (id, plan_type, days, balance) VALUES (?, 'basic', 45, 100.00)",
+                IntStream.rangeClosed(6, TimeDepositPersistenceAdapter.IN_LIST_SIZE + 1)
+                        .mapToObj(id -> new Object[]{id}).toList());
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+
+        List<TimeDeposit> timeDeposits = adapter.findAll();
+
+        assertEquals(TimeDepositPersistenceAdapter.IN_LIST_SIZE + 1, timeDeposits.size());
+        assertEquals(1, timeDeposits.get(1).getWithdrawals().size());
+        assertEquals(3, count("executeQuery"));
+    }
+
+    @Test
+    void findById_shouldReadOneDepositWithItsWithdrawals() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+
+        TimeDeposit timeDeposit = adapter.findById(2).orElseThrow();
+
+        assertEquals("student", timeDeposit.getPlanType());
+        assertEquals(new BigDecimal("200.00"), timeDeposit.getWithdrawals().get(0).getAmount());
+        assertTrue(adapter.findById(42).isEmpty());
+        assertEquals(1 + 1 + 1, count("executeQuery"));
+    }
+
+    @Test
+    void findByIds_shouldReadOnlyRequestedDepositsInIdOrder() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+
+        List<TimeDeposit> timeDeposits = adapter.findByIds(List.of(5, 1, 42, 1));
+
+        assertEquals(List.of(1, 5), timeDeposits.stream().map(TimeDeposit::getId).toList());
+        assertEquals(1, timeDeposits.get(0).getWithdrawals().size());
+        assertEquals(2, count("executeQuery"));
+        assertEquals(2 + 1, count("rows"));
+    }
+
+    @Test
+    void findChangedSince_shouldReadOnlyDepositsWrittenAfterTheVersion() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(500);
+        DepositBatch batch = fullBook();
+        batch.credit(0, 833);
+        batch.credit(4, 1);
+        adapter.saveBalances(batch, PERIOD);
+        DepositBatch next = fullBook();
+        next.credit(1, 1_250);
+        adapter.saveBalances(next, PERIOD.plusMonths(1));
+
+        List<TimeDeposit> changed = adapter.findChangedSince(1);
+
+        assertEquals(2, adapter.currentVersion());
+        assertEquals(List.of(2), changed.stream().map(TimeDeposit::getId).toList());
+        assertEquals(1, changed.get(0).getWithdrawals().size());
+        assertEquals(List.of(1, 2, 5), adapter.findChangedSince(0).stream().map(TimeDeposit::getId).toList());
+        assertEquals(List.of(), adapter.findChangedSince(2));
+    }
+
+    @Test
+    void applyInterestRules_shouldOnlyVersionDepositsCreditedInterest() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(500);
+        Map<String, InterestRule> rules = Map.of("basic", new InterestRule(30, null, new BigDecimal("0.01")));
+
+        adapter.applyInterestRules(rules, PERIOD);
+
+        // Deposit 4 is too young to earn interest but is stamped as accrued
+        assertEquals(LocalDate.of(2024, 3, 1), periodOf(4));
+        assertEquals(List.of(1), adapter.findChangedSince(0).stream().map(TimeDeposit::getId).toList());
+    }
+
+    @Test
+    void fillBatch_shouldLoadOnlyRequestedDepositsStillDue() {
+        jdbc.update("UPDATE time_deposits SET last_accrued_period = ? WHERE id = 3", LocalDate.of(2024, 3, 1));
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+        DepositBatch batch = new DepositBatch(4);
+
+        adapter.fillBatch(List.of(5, 3, 1), PERIOD, batch);
+
+        assertEquals(2, batch.size());
+        assertEquals(1, batch.id(0));
+        assertEquals(5, batch.id(1));
+        assertEquals(1_000_000L, batch.balanceCents(0));
+    }
+
+    @Test
+    void saveBalances_shouldStampOnlyDepositsOfTheBatch() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+        DepositBatch batch = new DepositBatch(4);
+        adapter.fillBatch(List.of(1, 5), PERIOD, batch);
+        batch.credit(0, 833);
+
+        adapter.saveBalances(batch, PERIOD);
+        adapter.saveBalances(batch, PERIOD);
+
+        assertEquals(new BigDecimal("10008.33"), balanceOf(1));
+        assertEquals(LocalDate.of(2024, 3, 1), periodOf(5));
+        assertNull(periodOf(2));
+        assertNull(periodOf(4));
+    }
+
+    @Test
+    void saveBalances_shouldIssueOneRoundTripPerBatch() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+        DepositBatch batch = fullBook();
+        batch.credit(0, 833);
+        batch.credit(1, 1_250);
+        batch.credit(2, 8_333);
+        batch.credit(4, 1);
+        batch.credit(3, -1);
+
+        adapter.saveBalances(batch, PERIOD);
+
+        // Three rounds each of balance updates, postings and changes; the row version and feed offset
+        assertEquals(9, count("executeBatch"));
+        assertEquals(2, count("executeUpdate"));
+        assertEquals(0, count("execute"));
+        assertEquals(new BigDecimal("10008.33"), balanceOf(1));
+        assertEquals(new BigDecimal("5012.50"), balanceOf(2));
+        assertEquals(new BigDecimal("20083.33"), balanceOf(3));
+        assertEquals(new BigDecimal("2999.99"), balanceOf(4));
+        assertEquals(new BigDecimal("8000.01"), balanceOf(5));
+    }
+
+    @Test
+    void saveBalances_shouldSendSingleBatchWhenItFits() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(500);
+        DepositBatch batch = fullBook();
+        batch.credit(0, 833);
+        batch.credit(1, 1_250);
+
+        adapter.saveBalances(batch, PERIOD);
+
+        assertEquals(3, count("executeBatch"));
+    }
+
+    @Test
+    void saveBalances_shouldOnlyStampPeriodWhenNoInterestWasCredited() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(500);
+
+        adapter.saveBalances(fullBook(), PERIOD);
+
+        assertEquals(0, count("executeBatch"));
+        assertEquals(1, count("executeUpdate"));
+        assertEquals(new BigDecimal("3000.00"), balanceOf(4));
+        assertEquals(5, accruedFor(PERIOD));
+    }
+
+    @Test
+    void saveBalances_shouldStampEveryDepositOfTheBatchWithThePeriod() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(500);
+        DepositBatch batch = new DepositBatch(10);
+        adapter.fillBatchAfter(null, null, List.of("basic"), PERIOD, batch);
+        batch.credit(0, 833);
+
+        adapter.saveBalances(batch, PERIOD);
+
+        assertEquals(LocalDate.of(2024, 3, 1), periodOf(1));
+        assertEquals(LocalDate.of(2024, 3, 1), periodOf(4));
+        assertNull(periodOf(2));
+        assertNull(periodOf(3));
+    }
+
+    @Test
+    void saveBalances_shouldLeaveDepositInsertedIntoTheBatchRangeDue() {
+        jdbc.update("DELETE FROM time_deposits WHERE id = 3");
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(500);
+        DepositBatch batch = new DepositBatch(10);
+        adapter.fillBatchAfter(null, null, Collections.emptyList(), PERIOD, batch);
+        jdbc.update("INSERT INTO time_deposits (id, plan_type, days, balance) VALUES (3, 'premium', 60, 20000.00)");
+        batch.credit(0, 833);
+
+        adapter.saveBalances(batch, PERIOD);
+
+        assertNull(periodOf(3));
+        assertEquals(new BigDecimal("20000.00"), balanceOf(3));
+        assertEquals(List.of(1, 2, 4, 5), ids(batch));
+        adapter.fillBatchAfter(null, null, Collections.emptyList(), PERIOD, batch);
+        assertEquals(List.of(3), ids(batch));
+    }
+
+    @Test
+    void saveBalances_shouldNotCreditDepositAlreadyAccruedForThePeriod() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(500);
+        DepositBatch stale = fullBook();
+        stale.credit(0, 833);
+        adapter.saveBalances(stale, PERIOD);
+
+        DepositBatch retried = fullBook();
+        retried.credit(0, 833);
+        adapter.saveBalances(retried, PERIOD);
+
+        assertEquals(new BigDecimal("10008.33"), balanceOf(1));
+        assertEquals(List.of("1 basic 8.33"), postings(PERIOD));
+    }
+
+    @Test
+    void saveBalances_shouldJournalEveryCreditedBalance() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+        DepositBatch batch = fullBook();
+        batch.credit(0, 833);
+        batch.credit(1, 1_250);
+        batch.credit(3, -1);
+
+        adapter.saveBalances(batch, PERIOD);
+
+        assertEquals(List.of("1 basic 8.33", "2 student 12.50", "4 basic -0.01"), postings(PERIOD));
+        assertEquals(List.of(), postings(PERIOD.plusMonths(1)));
+    }
+
+    @Test
+    void saveBalances_shouldAppendChangesWithConsecutiveOffsets() {
+        jdbc.update("UPDATE balance_change_feed SET last_offset = 7");
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+        DepositBatch batch = fullBook();
+        batch.credit(0, 833);
+        batch.credit(1, 1_250);
+        batch.credit(3, -1);
+
+        adapter.saveBalances(batch, PERIOD);
+        adapter.saveBalances(batch, PERIOD);
+
+        assertEquals(List.of("8 1 10000.00 10008.33", "9 2 5000.00 5012.50", "10 4 3000.00 2999.99"), changes());
+        assertEquals(10L, jdbc.queryForObject("SELECT last_offset FROM balance_change_feed", Long.class));
+    }
+
+    @Test
+    void saveBalances_shouldNotTouchTheFeedWhenNothingWasCredited() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(500);
+
+        adapter.saveBalances(fullBook(), PERIOD);
+
+        assertEquals(List.of(), changes());
+        assertEquals(0, count("executeQuery"));
+    }
+
+    @Test
+    void saveBalances_shouldJournalOnlyDepositsStillDue() {
+        jdbc.update("UPDATE time_deposits SET last_accrued_period = ? WHERE id = 2", PERIOD.atDay(1));
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(500);
+        DepositBatch batch = new DepositBatch(4);
+        batch.add(1, "basic", 45, 1_000_000L);
+        batch.add(2, "student", 90, 500_000L);
+        batch.credit(0, 833);
+        batch.credit(1, 1_250);
+
+        adapter.saveBalances(batch, PERIOD);
+
+        assertEquals(List.of("1 basic 8.33"), postings(PERIOD));
+        assertEquals(new BigDecimal("5000.00"), balanceOf(2));
+    }
+
+    @Test
+    void fillBatchAfter_shouldSkipDepositsAlreadyAccruedForThePeriod() {
+        jdbc.update("UPDATE time_deposits SET last_accrued_period = ? WHERE id IN (1, 2)", LocalDate.of(2024, 3, 1));
+        jdbc.update("UPDATE time_deposits SET last_accrued_period = ? WHERE id = 3", LocalDate.of(2024, 2, 1));
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(500);
+        DepositBatch batch = new DepositBatch(10);
+
+        adapter.fillBatchAfter(null, null, Collections.emptyList(), PERIOD, batch);
+
+        assertEquals(3, batch.size());
+        assertEquals(3, batch.id(0));
+        assertEquals(5, batch.lastId());
+        assertEquals(3, adapter.countDueDeposits(Collections.emptyList(), PERIOD));
+        assertEquals(1, adapter.countDueDeposits(List.of("student"), PERIOD));
+    }
+
+    @Test
+    void applyInterestRules_shouldCreditEachDepositOncePerPeriod() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(500);
+        Map<String, InterestRule> rules = Map.of("basic", new InterestRule(30, null, new BigDecimal("0.01")));
+
+        assertEquals(2, adapter.applyInterestRules(rules, PERIOD));
+        assertEquals(0, adapter.applyInterestRules(rules, PERIOD));
+        assertEquals(2, adapter.applyInterestRules(rules, PERIOD.plusMonths(1)));
+
+        assertEquals(new BigDecimal("10016.67"), balanceOf(1));
+        assertEquals(new BigDecimal("3000.00"), balanceOf(4));
+        assertEquals(LocalDate.of(2024, 4, 1), periodOf(4));
+        assertNull(periodOf(2));
+        assertEquals(List.of("1 basic 8.33"), postings(PERIOD));
+        assertEquals(List.of("1 basic 8.34"), postings(PERIOD.plusMonths(1)));
+    }
+
+    @Test
+    void applyInterestRules_shouldOnlyCreditDepositsItJournaled() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(500);
+        Map<String, InterestRule> rules = Map.of("basic", new InterestRule(30, null, new BigDecimal("0.01")),
+                "premium", new InterestRule(45, null, new BigDecimal("0.05")));
+        // Deposit 3 is already journaled for the period but not yet stamped, as by a concurrent run
+        jdbc.update("INSERT INTO interest_postings (time_deposit_id, period, plan_type, amount) "
+                + "VALUES (3, ?, 'premium', 83.33)", PERIOD.atDay(1));
+
+        assertThrows(DuplicateKeyException.class, () -> adapter.applyInterestRules(rules, PERIOD));
+        jdbc.update("DELETE FROM interest_postings");
+
+        assertEquals(3, adapter.applyInterestRules(rules, PERIOD));
+        assertEquals(List.of("1 basic 8.33", "3 premium 83.33"), postings(PERIOD));
+        assertEquals(new BigDecimal("20083.33"), balanceOf(3));
+    }
+
+    @Test
+    void applyInterestRules_shouldAppendAChangeForEveryPosting() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(500);
+        Map<String, InterestRule> rules = Map.of("basic", new InterestRule(30, null, new BigDecimal("0.01")),
+                "premium", new InterestRule(45, null, new BigDecimal("0.05")));
+
+        adapter.applyInterestRules(rules, PERIOD);
+        adapter.applyInterestRules(rules, PERIOD);
+        adapter.applyInterestRules(rules, PERIOD.plusMonths(1));
+
+        assertEquals(List.of("1 1 10000.00 10008.33", "2 3 20000.00 20083.33", "3 1 10008.33 10016.67",
+                "4 3 20083.33 20167.01"), changes());
+        assertEquals(4L, jdbc.queryForObject("SELECT last_offset FROM balance_change_feed", Long.class));
+    }
+
+    @Test
+    void summarizeByPlanType_shouldAggregateEachPlanTypeInOneQuery() {
+        jdbc.execute("INSERT INTO withdrawals VALUES (3, 1, 100.00, '2024-02-15')");
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(500);
+        Map<String, InterestRule> rules = Map.of(
+                "basic", new InterestRule(30, null, new BigDecimal("0.01")),
+                "student", new InterestRule(30, 365, new BigDecimal("0.03")));
+
+        List<PlanSummary> summaries = adapter.summarizeByPlanType(rules);
+
+        assertEquals(List.of("basic", "premium", "student"), summaries.stream().map(PlanSummary::getPlanType).toList());
+        PlanSummary basic = summaries.get(0);
+        assertEquals(2, basic.getDeposits());
+        assertEquals(new BigDecimal("13000.00"), basic.getTotalBalance());
+        assertEquals(2, basic.getWithdrawals());
+        assertEquals(new BigDecimal("600.00"), basic.getTotalWithdrawn());
+        assertEquals(new BigDecimal("8.33"), basic.getProjectedInterest());
+        PlanSummary premium = summaries.get(1);
+        assertEquals(1, premium.getDeposits());
+        assertEquals(0, premium.getWithdrawals());
+        assertEquals(new BigDecimal("0.00"), premium.getTotalWithdrawn());
+        assertNull(premium.getProjectedInterest());
+        assertEquals(new BigDecimal("12.50"), summaries.get(2).getProjectedInterest());
+        assertEquals(1, count("executeQuery"));
+        assertEquals(3, count("rows"));
+    }
+
+    @Test
+    void summarizeByPlanType_shouldLeaveInterestUnprojectedWithoutRules() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(500);
+
+        List<PlanSummary> summaries = adapter.summarizeByPlanType(Map.of());
+
+        assertEquals(3, summaries.size());
+        assertTrue(summaries.stream().allMatch(summary -> summary.getProjectedInterest() == null));
+        assertEquals(new BigDecimal("20000.00"), summaries.get(1).getTotalBalance());
+    }
+
+    @Test
+    void saveBalances_shouldNotTouchWithdrawals() {
+        TimeDepositPersistenceAdapter adapter = adapterWithBatchSize(2);
+        DepositBatch batch = fullBook();
+        batch.credit(0, 833);
+        batch.credit(1, 1_250);
+
+        adapter.saveBalances(batch, PERIOD);
+
+        assertEquals(2, jdbc.queryForObject("SELECT COUNT(*) FROM withdrawals", Integer.class));
+        assertEquals(new BigDecimal("500.00"),
+                jdbc.queryForObject("SELECT amount FROM withdrawals WHERE id = 1", BigDecimal.class));
+    }
+
+    private static DepositBatch fullBook() {
+        DepositBatch batch = new DepositBatch(5);
+        batch.add(1, "basic", 45, 1_000_000L);
+        batch.add(2, "student", 90, 500_000L);
+        batch.add(3, "premium", 60, 2_000_000L);
+        batch.add(4, "basic", 25, 300_000L);
+        batch.add(5, "student", 400, 800_000L);
+        return batch;
+    }
+
+    private TimeDepositPersistenceAdapter adapterWithBatchSize(int batchSize) {
+        return new TimeDepositPersistenceAdapter(
+                new JdbcTemplate((DataSource) counting(DataSource.class, database)),
+                mock(EntityManager.class),
+                batchSize);
+    }
+
+    private static List<Integer> ids(DepositBatch batch) {
+        return IntStream.range(0, batch.size()).mapToObj(batch::id).toList();
+    }
+
+    private BigDecimal balanceOf(int id) {
+        return jdbc.queryForObject("SELECT balance FROM time_deposits WHERE id = ?", BigDecimal.class, id);
+    }
+
+    /** Postings of {@code period} as "id plan amount", in deposit id order. */
+    private List<String> postings(YearMonth period) {
+        return jdbc.queryForList("SELECT CONCAT(time_deposit_id, ' ', plan_type, ' ', amount) FROM interest_postings "
+                + "WHERE period = ? ORDER BY time_deposit_id", String.class, period.atDay(1));
+    }
+
+    /** Balance changes as "offset id old new", in offset order. */
+    private List<String> changes() {
+        return jdbc.queryForList("SELECT CONCAT(feed_offset, ' ', time_deposit_id, ' ', old_balance, ' ', "
+                + "new_balance) FROM balance_changes ORDER BY feed_offset", String.class);
+    }
+
+    private LocalDate periodOf(int id) {
+        return jdbc.queryForObject("SELECT last_accrued_period FROM time_deposits WHERE id = ?", LocalDate.class, id);
+    }
+
+    private int accruedFor(YearMonth period) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM time_deposits WHERE last_accrued_period = ?",
+                Integer.class, period.atDay(1));
+    }
+
+    private int count(String method) {
+        return executions.getOrDefault(method, new AtomicInteger()).get();
+    }
+
+    /**
+     * Wraps JDBC objects so every {@code execute*} call on a statement is counted by method name, and
+     * every row read from a result set under {@code rows}.
+     */
+    private Object counting(Class<?> type, Object target) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().startsWith("execute") && Statement.class.isAssignableFrom(type)) {
+                executions.computeIfAbsent(method.getName(), name -> new AtomicInteger()).incrementAndGet();
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (type == ResultSet.class && method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                executions.computeIfAbsent("rows", name -> new AtomicInteger()).incrementAndGet();
+            }
+            if (result instanceof Connection && method.getReturnType() == Connection.class) {
+                return counting(Connection.class, result);
+            }
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return counting(method.getReturnType(), result);
+            }
+            if (result instanceof ResultSet && method.getReturnType() == ResultSet.class) {
+                return counting(ResultSet.class, result);
+            }
+            return result;
+        });
+    }
+}
@@ -0,0 +1,125 @@
+package org.ikigaidigital.adapter.out.snapshot;
+
+import org.ikigaidigital.domain.model.PortfolioSnapshot;
+import org.ikigaidigital.domain.port.out.PortfolioSnapshotStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedPortfolioSnapshotStoreTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-01T10:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void open_shouldReadBackEveryColumnOfTheCommittedSnapshot() {
+        MappedPortfolioSnapshotStore store = store();
+        long bytes;
+        try (PortfolioSnapshotStore.Writer writer = store.openWriter()) {
+            writer.accept(1, "basic", 45, 1_000_000L, 1, 50_000L);
+            writer.accept(2, "student", 90, 500_000L, 0, 0L);
+            writer.accept(3, "basic", 25, 300_000L, 2, 12_345L);
+            bytes = writer.commit();
+        }
+
+        PortfolioSnapshot snapshot = store.open().orElseThrow();
+
+        assertEquals(MappedPortfolioSnapshot.HEADER_SIZE + 3 * MappedPortfolioSnapshot.RECORD_SIZE
+                + Integer.BYTES + 2 * Short.BYTES + "basic".length() + "student".length(), bytes);
+        assertEquals(bytes, directory.resolve("book.snapshot").toFile().length());
+        assertEquals(3, snapshot.size());
+        assertEquals(NOW, snapshot.createdAt());
+        assertEquals(List.of("basic", "student"), snapshot.planTypes());
+        assertEquals(2, snapshot.id(1));
+        assertEquals(0, snapshot.planCode(2));
+        assertEquals(1, snapshot.planCode(1));
+        assertEquals(25, snapshot.days(2));
+        assertEquals(500_000L, snapshot.balanceCents(1));
+        assertEquals(2, snapshot.withdrawals(2));
+        assertEquals(12_345L, snapshot.withdrawnCents(2));
+    }
+
+    @Test
+    void open_shouldReturnEmptyBeforeFirstSnapshot() {
+        assertTrue(store().open().isEmpty());
+    }
+
+    @Test
+    void commit_shouldWriteAnEmptySnapshot() {
+        MappedPortfolioSnapshotStore store = store();
+        try (PortfolioSnapshotStore.Writer writer = store.openWriter()) {
+            writer.commit();
+        }
+
+        PortfolioSnapshot snapshot = store.open().orElseThrow();
+
+        assertEquals(0, snapshot.size());
+        assertTrue(snapshot.planTypes().isEmpty());
+    }
+
+    @Test
+    void close_shouldDiscardUncommittedSnapshotAndKeepThePreviousOne() throws Exception {
+        MappedPortfolioSnapshotStore store = store();
+        try (PortfolioSnapshotStore.Writer writer = store.openWriter()) {
+            writer.accept(1, "basic", 45, 1_000_000L, 0, 0L);
+            writer.commit();
+        }
+        PortfolioSnapshot previous = store.open().orElseThrow();
+
+        try (PortfolioSnapshotStore.Writer writer = store.openWriter()) {
+            writer.accept(7, "premium", 60, 2_000_000L, 0, 0L);
+        }
+
+        assertEquals(1, store.open().orElseThrow().id(0));
+        try (var files = Files.list(directory)) {
+            assertEquals(List.of(directory.resolve("book.snapshot")), files.toList());
+        }
+        try (PortfolioSnapshotStore.Writer writer = store.openWriter()) {
+            writer.accept(7, "premium", 60, 2_000_000L, 0, 0L);
+            writer.commit();
+        }
+        assertEquals(7, store.open().orElseThrow().id(0));
+        assertEquals(1_000_000L, previous.balanceCents(0));
+    }
+
+    @Test
+    void open_shouldRejectFileThatIsNotASnapshot() throws Exception {
+        Files.write(directory.resolve("book.snapshot"), new byte[64]);
+
+        assertThrows(IllegalArgumentException.class, () -> store().open());
+    }
+
+    @Test
+    void open_shouldRejectTruncatedSnapshot() throws Exception {
+        MappedPortfolioSnapshotStore store = store();
+        try (PortfolioSnapshotStore.Writer writer = store.openWriter()) {
+            writer.accept(1, "basic", 45, 1_000_000L, 0, 0L);
+            writer.accept(2, "basic", 45, 1_000_000L, 0, 0L);
+            writer.commit();
+        }
+        Path file = directory.resolve("book.snapshot");
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, MappedPortfolioSnapshot.HEADER_SIZE
+                + MappedPortfolioSnapshot.RECORD_SIZE));
+
+        assertThrows(IllegalArgumentException.class, store::open);
+    }
+
+    private MappedPortfolioSnapshotStore store() {
+        return new MappedPortfolioSnapshotStore(directory.resolve("book.snapshot"),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,166 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.model.AccrualCancelledException;
+import org.ikigaidigital.domain.model.AccrualJob;
+import org.ikigaidigital.domain.model.AccrualJobStatus;
+import org.ikigaidigital.domain.model.AccrualProgress;
+import org.ikigaidigital.domain.port.in.UpdateBalancesUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccrualJobServiceTest {
+
+    @Mock
+    private UpdateBalancesUseCase updateBalancesUseCase;
+
+    private ExecutorService executor;
+    private AccrualJobService service;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        service = new AccrualJobService(updateBalancesUseCase, executor, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void submitAccrualJob_shouldRunInBackgroundAndTrackProgress() throws Exception {
+        doAnswer(invocation -> {
+            AccrualProgress progress = invocation.getArgument(0);
+            progress.started(10);
+            progress.processed(4);
+            progress.processed(6);
+            return null;
+        }).when(updateBalancesUseCase).updateBalances(any(AccrualProgress.class));
+
+        AccrualJob job = service.submitAccrualJob();
+        awaitIdle();
+
+        assertEquals(AccrualJobStatus.SUCCEEDED, job.getStatus());
+        assertEquals(10, job.getTotal());
+        assertEquals(10, job.getProcessed());
+        assertNotNull(job.getStartedAt());
+        assertNotNull(job.getFinishedAt());
+        assertEquals(job, service.getAccrualJob(job.getId()).orElseThrow());
+    }
+
+    @Test
+    void submitAccrualJob_shouldRecordFailure() throws Exception {
+        doThrow(new IllegalStateException("database unavailable"))
+                .when(updateBalancesUseCase).updateBalances(any(AccrualProgress.class));
+
+        AccrualJob job = service.submitAccrualJob();
+        awaitIdle();
+
+        assertEquals(AccrualJobStatus.FAILED, job.getStatus());
+        assertEquals("database unavailable", job.getError());
+    }
+
+    @Test
+    void cancelAccrualJob_shouldStopRunningJobBeforeNextChunk() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            AccrualProgress progress = invocation.getArgument(0);
+            progress.started(10);
+            progress.processed(2);
+            running.countDown();
+            cancelled.await(5, TimeUnit.SECONDS);
+            if (progress.isCancelRequested()) {
+                throw new AccrualCancelledException("Accrual run cancelled");
+            }
+            progress.processed(8);
+            return null;
+        }).when(updateBalancesUseCase).updateBalances(any(AccrualProgress.class));
+
+        AccrualJob job = service.submitAccrualJob();
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertEquals(AccrualJobStatus.RUNNING, job.getStatus());
+        assertTrue(service.cancelAccrualJob(job.getId()).orElseThrow().isAccepted());
+        cancelled.countDown();
+        awaitIdle();
+
+        assertEquals(AccrualJobStatus.CANCELLED, job.getStatus());
+        assertEquals(2, job.getProcessed());
+        assertFalse(service.cancelAccrualJob(job.getId()).orElseThrow().isAccepted());
+    }
+
+    @Test
+    void cancelAccrualJob_shouldCancelQueuedJobWithoutRunningIt() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+                .when(updateBalancesUseCase).updateBalances(any(AccrualProgress.class));
+
+        AccrualJob first = service.submitAccrualJob();
+        AccrualJob second = service.submitAccrualJob();
+
+        assertTrue(service.cancelAccrualJob(second.getId()).orElseThrow().isAccepted());
+        assertEquals(AccrualJobStatus.CANCELLED, second.getStatus());
+        assertFalse(service.cancelAccrualJob(second.getId()).orElseThrow().isAccepted());
+        release.countDown();
+        awaitIdle();
+        assertEquals(AccrualJobStatus.SUCCEEDED, first.getStatus());
+        assertEquals(AccrualJobStatus.CANCELLED, second.getStatus());
+        verify(updateBalancesUseCase, times(1)).updateBalances(any(AccrualProgress.class));
+    }
+
+    @Test
+    void cancelAccrualJob_shouldNotCancelFinishedJob() throws Exception {
+        AccrualJob job = service.submitAccrualJob();
+        awaitIdle();
+
+        assertFalse(service.cancelAccrualJob(job.getId()).orElseThrow().isAccepted());
+
+        assertEquals(AccrualJobStatus.SUCCEEDED, job.getStatus());
+        assertFalse(job.isCancelRequested());
+    }
+
+    @Test
+    void getAccrualJob_shouldReturnEmptyForUnknownJob() {
+        assertTrue(service.getAccrualJob("missing").isEmpty());
+        assertTrue(service.cancelAccrualJob("missing").isEmpty());
+    }
+
+    @Test
+    void submitAccrualJob_shouldEvictOldestFinishedJobsBeyondRetention() throws Exception {
+        AccrualJob first = service.submitAccrualJob();
+        awaitIdle();
+        AccrualJob second = service.submitAccrualJob();
+        awaitIdle();
+        AccrualJob third = service.submitAccrualJob();
+        awaitIdle();
+
+        assertTrue(service.getAccrualJob(first.getId()).isEmpty());
+        assertTrue(service.getAccrualJob(second.getId()).isPresent());
+        assertTrue(service.getAccrualJob(third.getId()).isPresent());
+    }
+
+    /** Waits until every task submitted so far has run. */
+    private void awaitIdle() throws Exception {
+        executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+    }
+}
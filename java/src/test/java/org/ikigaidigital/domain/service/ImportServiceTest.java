@@ -0,0 +1,105 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.model.BalancesChangedEvent;
+import org.ikigaidigital.domain.model.ImportResult;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.Withdrawal;
+import org.ikigaidigital.domain.port.in.TimeDepositSource;
+import org.ikigaidigital.domain.port.out.TimeDepositRepository;
+import org.ikigaidigital.domain.service.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.ikigaidigital.domain.service.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.StudentInterestStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportServiceTest {
+
+    @Mock
+    private TimeDepositRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final List<Integer> insertedChunks = new ArrayList<>();
+
+    private ImportService service;
+
+    @BeforeEach
+    void setUp() {
+        InterestStrategyFactory strategyFactory = new InterestStrategyFactory(List.of(
+                new BasicInterestStrategy(),
+                new StudentInterestStrategy(),
+                new PremiumInterestStrategy()
+        ));
+        service = new ImportService(repository, strategyFactory, transactionManager, eventPublisher, 2);
+    }
+
+    @Test
+    void importTimeDeposits_shouldInsertInChunksWhilePulling() {
+        recordInsertedChunks();
+        List<TimeDeposit> input = IntStream.range(0, 5)
+                .mapToObj(i -> new TimeDeposit(null, "basic", 45, new BigDecimal("100.00")))
+                .toList();
+        input.get(0).getWithdrawals().add(new Withdrawal(null, null, new BigDecimal("10.00"), LocalDate.of(2024, 1, 1)));
+
+        ImportResult result = service.importTimeDeposits(TimeDepositSource.of(input.iterator()));
+
+        assertEquals(List.of(2, 2, 1), insertedChunks);
+        assertEquals(5, result.getDeposits());
+        assertEquals(1, result.getWithdrawals());
+        assertEquals(6, result.getRows());
+        verify(transactionManager, times(3)).commit(any());
+        verify(eventPublisher, times(3)).publishEvent(any(BalancesChangedEvent.class));
+    }
+
+    @Test
+    void importTimeDeposits_shouldKeepEarlierChunksAndReportThemOnInvalidDeposit() {
+        recordInsertedChunks();
+        List<TimeDeposit> input = List.of(
+                new TimeDeposit(null, "basic", 45, new BigDecimal("100.00")),
+                new TimeDeposit(null, "student", 90, new BigDecimal("200.00")),
+                new TimeDeposit(null, "gold", 10, new BigDecimal("300.00")));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> service.importTimeDeposits(TimeDepositSource.of(input.iterator())));
+
+        assertTrue(e.getMessage().contains("Invalid deposit at record 3: Unknown plan type: gold"), e.getMessage());
+        assertTrue(e.getMessage().contains("2 deposits imported"), e.getMessage());
+        assertEquals(List.of(2), insertedChunks);
+    }
+
+    @Test
+    void importTimeDeposits_shouldRejectAmountsFinerThanCents() {
+        List<TimeDeposit> input = List.of(new TimeDeposit(null, "basic", 45, new BigDecimal("100.001")));
+
+        assertThrows(IllegalArgumentException.class, () -> service.importTimeDeposits(TimeDepositSource.of(input.iterator())));
+        verifyNoInteractions(repository);
+    }
+
+    private void recordInsertedChunks() {
+        doAnswer(invocation -> insertedChunks.add(invocation.<List<TimeDeposit>>getArgument(0).size()))
+                .when(repository).insertAll(any());
+    }
+}
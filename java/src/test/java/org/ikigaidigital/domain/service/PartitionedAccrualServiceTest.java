@@ -0,0 +1,172 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.domain.model.AccrualCancelledException;
+import org.ikigaidigital.domain.model.AccrualPartition;
+import org.ikigaidigital.domain.model.AccrualProgress;
+import org.ikigaidigital.domain.model.PartitionedAccrualResult;
+import org.ikigaidigital.domain.port.in.UpdateBalancesUseCase;
+import org.ikigaidigital.domain.port.out.AccrualLeaseRepository;
+import org.ikigaidigital.domain.port.out.TimeDepositRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionedAccrualServiceTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 3);
+    private static final Instant NOW = Instant.parse("2024-03-01T10:00:00Z");
+    private static final Duration LEASE_TTL = Duration.ofMinutes(10);
+    private static final String OWNER = "instance-a";
+
+    @Mock
+    private TimeDepositRepository timeDepositRepository;
+
+    @Mock
+    private AccrualLeaseRepository leaseRepository;
+
+    @Mock
+    private UpdateBalancesUseCase updateBalancesUseCase;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Clock clock;
+
+    private PartitionedAccrualService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenReturn(NOW);
+        service = new PartitionedAccrualService(timeDepositRepository, leaseRepository, updateBalancesUseCase,
+                transactionManager, clock, OWNER, 4, LEASE_TTL);
+    }
+
+    @Test
+    void accruePartitions_shouldCreatePartitionsAndAccrueEveryFreeOne() {
+        AccrualPartition first = new AccrualPartition(PERIOD, 0, null, 250);
+        AccrualPartition second = new AccrualPartition(PERIOD, 1, 250, null);
+        when(timeDepositRepository.findIdBoundaries(4)).thenReturn(List.of(250));
+        when(leaseRepository.claim(PERIOD, OWNER, NOW, NOW.plus(LEASE_TTL)))
+                .thenReturn(Optional.of(first))
+                .thenReturn(Optional.of(second))
+                .thenReturn(Optional.empty());
+        when(leaseRepository.complete(any(), eq(OWNER), eq(NOW))).thenReturn(true);
+
+        PartitionedAccrualResult result = service.accruePartitions(PERIOD);
+
+        verify(leaseRepository).createPartitions(PERIOD, List.of(250));
+        verify(updateBalancesUseCase).updateBalances(eq(first), any(AccrualProgress.class));
+        verify(updateBalancesUseCase).updateBalances(eq(second), any(AccrualProgress.class));
+        verify(leaseRepository).complete(first, OWNER, NOW);
+        verify(leaseRepository).complete(second, OWNER, NOW);
+        assertEquals(PERIOD, result.getPeriod());
+        assertEquals(2, result.getAccruedPartitions());
+        assertEquals(0, result.getOpenPartitions());
+    }
+
+    @Test
+    void accruePartitions_shouldJoinPartitionsCreatedByAnotherInstance() {
+        when(timeDepositRepository.findIdBoundaries(4)).thenReturn(List.of(250));
+        doAnswer(invocation -> {
+            throw new DuplicateKeyException("uk_accrual_partitions");
+        }).when(leaseRepository).createPartitions(PERIOD, List.of(250));
+        when(leaseRepository.claim(any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(leaseRepository.countOpenPartitions(PERIOD)).thenReturn(2);
+
+        PartitionedAccrualResult result = service.accruePartitions(PERIOD);
+
+        assertEquals(0, result.getAccruedPartitions());
+        assertEquals(2, result.getOpenPartitions());
+        verify(updateBalancesUseCase, never()).updateBalances(any(AccrualPartition.class), any());
+    }
+
+    @Test
+    void accruePartitions_shouldNotCreatePartitionsTwice() {
+        when(leaseRepository.hasPartitions(PERIOD)).thenReturn(true);
+        when(leaseRepository.claim(any(), any(), any(), any())).thenReturn(Optional.empty());
+
+        service.accruePartitions(PERIOD);
+
+        verify(leaseRepository, never()).createPartitions(any(), anyList());
+        verify(timeDepositRepository, never()).findIdBoundaries(4);
+    }
+
+    @Test
+    void accruePartitions_shouldRenewLeaseOnceHalfOfItHasElapsed() {
+        AccrualPartition partition = new AccrualPartition(PERIOD, 0, null, null);
+        when(leaseRepository.claim(any(), any(), any(), any()))
+                .thenReturn(Optional.of(partition))
+                .thenReturn(Optional.empty());
+        when(leaseRepository.renew(any(), any(), any())).thenReturn(true);
+        when(leaseRepository.complete(any(), any(), any())).thenReturn(true);
+        Instant late = NOW.plus(Duration.ofMinutes(6));
+        doAnswer(invocation -> {
+            AccrualProgress progress = invocation.getArgument(1);
+            when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(4)));
+            progress.processed(1000);
+            verify(leaseRepository, never()).renew(any(), any(), any());
+            when(clock.instant()).thenReturn(late);
+            progress.processed(1000);
+            return null;
+        }).when(updateBalancesUseCase).updateBalances(eq(partition), any(AccrualProgress.class));
+
+        assertEquals(1, service.accruePartitions(PERIOD).getAccruedPartitions());
+
+        verify(leaseRepository).renew(partition, OWNER, late.plus(LEASE_TTL));
+    }
+
+    @Test
+    void accruePartitions_shouldAbandonPartitionWhoseLeaseWasTakenOver() {
+        AccrualPartition partition = new AccrualPartition(PERIOD, 0, null, null);
+        when(leaseRepository.claim(any(), any(), any(), any()))
+                .thenReturn(Optional.of(partition))
+                .thenReturn(Optional.empty());
+        when(leaseRepository.renew(any(), any(), any())).thenReturn(false);
+        when(leaseRepository.countOpenPartitions(PERIOD)).thenReturn(1);
+        doAnswer(invocation -> {
+            AccrualProgress progress = invocation.getArgument(1);
+            when(clock.instant()).thenReturn(NOW.plus(LEASE_TTL));
+            progress.processed(1000);
+            if (progress.isCancelRequested()) {
+                throw new AccrualCancelledException("Accrual run cancelled");
+            }
+            return null;
+        }).when(updateBalancesUseCase).updateBalances(eq(partition), any(AccrualProgress.class));
+
+        PartitionedAccrualResult result = service.accruePartitions(PERIOD);
+
+        assertEquals(0, result.getAccruedPartitions());
+        assertEquals(1, result.getOpenPartitions());
+        verify(leaseRepository, never()).complete(any(), any(), any());
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositivePartitionCount() {
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedAccrualService(timeDepositRepository,
+                leaseRepository, updateBalancesUseCase, transactionManager, clock, OWNER, 0, LEASE_TTL));
+    }
+}
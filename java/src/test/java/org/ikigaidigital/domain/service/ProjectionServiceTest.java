@@ -0,0 +1,106 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.BalanceProjection;
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.port.out.TimeDepositRepository;
+import org.ikigaidigital.domain.service.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.ikigaidigital.domain.service.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.StudentInterestStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectionServiceTest {
+
+    @Mock
+    private TimeDepositRepository repository;
+
+    private final InterestStrategyFactory strategyFactory = new InterestStrategyFactory(List.of(
+            new BasicInterestStrategy(),
+            new StudentInterestStrategy(),
+            new PremiumInterestStrategy()
+    ));
+
+    private final TimeDepositCalculator calculator = new TimeDepositCalculator(strategyFactory);
+
+    private ProjectionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProjectionService(repository, calculator, strategyFactory, 2);
+    }
+
+    @Test
+    void projectPortfolio_shouldSumEveryChunkWithoutWriting() {
+        doAnswer(invocation -> {
+            DepositBatch batch = invocation.getArgument(1);
+            batch.clear();
+            batch.add(1, "basic", 45, 1_000_000L);
+            batch.add(2, "premium", 10, 2_000_000L);
+            return null;
+        }).when(repository).fillPageAfter(isNull(), any());
+        doAnswer(invocation -> {
+            DepositBatch batch = invocation.getArgument(1);
+            batch.clear();
+            batch.add(3, "student", 320, 500_000L);
+            return null;
+        }).when(repository).fillPageAfter(eq(2), any());
+
+        BalanceProjection projection = service.projectPortfolio(2);
+
+        assertNull(projection.getId());
+        assertEquals(3, projection.getDeposits());
+        assertEquals(new BigDecimal("35000.00"), projection.getBalance());
+        // Basic and student earn from the first month at today's age, premium not until it passes 45 days.
+        assertEquals(new BigDecimal("35020.83"), projection.getMonths().get(0).getBalance());
+        assertEquals(new BigDecimal("20.83"), projection.getMonths().get(0).getInterest());
+        assertEquals(new BigDecimal("35041.70"), projection.getMonths().get(1).getBalance());
+        assertEquals(2, projection.getMonths().get(1).getMonth());
+        verify(repository, times(2)).fillPageAfter(any(), any());
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void projectTimeDeposits_shouldProjectEachDepositFound() {
+        when(repository.findByIds(List.of(2, 9))).thenReturn(List.of(
+                new TimeDeposit(2, "basic", 45, new BigDecimal("10000.00"))));
+
+        List<BalanceProjection> projections = service.projectTimeDeposits(List.of(2, 9), 1);
+
+        assertEquals(1, projections.size());
+        assertEquals(2, projections.get(0).getId());
+        assertEquals("basic", projections.get(0).getPlanType());
+        assertEquals(new BigDecimal("10008.33"), projections.get(0).getMonths().get(0).getBalance());
+    }
+
+    @Test
+    void projectTimeDeposits_shouldSkipLookupForEmptyIds() {
+        assertTrue(service.projectTimeDeposits(List.of(), 12).isEmpty());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldRejectMonthsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> service.projectPortfolio(0));
+        assertThrows(IllegalArgumentException.class, () -> service.projectPortfolio(121));
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,138 @@
+package org.ikigaidigital.domain.service;
+
+import org.ikigaidigital.TimeDepositCalculator;
+import org.ikigaidigital.adapter.out.snapshot.MappedPortfolioSnapshotStore;
+import org.ikigaidigital.domain.model.BalanceProjection;
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.PlanSummary;
+import org.ikigaidigital.domain.model.SnapshotExport;
+import org.ikigaidigital.domain.port.out.SnapshotRowConsumer;
+import org.ikigaidigital.domain.port.out.TimeDepositRepository;
+import org.ikigaidigital.domain.service.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.ikigaidigital.domain.service.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.StudentInterestStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotServiceTest {
+
+    @Mock
+    private TimeDepositRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path directory;
+
+    private final InterestStrategyFactory strategyFactory = new InterestStrategyFactory(List.of(
+            new BasicInterestStrategy(),
+            new StudentInterestStrategy(),
+            new PremiumInterestStrategy()
+    ));
+    private final TimeDepositCalculator calculator = new TimeDepositCalculator(strategyFactory);
+
+    private SnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SnapshotService(repository, new MappedPortfolioSnapshotStore(directory.resolve("book.snapshot")),
+                calculator, strategyFactory, transactionManager);
+    }
+
+    @Test
+    void exportSnapshot_shouldWriteEveryRowInOneReadOnlyTransaction() {
+        stubBook();
+
+        SnapshotExport export = service.exportSnapshot();
+
+        assertEquals(3, export.getDeposits());
+        assertEquals(directory.resolve("book.snapshot").toFile().length(), export.getBytes());
+    }
+
+    @Test
+    void projectSnapshot_shouldMatchTheProjectionOfTheSameDepositsInMemory() {
+        stubBook();
+        service.exportSnapshot();
+        DepositBatch batch = new DepositBatch(3);
+        batch.add(1, "basic", 45, 1_000_000L);
+        batch.add(2, "premium", 10, 2_000_000L);
+        batch.add(3, "student", 320, 500_000L);
+
+        BalanceProjection projection = service.projectSnapshot(24).orElseThrow();
+
+        assertEquals(3, projection.getDeposits());
+        assertEquals(new BigDecimal("35000.00"), projection.getBalance());
+        assertEquals(new BigDecimal("35041.70"), projection.getMonths().get(1).getBalance());
+        long[] expected = calculator.projectTotals(batch, 24);
+        for (int month = 0; month < 24; month++) {
+            assertEquals(BigDecimal.valueOf(expected[month], 2), projection.getMonths().get(month).getBalance());
+        }
+    }
+
+    @Test
+    void summarizeSnapshot_shouldAggregatePerPlanTypeInPlanTypeOrder() {
+        stubBook();
+        service.exportSnapshot();
+
+        List<PlanSummary> summaries = service.summarizeSnapshot().orElseThrow();
+
+        assertEquals(List.of("basic", "premium", "student"), summaries.stream().map(PlanSummary::getPlanType).toList());
+        PlanSummary basic = summaries.get(0);
+        assertEquals(1, basic.getDeposits());
+        assertEquals(new BigDecimal("10000.00"), basic.getTotalBalance());
+        assertEquals(2, basic.getWithdrawals());
+        assertEquals(new BigDecimal("600.00"), basic.getTotalWithdrawn());
+        assertEquals(new BigDecimal("8.33"), basic.getProjectedInterest());
+        assertEquals(new BigDecimal("0.00"), summaries.get(1).getProjectedInterest());
+        assertEquals(new BigDecimal("12.50"), summaries.get(2).getProjectedInterest());
+    }
+
+    @Test
+    void analytics_shouldReturnEmptyWithoutSnapshotAndNeverTouchTheDatabase() {
+        assertTrue(service.projectSnapshot(12).isEmpty());
+        assertTrue(service.summarizeSnapshot().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> service.projectSnapshot(0));
+        verifyNoInteractions(repository, transactionManager);
+    }
+
+    @Test
+    void exportSnapshot_shouldKeepPreviousSnapshotWhenReadingFails() {
+        stubBook();
+        service.exportSnapshot();
+        doThrow(new IllegalStateException("connection lost")).when(repository).forEachSnapshotRow(any());
+
+        assertThrows(IllegalStateException.class, service::exportSnapshot);
+
+        assertEquals(3, service.projectSnapshot(1).orElseThrow().getDeposits());
+    }
+
+    private void stubBook() {
+        doAnswer(invocation -> {
+            SnapshotRowConsumer consumer = invocation.getArgument(0);
+            consumer.accept(1, "basic", 45, 1_000_000L, 2, 60_000L);
+            consumer.accept(2, "premium", 10, 2_000_000L, 0, 0L);
+            consumer.accept(3, "student", 320, 500_000L, 0, 0L);
+            return null;
+        }).when(repository).forEachSnapshotRow(any());
+    }
+}
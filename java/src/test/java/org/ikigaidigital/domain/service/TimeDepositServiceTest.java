@@ -1,23 +1,47 @@
 package org.ikigaidigital.domain.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.ikigaidigital.TimeDepositCalculator;
+import org.ikigaidigital.adapter.out.metrics.MicrometerAccrualMetrics;
+import org.ikigaidigital.domain.model.AccrualCancelledException;
+import org.ikigaidigital.domain.model.AccrualMode;
+import org.ikigaidigital.domain.model.AccrualProgress;
+import org.ikigaidigital.domain.model.BalancesChangedEvent;
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.PlanSummary;
 import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.TimeDepositChanges;
+import org.ikigaidigital.domain.model.TimeDepositPage;
 import org.ikigaidigital.domain.model.Withdrawal;
 import org.ikigaidigital.domain.port.out.TimeDepositRepository;
+import org.ikigaidigital.domain.service.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.InterestStrategy;
+import org.ikigaidigital.domain.service.strategy.InterestStrategyFactory;
+import org.ikigaidigital.domain.service.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.service.strategy.StudentInterestStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -30,11 +54,27 @@ class TimeDepositServiceTest {
     @Mock
     private TimeDepositCalculator calculator;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final InterestStrategyFactory strategyFactory = new InterestStrategyFactory(List.of(
+            new BasicInterestStrategy(),
+            new StudentInterestStrategy(),
+            new PremiumInterestStrategy()
+    ));
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MicrometerAccrualMetrics metrics = new MicrometerAccrualMetrics(meterRegistry);
+
     private TimeDepositService service;
 
     @BeforeEach
     void setUp() {
-        service = new TimeDepositService(repository, calculator);
+        service = new TimeDepositService(
+                repository, calculator, strategyFactory, transactionManager, metrics, eventPublisher, 2, AccrualMode.JAVA);
     }
 
     @Test
@@ -53,6 +93,73 @@ class TimeDepositServiceTest {
         verify(repository, times(1)).findAll();
     }
 
+    @Test
+    void getTimeDepositPage_shouldReturnCursorWhenMoreDepositsFollow() {
+        when(repository.findPageAfter(2, 3)).thenReturn(List.of(
+                new TimeDeposit(3, "basic", 45, BigDecimal.valueOf(10000.0)),
+                new TimeDeposit(4, "basic", 25, BigDecimal.valueOf(3000.0)),
+                new TimeDeposit(5, "student", 400, BigDecimal.valueOf(8000.0))
+        ));
+
+        TimeDepositPage page = service.getTimeDepositPage(2, 2);
+
+        assertEquals(2, page.getTimeDeposits().size());
+        assertEquals(4, page.getNextCursor());
+    }
+
+    @Test
+    void getTimeDepositPage_shouldOmitCursorOnLastPage() {
+        when(repository.findPageAfter(null, 3)).thenReturn(List.of(
+                new TimeDeposit(1, "basic", 45, BigDecimal.valueOf(10000.0)),
+                new TimeDeposit(2, "student", 90, BigDecimal.valueOf(5000.0))
+        ));
+
+        TimeDepositPage page = service.getTimeDepositPage(null, 2);
+
+        assertEquals(2, page.getTimeDeposits().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getTimeDepositPage_shouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> service.getTimeDepositPage(null, 0));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getTimeDepositsChangedSince_shouldReadTheTokenBeforeTheChangedDeposits() {
+        List<TimeDeposit> changed = List.of(new TimeDeposit(3, "premium", 60, BigDecimal.valueOf(20083.33)));
+        when(repository.currentVersion()).thenReturn(7L);
+        when(repository.findChangedSince(4)).thenReturn(changed);
+
+        TimeDepositChanges changes = service.getTimeDepositsChangedSince(4);
+
+        assertEquals(changed, changes.getTimeDeposits());
+        assertEquals(7, changes.getChangeToken());
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).currentVersion();
+        inOrder.verify(repository).findChangedSince(4);
+    }
+
+    @Test
+    void getTimeDepositsChangedSince_shouldRejectNegativeOrFutureTokens() {
+        when(repository.currentVersion()).thenReturn(7L);
+
+        assertThrows(IllegalArgumentException.class, () -> service.getTimeDepositsChangedSince(-1));
+        assertThrows(IllegalArgumentException.class, () -> service.getTimeDepositsChangedSince(8));
+        verify(repository, never()).findChangedSince(anyLong());
+    }
+
+    @Test
+    void getPortfolioSummary_shouldProjectWithTheDeclarativeRules() {
+        List<PlanSummary> expected = List.of(new PlanSummary(
+                "basic", 2, new BigDecimal("13000.00"), 1, new BigDecimal("500.00"), new BigDecimal("8.33")));
+        when(repository.summarizeByPlanType(strategyFactory.getInterestRules())).thenReturn(expected);
+
+        assertEquals(expected, service.getPortfolioSummary());
+        verify(repository, never()).findAll();
+    }
+
     @Test
     void getAllTimeDeposits_shouldReturnEmptyListWhenNoDeposits() {
         when(repository.findAll()).thenReturn(Collections.emptyList());
@@ -79,39 +186,277 @@ class TimeDepositServiceTest {
 
     @Test
     void updateBalances_shouldFetchCalculateAndSave() {
-        List<TimeDeposit> deposits = new ArrayList<>();
-        deposits.add(new TimeDeposit(1, "basic", 45, BigDecimal.valueOf(10000.0)));
-        when(repository.findAll()).thenReturn(deposits);
+        stubBatches(new Object[]{1, "basic", 45, 1_000_000L});
 
         service.updateBalances();
 
-        verify(repository, times(1)).findAll();
-        verify(calculator, times(1)).updateBalance(deposits);
-        verify(repository, times(1)).saveAll(deposits);
+        verify(repository, times(1)).fillBatchAfter(isNull(), isNull(), eq(Set.of()), any(), any(DepositBatch.class));
+        verify(calculator, times(1)).updateBalance(any(DepositBatch.class));
+        verify(repository, times(1)).saveBalances(any(DepositBatch.class), any());
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    void updateBalances_shouldReadAndStampOnlyDepositsDueForThePeriod() {
+        YearMonth period = YearMonth.of(2024, 3);
+        stubBatches(new Object[]{1, "basic", 45, 1_000_000L});
+
+        service.updateBalances(period, AccrualProgress.NONE);
+
+        verify(repository, times(1))
+                .fillBatchAfter(isNull(), isNull(), eq(Set.of()), eq(period), any(DepositBatch.class));
+        verify(repository, times(1)).saveBalances(any(DepositBatch.class), eq(period));
+    }
+
+    @Test
+    void updateBalances_withIds_shouldAccrueSelectedDepositsChunkByChunk() {
+        doAnswer(invocation -> {
+            DepositBatch batch = invocation.getArgument(2);
+            batch.clear();
+            for (Integer id : invocation.<List<Integer>>getArgument(0)) {
+                batch.add(id, "basic", 45, 1_000_000L);
+            }
+            return null;
+        }).when(repository).fillBatch(any(), any(), any(DepositBatch.class));
+
+        service.updateBalances(Set.of(9, 3, 7));
+
+        verify(repository).fillBatch(eq(List.of(3, 7)), any(), any(DepositBatch.class));
+        verify(repository).fillBatch(eq(List.of(9)), any(), any(DepositBatch.class));
+        verify(calculator, times(2)).updateBalance(any(DepositBatch.class));
+        verify(repository, times(2)).saveBalances(any(DepositBatch.class), any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void getTimeDeposits_shouldNotQueryForEmptyIdList() {
+        assertTrue(service.getTimeDeposits(List.of()).isEmpty());
+        verifyNoInteractions(repository);
     }
 
     @Test
     void updateBalances_shouldCallInCorrectOrder() {
-        List<TimeDeposit> deposits = new ArrayList<>();
-        deposits.add(new TimeDeposit(1, "basic", 45, BigDecimal.valueOf(10000.0)));
-        when(repository.findAll()).thenReturn(deposits);
+        stubBatches(new Object[]{1, "basic", 45, 1_000_000L});
+
+        service.updateBalances();
+
+        InOrder inOrder = inOrder(repository, calculator, transactionManager);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(repository).fillBatchAfter(isNull(), isNull(), any(), any(), any(DepositBatch.class));
+        inOrder.verify(calculator).updateBalance(any(DepositBatch.class));
+        inOrder.verify(repository).saveBalances(any(DepositBatch.class), any());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void updateBalances_shouldProcessEachChunkInItsOwnTransaction() {
+        List<Integer> cursors = stubBatches(
+                new Object[]{1, "basic", 45, 1_000_000L}, new Object[]{2, "student", 90, 500_000L},
+                new Object[]{3, "premium", 60, 2_000_000L}, new Object[]{5, "student", 400, 800_000L},
+                new Object[]{6, "premium", 120, 1_500_000L});
 
         service.updateBalances();
 
-        InOrder inOrder = inOrder(repository, calculator);
-        inOrder.verify(repository).findAll();
-        inOrder.verify(calculator).updateBalance(deposits);
-        inOrder.verify(repository).saveAll(deposits);
+        assertEquals(Arrays.asList(null, 2, 5), cursors);
+        InOrder inOrder = inOrder(repository, calculator, transactionManager);
+        for (int chunk = 0; chunk < 3; chunk++) {
+            inOrder.verify(transactionManager).getTransaction(any());
+            inOrder.verify(calculator).updateBalance(any(DepositBatch.class));
+            inOrder.verify(repository).saveBalances(any(DepositBatch.class), any());
+            inOrder.verify(transactionManager).commit(any());
+        }
     }
 
     @Test
-    void updateBalances_withEmptyList_shouldStillCallCalculatorAndSave() {
-        List<TimeDeposit> empty = new ArrayList<>();
-        when(repository.findAll()).thenReturn(empty);
+    void updateBalances_shouldPublishBalancesChangedBeforeEachChunkCommits() {
+        stubBatches(new Object[]{1, "basic", 45, 1_000_000L}, new Object[]{2, "student", 90, 500_000L},
+                new Object[]{3, "premium", 60, 2_000_000L});
 
         service.updateBalances();
 
-        verify(calculator, times(1)).updateBalance(empty);
-        verify(repository, times(1)).saveAll(empty);
+        ArgumentCaptor<BalancesChangedEvent> events = ArgumentCaptor.forClass(BalancesChangedEvent.class);
+        InOrder inOrder = inOrder(eventPublisher, transactionManager);
+        for (int chunk = 0; chunk < 2; chunk++) {
+            inOrder.verify(eventPublisher).publishEvent(events.capture());
+            inOrder.verify(transactionManager).commit(any());
+        }
+        assertEquals(List.of(2, 1), events.getAllValues().stream().map(BalancesChangedEvent::getDeposits).toList());
+    }
+
+    @Test
+    void updateBalances_shouldStopAfterEmptyBatch() {
+        List<Integer> cursors = stubBatches(
+                new Object[]{1, "basic", 45, 1_000_000L}, new Object[]{2, "student", 90, 500_000L});
+
+        service.updateBalances();
+
+        assertEquals(Arrays.asList(null, 2), cursors);
+        verify(calculator, times(1)).updateBalance(any(DepositBatch.class));
+        verify(repository, times(1)).saveBalances(any(DepositBatch.class), any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void updateBalances_withEmptyBook_shouldNotCallCalculatorOrSave() {
+        stubBatches();
+
+        service.updateBalances();
+
+        verify(calculator, never()).updateBalance(any(DepositBatch.class));
+        verify(repository, never()).saveBalances(any(DepositBatch.class), any());
+    }
+
+    @Test
+    void updateBalances_shouldRecordPhasesDepositsAndInterestPerPlan() {
+        stubBatches(new Object[]{1, "basic", 45, 1_000_000L}, new Object[]{2, "student", 90, 500_000L},
+                new Object[]{3, "basic", 60, 2_000_000L});
+        doAnswer(invocation -> {
+            DepositBatch batch = invocation.getArgument(0);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.credit(i, 125);
+            }
+            return null;
+        }).when(calculator).updateBalance(any(DepositBatch.class));
+
+        service.updateBalances();
+
+        assertEquals(1, meterRegistry.get("time_deposit.accrual.run").tag("mode", "java").timer().count());
+        assertEquals(2, meterRegistry.get("time_deposit.accrual.phase").tag("phase", "calculate").timer().count());
+        assertEquals(2, meterRegistry.get("time_deposit.accrual.phase").tag("phase", "load").timer().count());
+        assertEquals(3.0, meterRegistry.get("time_deposit.accrual.deposits").tag("mode", "java").counter().count());
+        assertEquals(2.5, meterRegistry.get("time_deposit.accrual.interest").tag("plan", "basic").counter().count(), 1e-9);
+        assertEquals(1.25, meterRegistry.get("time_deposit.accrual.interest").tag("plan", "student").counter().count(), 1e-9);
+        assertEquals(2, meterRegistry.get("time_deposit.accrual.batch.interest").tag("plan", "basic").summary().count());
+        assertNull(meterRegistry.find("time_deposit.accrual.interest").tag("plan", "premium").counter());
+    }
+
+    @Test
+    void updateBalances_withProgress_shouldReportTotalAndEachCommittedChunk() {
+        stubBatches(new Object[]{1, "basic", 45, 1_000_000L}, new Object[]{2, "student", 90, 500_000L},
+                new Object[]{3, "premium", 60, 2_000_000L}, new Object[]{5, "student", 400, 800_000L},
+                new Object[]{6, "premium", 120, 1_500_000L});
+        when(repository.countDueDeposits(eq(Set.of()), any())).thenReturn(5L);
+        List<Long> reported = new ArrayList<>();
+        AccrualProgress progress = new AccrualProgress() {
+            @Override
+            public void started(long total) {
+                reported.add(-total);
+            }
+
+            @Override
+            public void processed(long deposits) {
+                reported.add(deposits);
+            }
+        };
+
+        service.updateBalances(progress);
+
+        assertEquals(List.of(-5L, 2L, 2L, 1L), reported);
+    }
+
+    @Test
+    void updateBalances_withProgress_shouldStopBeforeNextChunkOnceCancelled() {
+        stubBatches(new Object[]{1, "basic", 45, 1_000_000L}, new Object[]{2, "student", 90, 500_000L},
+                new Object[]{3, "premium", 60, 2_000_000L});
+        long[] processed = new long[1];
+        AccrualProgress progress = new AccrualProgress() {
+            @Override
+            public void started(long total) {
+            }
+
+            @Override
+            public void processed(long deposits) {
+                processed[0] += deposits;
+            }
+
+            @Override
+            public boolean isCancelRequested() {
+                return processed[0] > 0;
+            }
+        };
+
+        assertThrows(AccrualCancelledException.class, () -> service.updateBalances(progress));
+
+        assertEquals(2, processed[0]);
+        verify(repository, times(1)).saveBalances(any(DepositBatch.class), any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void updateBalances_withoutProgress_shouldNotCountDeposits() {
+        stubBatches(new Object[]{1, "basic", 45, 1_000_000L});
+
+        service.updateBalances();
+
+        verify(repository, never()).countDueDeposits(any(), any());
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveChunkSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimeDepositService(repository, calculator, strategyFactory, transactionManager, metrics,
+                        eventPublisher, 0, AccrualMode.JAVA));
+    }
+
+    @Test
+    void updateBalances_inSqlMode_shouldNotLoadDepositsWhenAllRulesAreDeclarative() {
+        TimeDepositService sqlService = new TimeDepositService(
+                repository, calculator, strategyFactory, transactionManager, metrics, eventPublisher, 2, AccrualMode.SQL);
+
+        sqlService.updateBalances();
+
+        verify(repository, times(1)).applyInterestRules(eq(strategyFactory.getInterestRules()), any());
+        verify(repository, never()).fillBatchAfter(any(), any(), any(), any(), any());
+        verifyNoInteractions(calculator);
+    }
+
+    @Test
+    void updateBalances_inSqlMode_shouldFallBackToJavaForPlansWithoutRule() {
+        InterestStrategy loyalty = new InterestStrategy() {
+            @Override
+            public BigDecimal calculateInterest(TimeDeposit deposit) {
+                return BigDecimal.ONE;
+            }
+
+            @Override
+            public String getPlanType() {
+                return "loyalty";
+            }
+        };
+        InterestStrategyFactory mixedFactory = new InterestStrategyFactory(List.of(new BasicInterestStrategy(), loyalty));
+        TimeDepositService sqlService = new TimeDepositService(
+                repository, calculator, mixedFactory, transactionManager, metrics, eventPublisher, 2, AccrualMode.SQL);
+        stubBatches(new Object[]{2, "loyalty", 45, 1_000_000L});
+
+        sqlService.updateBalances();
+
+        verify(repository, times(1)).applyInterestRules(eq(mixedFactory.getInterestRules()), any());
+        verify(repository, times(1))
+                .fillBatchAfter(isNull(), isNull(), eq(Set.of("loyalty")), any(), any(DepositBatch.class));
+        verify(calculator, times(1)).updateBalance(any(DepositBatch.class));
+        verify(repository, times(1)).saveBalances(any(DepositBatch.class), any());
+    }
+
+    /**
+     * Serves the given {@code {id, planType, days, balanceCents}} rows through
+     * {@link TimeDepositRepository#fillBatchAfter} as a keyset-paginated book and records the cursors requested.
+     */
+    private List<Integer> stubBatches(Object[]... rows) {
+        List<Integer> cursors = new ArrayList<>();
+        doAnswer(invocation -> {
+            Integer afterId = invocation.getArgument(0);
+            Integer upToId = invocation.getArgument(1);
+            DepositBatch batch = invocation.getArgument(4);
+            cursors.add(afterId);
+            batch.clear();
+            for (Object[] row : rows) {
+                int id = (Integer) row[0];
+                if ((afterId == null || id > afterId) && (upToId == null || id <= upToId) && !batch.isFull()) {
+                    batch.add((Integer) row[0], (String) row[1], (Integer) row[2], (Long) row[3]);
+                }
+            }
+            return null;
+        }).when(repository).fillBatchAfter(any(), any(), any(), any(), any(DepositBatch.class));
+        return cursors;
     }
 }
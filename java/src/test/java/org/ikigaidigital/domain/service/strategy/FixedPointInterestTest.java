@@ -0,0 +1,107 @@
+package org.ikigaidigital.domain.service.strategy;
+
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FixedPointInterestTest {
+
+    private static final List<InterestStrategy> STRATEGIES = List.of(
+            new BasicInterestStrategy(),
+            new StudentInterestStrategy(),
+            new PremiumInterestStrategy()
+    );
+    private static final int[] EDGE_DAYS = {0, 30, 31, 45, 46, 365, 366};
+
+    @Test
+    void builtInStrategiesShouldSupportFixedPoint() {
+        STRATEGIES.forEach(strategy -> assertTrue(strategy.supportsFixedPoint(), strategy.getPlanType()));
+    }
+
+    @Test
+    void shouldMatchBigDecimalForEveryBalanceUpToOneThousand() {
+        for (InterestStrategy strategy : STRATEGIES) {
+            for (int days : EDGE_DAYS) {
+                for (long cents = 0; cents <= 100_000; cents++) {
+                    assertEquivalent(strategy, cents, days);
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldMatchBigDecimalForRandomBalances() {
+        Random random = new Random(2024);
+        for (int i = 0; i < 200_000; i++) {
+            InterestStrategy strategy = STRATEGIES.get(random.nextInt(STRATEGIES.size()));
+            long cents = random.nextLong() >>> (8 + random.nextInt(48));
+            assertEquivalent(strategy, cents, random.nextInt(500));
+        }
+    }
+
+    @Test
+    void shouldRoundNegativeBalancesAwayFromZeroLikeBigDecimal() {
+        for (long cents = -100_000; cents < 0; cents++) {
+            assertEquivalent(new PremiumInterestStrategy(), cents, 60);
+        }
+    }
+
+    @Test
+    void ruleShouldMatchBigDecimalForUnusualRates() {
+        for (String rate : List.of("0.0125", "0.047", "0.123456", "1", "12.5")) {
+            InterestRule rule = new InterestRule(0, null, new BigDecimal(rate));
+            assertTrue(rule.isFixedPointExact(), rate);
+            for (long cents = 0; cents <= 20_000; cents++) {
+                BigDecimal expected = rule.monthlyInterest(BigDecimal.valueOf(cents, 2)).setScale(2, RoundingMode.HALF_UP);
+                assertEquals(expected.unscaledValue().longValueExact(), rule.monthlyInterestCents(cents), rate + " @ " + cents);
+            }
+        }
+    }
+
+    @Test
+    void ruleShouldRejectRatesTooFineForExactFixedPoint() {
+        InterestRule rule = new InterestRule(0, null, new BigDecimal("0.0000001"));
+        assertFalse(rule.isFixedPointExact());
+        assertThrows(UnsupportedOperationException.class, () -> rule.monthlyInterestCents(100));
+    }
+
+    @Test
+    void shouldFailInsteadOfOverflowing() {
+        assertThrows(ArithmeticException.class,
+                () -> new PremiumInterestStrategy().calculateInterestCents(Long.MAX_VALUE / 2, 60));
+    }
+
+    @Test
+    void defaultImplementationShouldFallBackToBigDecimal() {
+        InterestStrategy plain = new InterestStrategy() {
+            @Override
+            public BigDecimal calculateInterest(TimeDeposit deposit) {
+                return deposit.getBalance().multiply(new BigDecimal("0.005"));
+            }
+
+            @Override
+            public String getPlanType() {
+                return "plain";
+            }
+        };
+        assertFalse(plain.supportsFixedPoint());
+        assertEquals(5, plain.calculateInterestCents(1_000, 30));
+        assertEquals(1, plain.calculateInterestCents(100, 30));
+    }
+
+    private static void assertEquivalent(InterestStrategy strategy, long cents, int days) {
+        TimeDeposit deposit = new TimeDeposit(1, strategy.getPlanType(), days, BigDecimal.valueOf(cents, 2));
+        BigDecimal expected = strategy.calculateInterest(deposit).setScale(2, RoundingMode.HALF_UP);
+        assertEquals(expected.unscaledValue().longValueExact(), strategy.calculateInterestCents(cents, days),
+                () -> strategy.getPlanType() + " balance=" + deposit.getBalance() + " days=" + days);
+    }
+}
@@ -1,12 +1,19 @@
 package org.ikigaidigital.domain.service.strategy;
 
+import org.ikigaidigital.domain.model.PlanCodes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InterestStrategyFactoryTest {
 
@@ -43,4 +50,113 @@ class InterestStrategyFactoryTest {
     void shouldThrowForUnknownPlanType() {
         assertThrows(IllegalArgumentException.class, () -> factory.getStrategy("unknown"));
     }
+
+    @Test
+    void reload_shouldReplaceStrategyOfPlanTypeDefinedInTable() {
+        factory.reload(List.of(new InterestPlan("basic", List.of(new InterestRule(0, null, new BigDecimal("0.12"))))));
+
+        InterestStrategy strategy = factory.getStrategy("basic");
+
+        assertInstanceOf(TieredInterestStrategy.class, strategy);
+        assertEquals(10_000L, strategy.calculateInterestCents(1_000_000L, 10));
+        assertInstanceOf(StudentInterestStrategy.class, factory.getStrategy("student"));
+    }
+
+    @Test
+    void reload_shouldAddPlanTypeWithoutStrategyBean() {
+        InterestPlan gold = new InterestPlan("gold", List.of(
+                new InterestRule(0, 90, new BigDecimal("0.02")),
+                new InterestRule(90, null, new BigDecimal("0.06"))));
+
+        factory.reload(List.of(gold));
+
+        assertEquals(Set.of("basic", "student", "premium", "gold"), factory.getPlanTypes());
+        assertEquals(List.of(gold), factory.getPlans());
+        assertEquals(5_000L, factory.getStrategy("gold").calculateInterestCents(1_000_000L, 120));
+    }
+
+    @Test
+    void reload_shouldRevertToStrategyBeanWhenPlanIsRemovedFromTable() {
+        factory.reload(List.of(new InterestPlan("basic", List.of(new InterestRule(0, null, new BigDecimal("0.12"))))));
+
+        factory.reload(List.of());
+
+        assertInstanceOf(BasicInterestStrategy.class, factory.getStrategy("basic"));
+        assertTrue(factory.getPlans().isEmpty());
+    }
+
+    @Test
+    void reload_shouldKeepCurrentTableWhenPlanTypeIsDuplicated() {
+        InterestPlan gold = new InterestPlan("gold", List.of(new InterestRule(0, null, new BigDecimal("0.02"))));
+        factory.reload(List.of(gold));
+
+        assertThrows(IllegalArgumentException.class, () -> factory.reload(List.of(gold, gold)));
+
+        assertEquals(List.of(gold), factory.getPlans());
+    }
+
+    @Test
+    void getStrategies_shouldResolveEachPlanTypeByIndex() {
+        InterestStrategy[] strategies = factory.getStrategies(List.of("premium", "basic"));
+
+        assertInstanceOf(PremiumInterestStrategy.class, strategies[0]);
+        assertInstanceOf(BasicInterestStrategy.class, strategies[1]);
+    }
+
+    @Test
+    void strategy_shouldResolvePlanTypeByCode() {
+        assertSame(factory.getStrategy("student"), factory.strategy(factory.codeOf("student")));
+    }
+
+    @Test
+    void strategy_shouldThrowForCodeWithoutStrategy() {
+        int code = factory.codeOf("gold");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> factory.strategy(code));
+
+        assertEquals("No interest strategy found for plan type: gold", e.getMessage());
+    }
+
+    @Test
+    void reload_shouldKeepCodeOfEveryPlanType() {
+        int basic = factory.codeOf("basic");
+        int gold = factory.codeOf("gold");
+        InterestPlan goldPlan = new InterestPlan("gold", List.of(new InterestRule(0, null, new BigDecimal("0.02"))));
+
+        factory.reload(List.of(goldPlan));
+
+        assertEquals(basic, factory.codeOf("basic"));
+        assertEquals(gold, factory.codeOf("gold"));
+        assertInstanceOf(TieredInterestStrategy.class, factory.strategy(gold));
+        factory.reload(List.of());
+        assertThrows(IllegalArgumentException.class, () -> factory.strategy(gold));
+    }
+
+    @Test
+    void getStrategies_shouldIndexOwnPlanCodesByCode() {
+        int gold = factory.codeOf("gold");
+
+        InterestStrategy[] strategies = factory.getStrategies(factory.getPlanCodes());
+
+        assertInstanceOf(PremiumInterestStrategy.class, strategies[factory.codeOf("premium")]);
+        assertNull(strategies[gold]);
+    }
+
+    @Test
+    void getStrategies_shouldTranslateOtherPlanCodesByPlanType() {
+        InterestStrategy[] strategies = factory.getStrategies(PlanCodes.of(List.of("premium", "basic")));
+
+        assertInstanceOf(PremiumInterestStrategy.class, strategies[0]);
+        assertInstanceOf(BasicInterestStrategy.class, strategies[1]);
+        assertThrows(IllegalArgumentException.class, () -> factory.getStrategies(PlanCodes.of(List.of("gold"))));
+    }
+
+    @Test
+    void getInterestRules_shouldOmitPlansWithSeveralTiers() {
+        factory.reload(List.of(new InterestPlan("student", List.of(
+                new InterestRule(30, 180, new BigDecimal("0.03")),
+                new InterestRule(180, 365, new BigDecimal("0.04"))))));
+
+        assertEquals(Set.of("basic", "premium"), factory.getInterestRules().keySet());
+    }
 }
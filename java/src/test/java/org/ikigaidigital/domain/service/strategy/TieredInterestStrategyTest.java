@@ -0,0 +1,76 @@
+package org.ikigaidigital.domain.service.strategy;
+
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TieredInterestStrategyTest {
+
+    private final InterestPlan student = new InterestPlan("student", List.of(
+            new InterestRule(180, 365, new BigDecimal("0.04")),
+            new InterestRule(30, 180, new BigDecimal("0.03"))));
+
+    @Test
+    void shouldApplyRateOfTierContainingDepositAge() {
+        TieredInterestStrategy strategy = new TieredInterestStrategy(student);
+
+        assertEquals(0L, strategy.calculateInterestCents(1_200_000L, 30));
+        assertEquals(3_000L, strategy.calculateInterestCents(1_200_000L, 31));
+        assertEquals(3_000L, strategy.calculateInterestCents(1_200_000L, 180));
+        assertEquals(4_000L, strategy.calculateInterestCents(1_200_000L, 181));
+        assertEquals(0L, strategy.calculateInterestCents(1_200_000L, 366));
+    }
+
+    @Test
+    void shouldMatchBigDecimalCalculationInCents() {
+        TieredInterestStrategy strategy = new TieredInterestStrategy(student);
+
+        for (int days : new int[]{10, 45, 200, 400}) {
+            BigDecimal expected = strategy
+                    .calculateInterest(new TimeDeposit(1, "student", days, new BigDecimal("7777.77")))
+                    .setScale(2, RoundingMode.HALF_UP);
+            assertEquals(expected.unscaledValue().longValueExact(), strategy.calculateInterestCents(777_777L, days));
+        }
+    }
+
+    @Test
+    void shouldExposeRuleOnlyForSingleTierPlan() {
+        InterestRule rule = new InterestRule(45, null, new BigDecimal("0.05"));
+
+        assertEquals(rule,
+                new TieredInterestStrategy(new InterestPlan("premium", List.of(rule))).getInterestRule().orElseThrow());
+        assertFalse(new TieredInterestStrategy(student).getInterestRule().isPresent());
+        assertTrue(new TieredInterestStrategy(student).supportsFixedPoint());
+    }
+
+    @Test
+    void shouldKeepTiersInAscendingOrder() {
+        assertEquals(30, student.getTiers().get(0).getAfterDays());
+        assertEquals(180, student.getTiers().get(1).getAfterDays());
+    }
+
+    @Test
+    void shouldRejectOverlappingTiers() {
+        assertThrows(IllegalArgumentException.class, () -> new InterestPlan("student", List.of(
+                new InterestRule(30, 200, new BigDecimal("0.03")),
+                new InterestRule(180, 365, new BigDecimal("0.04")))));
+        assertThrows(IllegalArgumentException.class, () -> new InterestPlan("basic", List.of(
+                new InterestRule(30, null, new BigDecimal("0.01")),
+                new InterestRule(90, null, new BigDecimal("0.02")))));
+    }
+
+    @Test
+    void shouldRejectPlanWithoutTiersOrType() {
+        assertThrows(IllegalArgumentException.class, () -> new InterestPlan("basic", List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new InterestPlan(" ", List.of(new InterestRule(0, null, BigDecimal.ONE))));
+    }
+}